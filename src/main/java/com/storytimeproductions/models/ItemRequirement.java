@@ -0,0 +1,42 @@
+package com.storytimeproductions.models;
+
+import org.bukkit.Material;
+
+/**
+ * An item a player must have in their inventory to complete a quest, compiled from a requirement
+ * string such as "minecraft:diamond:5" when the quest is loaded.
+ */
+public class ItemRequirement {
+
+  private final Material material;
+  private final int amount;
+
+  /**
+   * Constructs a new item requirement.
+   *
+   * @param material the material the player must have
+   * @param amount how many of the material the player must have
+   */
+  public ItemRequirement(Material material, int amount) {
+    this.material = material;
+    this.amount = amount;
+  }
+
+  /**
+   * Gets the material the player must have.
+   *
+   * @return the required material
+   */
+  public Material getMaterial() {
+    return material;
+  }
+
+  /**
+   * Gets how many of the material the player must have.
+   *
+   * @return the required amount
+   */
+  public int getAmount() {
+    return amount;
+  }
+}
@@ -1,7 +1,7 @@
 package com.storytimeproductions.models;
 
 import java.util.List;
-import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 
@@ -121,7 +121,7 @@ public class Pet {
    * @param player The player to send the message to and play the sound for.
    */
   public void sendRandomPetMessage(Player player) {
-    Random random = new Random();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
     // Send a random quote message, if available
     if (!quotes.isEmpty()) {
       String message = quotes.get(random.nextInt(quotes.size()));
@@ -19,6 +19,8 @@ public class Quest {
   private final String lore;
   private final List<String> itemRequirements;
   private final List<String> statRequirements;
+  private final List<ItemRequirement> compiledItemRequirements;
+  private final List<StatRequirement> compiledStatRequirements;
   private final List<String> rewards;
   private final List<UUID> requiredPlayers; // Empty if quest is for everyone
   private final LocalDateTime deadline; // Null if no deadline
@@ -33,6 +35,9 @@ public class Quest {
    * @param name the display name of the quest
    * @param lore the lore or description of the quest
    * @param requirements a list of item requirements formatted as "ITEM:AMOUNT"
+   * @param statRequirements a list of stat requirements formatted as "STAT:KEY:AMOUNT"
+   * @param compiledItemRequirements the item requirements, compiled
+   * @param compiledStatRequirements the stat requirements, compiled
    * @param rewards a list of rewards formatted as "TYPE:AMOUNT"
    * @param requiredPlayers a list of player UUIDs required to complete this quest
    * @param deadline an optional deadline for the quest
@@ -44,6 +49,8 @@ public class Quest {
       String lore,
       List<String> requirements,
       List<String> statRequirements,
+      List<ItemRequirement> compiledItemRequirements,
+      List<StatRequirement> compiledStatRequirements,
       List<String> rewards,
       List<UUID> requiredPlayers,
       LocalDateTime deadline,
@@ -53,6 +60,8 @@ public class Quest {
     this.lore = lore;
     this.itemRequirements = requirements;
     this.statRequirements = statRequirements;
+    this.compiledItemRequirements = compiledItemRequirements;
+    this.compiledStatRequirements = compiledStatRequirements;
     this.rewards = rewards;
     this.requiredPlayers = requiredPlayers;
     this.deadline = deadline;
@@ -113,6 +122,24 @@ public class Quest {
     return statRequirements;
   }
 
+  /**
+   * Gets the item requirements, compiled when the quest was loaded.
+   *
+   * @return a list of item requirements, one per material
+   */
+  public List<ItemRequirement> getCompiledItemRequirements() {
+    return compiledItemRequirements;
+  }
+
+  /**
+   * Gets the stat requirements, compiled when the quest was loaded.
+   *
+   * @return a list of stat requirements
+   */
+  public List<StatRequirement> getCompiledStatRequirements() {
+    return compiledStatRequirements;
+  }
+
   /**
    * Gets the list of rewards for completing the quest.
    *
@@ -0,0 +1,88 @@
+package com.storytimeproductions.models;
+
+import org.bukkit.Material;
+import org.bukkit.Statistic;
+import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Player;
+
+/**
+ * A statistic a player must have reached to complete a quest, compiled from a requirement string
+ * such as "mine_block:stone:100" when the quest is loaded. Block and item statistics are qualified
+ * by a material and entity statistics by an entity type.
+ */
+public class StatRequirement {
+
+  private final Statistic statistic;
+  private final Material material;
+  private final EntityType entityType;
+  private final int amount;
+
+  /**
+   * Constructs a new stat requirement.
+   *
+   * @param statistic the statistic to check
+   * @param material the material qualifying a block or item statistic, or null
+   * @param entityType the entity type qualifying an entity statistic, or null
+   * @param amount the value the statistic must have reached
+   */
+  public StatRequirement(
+      Statistic statistic, Material material, EntityType entityType, int amount) {
+    this.statistic = statistic;
+    this.material = material;
+    this.entityType = entityType;
+    this.amount = amount;
+  }
+
+  /**
+   * Gets the statistic to check.
+   *
+   * @return the statistic
+   */
+  public Statistic getStatistic() {
+    return statistic;
+  }
+
+  /**
+   * Gets the entity type qualifying an entity statistic.
+   *
+   * @return the entity type, or null if the statistic is not an entity statistic
+   */
+  public EntityType getEntityType() {
+    return entityType;
+  }
+
+  /**
+   * Gets the value the statistic must have reached.
+   *
+   * @return the required amount
+   */
+  public int getAmount() {
+    return amount;
+  }
+
+  /**
+   * Gets the player's current value of the statistic.
+   *
+   * @param player the player to check
+   * @return the current value
+   */
+  public int getCurrent(Player player) {
+    if (material != null) {
+      return player.getStatistic(statistic, material);
+    }
+    if (entityType != null) {
+      return player.getStatistic(statistic, entityType);
+    }
+    return player.getStatistic(statistic);
+  }
+
+  /**
+   * Checks whether the player's statistic has reached the required value.
+   *
+   * @param player the player to check
+   * @return true if the requirement is met, false otherwise
+   */
+  public boolean isMetBy(Player player) {
+    return getCurrent(player) >= amount;
+  }
+}
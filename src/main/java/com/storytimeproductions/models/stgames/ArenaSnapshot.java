@@ -0,0 +1,218 @@
+package com.storytimeproductions.models.stgames;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.ChunkSnapshot;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * An immutable copy of every block state in a {@link Cuboid}.
+ *
+ * <p>Block states are stored once in a palette and each block refers to its state by a 16-bit
+ * index, so capturing an arena costs two bytes per block. Two snapshots of the same region can be
+ * compared to get only the blocks that differ, which is how an arena is reset without rewriting
+ * blocks that were never touched.
+ */
+public final class ArenaSnapshot {
+  private static final int MAX_PALETTE_SIZE = 1 << 16;
+
+  private final Cuboid region;
+  private final BlockData[] palette;
+  private final char[] states;
+  private final int width;
+  private final int depth;
+
+  private ArenaSnapshot(Cuboid region, BlockData[] palette, char[] states) {
+    this.region = region;
+    this.palette = palette;
+    this.states = states;
+    this.width = region.x2 - region.x1 + 1;
+    this.depth = region.z2 - region.z1 + 1;
+  }
+
+  /**
+   * Captures the current block states of a region. The region is read from one chunk snapshot per
+   * chunk rather than block by block. Must be called from the main thread.
+   *
+   * @param region The region to capture.
+   * @return The captured snapshot.
+   */
+  public static ArenaSnapshot capture(Cuboid region) {
+    World world = region.world;
+    int width = region.x2 - region.x1 + 1;
+    int depth = region.z2 - region.z1 + 1;
+    char[] states = new char[width * depth * (region.y2 - region.y1 + 1)];
+    List<BlockData> palette = new ArrayList<>();
+    Map<BlockData, Integer> paletteIndex = new HashMap<>();
+
+    for (int cx = region.x1 >> 4; cx <= region.x2 >> 4; cx++) {
+      for (int cz = region.z1 >> 4; cz <= region.z2 >> 4; cz++) {
+        ChunkSnapshot chunk = world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false);
+        int minX = Math.max(region.x1, cx << 4);
+        int maxX = Math.min(region.x2, (cx << 4) + 15);
+        int minZ = Math.max(region.z1, cz << 4);
+        int maxZ = Math.min(region.z2, (cz << 4) + 15);
+        for (int y = region.y1; y <= region.y2; y++) {
+          for (int z = minZ; z <= maxZ; z++) {
+            int row = ((y - region.y1) * depth + (z - region.z1)) * width - region.x1;
+            for (int x = minX; x <= maxX; x++) {
+              BlockData data = chunk.getBlockData(x & 15, y, z & 15);
+              Integer index = paletteIndex.get(data);
+              if (index == null) {
+                if (palette.size() == MAX_PALETTE_SIZE) {
+                  throw new IllegalStateException("Too many block states in arena " + region);
+                }
+                index = palette.size();
+                palette.add(data);
+                paletteIndex.put(data, index);
+              }
+              states[row + x] = (char) index.intValue();
+            }
+          }
+        }
+      }
+    }
+    return new ArenaSnapshot(region, palette.toArray(new BlockData[0]), states);
+  }
+
+  /**
+   * Gets the captured region.
+   *
+   * @return The region.
+   */
+  public Cuboid getRegion() {
+    return region;
+  }
+
+  /**
+   * Gets the number of distinct block states in the region.
+   *
+   * @return The palette size.
+   */
+  public int getPaletteSize() {
+    return palette.length;
+  }
+
+  /**
+   * Gets the captured state of a block in the region.
+   *
+   * @param x The block x-coordinate.
+   * @param y The block y-coordinate.
+   * @param z The block z-coordinate.
+   * @return A copy of the captured block state.
+   */
+  public BlockData getBlockData(int x, int y, int z) {
+    return palette[states[indexOf(x, y, z)]].clone();
+  }
+
+  /**
+   * Gets the captured material of a block in the region.
+   *
+   * @param x The block x-coordinate.
+   * @param y The block y-coordinate.
+   * @param z The block z-coordinate.
+   * @return The captured material.
+   */
+  public Material getMaterial(int x, int y, int z) {
+    return palette[states[indexOf(x, y, z)]].getMaterial();
+  }
+
+  /**
+   * Computes the changes that turn this snapshot into another snapshot of the same region.
+   *
+   * @param target The snapshot to change to.
+   * @return The changes for only the blocks that differ.
+   * @throws IllegalArgumentException If the snapshots are of different regions.
+   */
+  public BlockChangeSet diff(ArenaSnapshot target) {
+    if (!sameRegion(target.region)) {
+      throw new IllegalArgumentException("Cannot diff snapshots of different regions");
+    }
+
+    // Map each of our palette entries to the equal entry in the target palette, if any
+    int[] remap = new int[palette.length];
+    Map<BlockData, Integer> targetIndex = new HashMap<>();
+    for (int i = 0; i < target.palette.length; i++) {
+      targetIndex.put(target.palette[i], i);
+    }
+    for (int i = 0; i < palette.length; i++) {
+      remap[i] = targetIndex.getOrDefault(palette[i], -1);
+    }
+
+    BlockChangeSet changes = new BlockChangeSet(region.world);
+    int i = 0;
+    for (int y = region.y1; y <= region.y2; y++) {
+      for (int z = region.z1; z <= region.z2; z++) {
+        for (int x = region.x1; x <= region.x2; x++, i++) {
+          if (remap[states[i]] != target.states[i]) {
+            changes.set(x, y, z, target.palette[target.states[i]]);
+          }
+        }
+      }
+    }
+    return changes;
+  }
+
+  /**
+   * Computes the changes that set every block in the region to one material.
+   *
+   * @param material The material to fill the region with.
+   * @return The changes for only the blocks that are not already that material.
+   */
+  public BlockChangeSet fill(Material material) {
+    BlockChangeSet changes = new BlockChangeSet(region.world);
+    boolean[] matches = new boolean[palette.length];
+    for (int i = 0; i < palette.length; i++) {
+      matches[i] = palette[i].getMaterial() == material;
+    }
+
+    int i = 0;
+    for (int y = region.y1; y <= region.y2; y++) {
+      for (int z = region.z1; z <= region.z2; z++) {
+        for (int x = region.x1; x <= region.x2; x++, i++) {
+          if (!matches[states[i]]) {
+            changes.set(x, y, z, material);
+          }
+        }
+      }
+    }
+    return changes;
+  }
+
+  /**
+   * Computes the changes that put the region back to the state in this snapshot, by capturing the
+   * region as it is now and comparing the two. Must be called from the main thread.
+   *
+   * @return The changes for only the blocks that were altered since the capture.
+   */
+  public BlockChangeSet restore() {
+    return capture(region).diff(this);
+  }
+
+  private boolean sameRegion(Cuboid other) {
+    return other.world.equals(region.world)
+        && other.x1 == region.x1
+        && other.y1 == region.y1
+        && other.z1 == region.z1
+        && other.x2 == region.x2
+        && other.y2 == region.y2
+        && other.z2 == region.z2;
+  }
+
+  private int indexOf(int x, int y, int z) {
+    if (x < region.x1
+        || x > region.x2
+        || y < region.y1
+        || y > region.y2
+        || z < region.z1
+        || z > region.z2) {
+      throw new IndexOutOfBoundsException(
+          "Block " + x + "," + y + "," + z + " is outside arena " + region);
+    }
+    return ((y - region.y1) * depth + (z - region.z1)) * width + (x - region.x1);
+  }
+}
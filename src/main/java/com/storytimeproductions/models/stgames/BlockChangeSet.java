@@ -0,0 +1,180 @@
+package com.storytimeproductions.models.stgames;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.data.BlockData;
+
+/**
+ * An ordered batch of block changes in a single world.
+ *
+ * <p>Each change is stored as a packed block position and an index into a palette of block states,
+ * so a batch that sets thousands of blocks to a handful of states stays a few primitive arrays
+ * rather than thousands of {@link org.bukkit.Location} objects. Changes are applied in the order
+ * they were added, and a batch can be applied a slice at a time so a large change can be spread
+ * over several ticks.
+ */
+public class BlockChangeSet {
+  private final World world;
+  private final List<BlockData> palette = new ArrayList<>();
+  private final Map<BlockData, Integer> paletteIndex = new HashMap<>();
+  private final Map<Material, BlockData> materialData = new EnumMap<>(Material.class);
+  private long[] positions = new long[64];
+  private int[] states = new int[64];
+  private int size = 0;
+  private int minX = Integer.MAX_VALUE;
+  private int minY = Integer.MAX_VALUE;
+  private int minZ = Integer.MAX_VALUE;
+  private int maxX = Integer.MIN_VALUE;
+  private int maxY = Integer.MIN_VALUE;
+  private int maxZ = Integer.MIN_VALUE;
+
+  /**
+   * Constructs an empty change set.
+   *
+   * @param world The world the changes apply to.
+   */
+  public BlockChangeSet(World world) {
+    this.world = world;
+  }
+
+  /**
+   * Gets the world the changes apply to.
+   *
+   * @return The world.
+   */
+  public World getWorld() {
+    return world;
+  }
+
+  /**
+   * Gets the number of changes in this set.
+   *
+   * @return The number of changes.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Checks if this set has no changes.
+   *
+   * @return true if there are no changes, false otherwise.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Checks if the bounding boxes of this set and another set touch any common block. Sets that do
+   * not overlap can be applied in either order with the same result.
+   *
+   * @param other The other change set.
+   * @return true if both sets are in the same world and their bounding boxes intersect.
+   */
+  public boolean overlaps(BlockChangeSet other) {
+    return size > 0
+        && other.size > 0
+        && world == other.world
+        && minX <= other.maxX
+        && other.minX <= maxX
+        && minY <= other.maxY
+        && other.minY <= maxY
+        && minZ <= other.maxZ
+        && other.minZ <= maxZ;
+  }
+
+  /**
+   * Adds a change that sets a block to the given state.
+   *
+   * @param x The block x-coordinate.
+   * @param y The block y-coordinate.
+   * @param z The block z-coordinate.
+   * @param data The block state to set.
+   */
+  public void set(int x, int y, int z, BlockData data) {
+    Integer index = paletteIndex.get(data);
+    if (index == null) {
+      BlockData copy = data.clone();
+      index = palette.size();
+      palette.add(copy);
+      paletteIndex.put(copy, index);
+    }
+    if (size == positions.length) {
+      positions = Arrays.copyOf(positions, size * 2);
+      states = Arrays.copyOf(states, size * 2);
+    }
+    positions[size] = BlockKey.pack(x, y, z);
+    states[size] = index;
+    size++;
+    minX = Math.min(minX, x);
+    minY = Math.min(minY, y);
+    minZ = Math.min(minZ, z);
+    maxX = Math.max(maxX, x);
+    maxY = Math.max(maxY, y);
+    maxZ = Math.max(maxZ, z);
+  }
+
+  /**
+   * Adds a change that sets a block to the default state of the given material.
+   *
+   * @param x The block x-coordinate.
+   * @param y The block y-coordinate.
+   * @param z The block z-coordinate.
+   * @param material The material to set.
+   */
+  public void set(int x, int y, int z, Material material) {
+    set(x, y, z, materialData.computeIfAbsent(material, Material::createBlockData));
+  }
+
+  /**
+   * Adds changes that set every block in a cuboid to the given material.
+   *
+   * @param region The region to fill.
+   * @param material The material to fill it with.
+   */
+  public void fill(Cuboid region, Material material) {
+    BlockData data = materialData.computeIfAbsent(material, Material::createBlockData);
+    for (int y = region.y1; y <= region.y2; y++) {
+      for (int z = region.z1; z <= region.z2; z++) {
+        for (int x = region.x1; x <= region.x2; x++) {
+          set(x, y, z, data);
+        }
+      }
+    }
+  }
+
+  /**
+   * Applies changes in order, starting at the given index, until every change has been applied or
+   * the deadline has passed. At least one change is applied per call so that progress is always
+   * made. Physics is not applied, so placed fluids and attached blocks stay exactly as set.
+   *
+   * @param start The index of the first change to apply.
+   * @param deadlineNanos The {@link System#nanoTime()} value after which to stop.
+   * @return The index of the first change that was not applied, or {@link #size()} if all were.
+   */
+  public int applyUntil(int start, long deadlineNanos) {
+    int i = start;
+    while (i < size) {
+      long pos = positions[i];
+      world
+          .getBlockAt(BlockKey.unpackX(pos), BlockKey.unpackY(pos), BlockKey.unpackZ(pos))
+          .setBlockData(palette.get(states[i]), false);
+      i++;
+      if (System.nanoTime() >= deadlineNanos) {
+        break;
+      }
+    }
+    return i;
+  }
+
+  /** Applies every change immediately. */
+  public void applyAll() {
+    applyUntil(0, Long.MAX_VALUE);
+  }
+}
@@ -0,0 +1,68 @@
+package com.storytimeproductions.models.stgames;
+
+import org.bukkit.Location;
+
+/**
+ * Packs a block position into a single {@code long}, so block positions can be stored in primitive
+ * arrays and used as hash keys without allocating a {@link Location} per block.
+ *
+ * <p>A key holds 26 bits of x, 26 bits of z and 12 bits of y, which covers every position in a
+ * vanilla world. Keys do not include the world, so callers that mix worlds must check it
+ * separately.
+ */
+public final class BlockKey {
+
+  private BlockKey() {}
+
+  /**
+   * Packs a block position.
+   *
+   * @param x The block x-coordinate.
+   * @param y The block y-coordinate.
+   * @param z The block z-coordinate.
+   * @return The packed key.
+   */
+  public static long pack(int x, int y, int z) {
+    return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+  }
+
+  /**
+   * Packs the position of the block a location is in.
+   *
+   * @param loc The location.
+   * @return The packed key.
+   */
+  public static long pack(Location loc) {
+    return pack(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ());
+  }
+
+  /**
+   * Gets the x-coordinate of a packed key.
+   *
+   * @param key The packed key.
+   * @return The block x-coordinate.
+   */
+  public static int unpackX(long key) {
+    return (int) (key >> 38);
+  }
+
+  /**
+   * Gets the y-coordinate of a packed key.
+   *
+   * @param key The packed key.
+   * @return The block y-coordinate.
+   */
+  public static int unpackY(long key) {
+    return (int) (key << 52 >> 52);
+  }
+
+  /**
+   * Gets the z-coordinate of a packed key.
+   *
+   * @param key The packed key.
+   * @return The block z-coordinate.
+   */
+  public static int unpackZ(long key) {
+    return (int) (key << 26 >> 38);
+  }
+}
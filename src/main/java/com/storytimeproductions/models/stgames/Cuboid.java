@@ -71,4 +71,27 @@ public class Cuboid {
     }
     return locations;
   }
+
+  /**
+   * Returns the world name and corners of this cuboid, for log messages.
+   *
+   * @return A description of this cuboid.
+   */
+  @Override
+  public String toString() {
+    return (world != null ? world.getName() : "null")
+        + " ("
+        + x1
+        + ","
+        + y1
+        + ","
+        + z1
+        + ") to ("
+        + x2
+        + ","
+        + y2
+        + ","
+        + z2
+        + ")";
+  }
 }
@@ -1,6 +1,8 @@
 package com.storytimeproductions.models.stgames.challenges;
 
+import com.storytimeproductions.models.stgames.BlockChangeSet;
 import com.storytimeproductions.models.stgames.Cuboid;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -9,7 +11,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
-import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
@@ -58,21 +60,19 @@ public class LadderClimbChallenge implements StoryBlitzChallenge, Listener {
     completed.clear();
     Bukkit.getPluginManager().registerEvents(this, plugin);
 
-    // Build the tower every round
+    // Build the tower every round, then bring everyone to its base once it is standing
     if (towerBase != null && region != null) {
       int minY = towerBase.getBlockY();
       int centerX = towerBase.getBlockX();
       int centerZ = towerBase.getBlockZ();
-      World world = towerBase.getWorld();
+      BlockChangeSet tower = new BlockChangeSet(towerBase.getWorld());
+      BlockData ladder = Bukkit.createBlockData("minecraft:ladder[facing=south]");
 
       // Build the tower: ladder on one side, platform on top
       for (int y = minY; y < minY + towerHeight; y++) {
-        Block block = world.getBlockAt(centerX, y, centerZ);
-        block.setType(Material.OAK_PLANKS);
+        tower.set(centerX, y, centerZ, Material.OAK_PLANKS);
         // Place ladder on the south side
-        Block ladderBlock = world.getBlockAt(centerX, y, centerZ + 1);
-        ladderBlock.setType(Material.LADDER);
-        ladderBlock.setBlockData(Bukkit.createBlockData("minecraft:ladder[facing=south]"));
+        tower.set(centerX, y, centerZ + 1, ladder);
       }
       // Platform on top, but leave the block above the topmost ladder open for access
       int platformY = minY + towerHeight;
@@ -82,18 +82,22 @@ public class LadderClimbChallenge implements StoryBlitzChallenge, Listener {
           if (x == centerX && z == centerZ + 1) {
             continue;
           }
-          world.getBlockAt(x, platformY, z).setType(Material.OAK_PLANKS);
+          tower.set(x, platformY, z, Material.OAK_PLANKS);
         }
       }
+      BlockChangeQueue.submit(tower, () -> teleportToBase(players));
     }
+  }
 
-    // Teleport all players to the base of the tower
-    if (towerBase != null) {
-      for (Player p : players) {
-        p.teleport(towerBase.clone().add(0, 1, 0));
-        p.setHealth(p.getAttribute(org.bukkit.attribute.Attribute.MAX_HEALTH).getValue());
-        p.setFoodLevel(20);
+  /** Teleports all players to the base of the tower. */
+  private void teleportToBase(List<Player> players) {
+    for (Player p : players) {
+      if (!p.isOnline()) {
+        continue;
       }
+      p.teleport(towerBase.clone().add(0, 1, 0));
+      p.setHealth(p.getAttribute(org.bukkit.attribute.Attribute.MAX_HEALTH).getValue());
+      p.setFoodLevel(20);
     }
   }
 
@@ -111,21 +115,22 @@ public class LadderClimbChallenge implements StoryBlitzChallenge, Listener {
       int minY = towerBase.getBlockY();
       int centerX = towerBase.getBlockX();
       int centerZ = towerBase.getBlockZ();
-      World world = towerBase.getWorld();
+      BlockChangeSet removal = new BlockChangeSet(towerBase.getWorld());
 
       // Remove the tower (vertical planks and ladders)
       for (int y = minY; y < minY + towerHeight; y++) {
         // Remove central plank
-        world.getBlockAt(centerX, y, centerZ).setType(Material.AIR);
+        removal.set(centerX, y, centerZ, Material.AIR);
         // Remove ladder on the south side
-        world.getBlockAt(centerX, y, centerZ + 1).setType(Material.AIR);
+        removal.set(centerX, y, centerZ + 1, Material.AIR);
       }
       // Remove the platform on top
       for (int x = centerX - 1; x <= centerX + 1; x++) {
         for (int z = centerZ - 1; z <= centerZ + 1; z++) {
-          world.getBlockAt(x, minY + towerHeight, z).setType(Material.AIR);
+          removal.set(x, minY + towerHeight, z, Material.AIR);
         }
       }
+      BlockChangeQueue.submit(removal);
     }
   }
 
@@ -11,24 +11,31 @@ import com.storytimeproductions.stweaks.commands.StStatusCommand;
 import com.storytimeproductions.stweaks.config.SettingsManager;
 import com.storytimeproductions.stweaks.listeners.BiomeNotifier;
 import com.storytimeproductions.stweaks.listeners.ColoredArmorCraftListener;
-import com.storytimeproductions.stweaks.listeners.CosmeticsListener;
 import com.storytimeproductions.stweaks.listeners.CowSkinnerListener;
 import com.storytimeproductions.stweaks.listeners.FbiDiscListener;
 import com.storytimeproductions.stweaks.listeners.GameManagerListener;
 import com.storytimeproductions.stweaks.listeners.IllegalWaterListener;
 import com.storytimeproductions.stweaks.listeners.ItemConsumableListener;
 import com.storytimeproductions.stweaks.listeners.LebronArmorListener;
+import com.storytimeproductions.stweaks.listeners.MenuListener;
 import com.storytimeproductions.stweaks.listeners.PetsListener;
-import com.storytimeproductions.stweaks.listeners.PetsMenuListener;
 import com.storytimeproductions.stweaks.listeners.PlayerActivityListener;
-import com.storytimeproductions.stweaks.listeners.QuestMenuListener;
 import com.storytimeproductions.stweaks.managers.SurvivalRewardManager;
+import com.storytimeproductions.stweaks.playtime.PlaytimePersistence;
+import com.storytimeproductions.stweaks.playtime.PlaytimeResetScheduler;
 import com.storytimeproductions.stweaks.playtime.PlaytimeTracker;
+import com.storytimeproductions.stweaks.playtime.SocialPartyEngine;
 import com.storytimeproductions.stweaks.util.BiomeTrackerManager;
-import com.storytimeproductions.stweaks.util.BossBarManager;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import com.storytimeproductions.stweaks.util.CosmeticsManager;
 import com.storytimeproductions.stweaks.util.DbManager;
+import com.storytimeproductions.stweaks.util.HologramManager;
+import com.storytimeproductions.stweaks.util.HudRenderer;
+import com.storytimeproductions.stweaks.util.MenuRefresher;
+import com.storytimeproductions.stweaks.util.PetActionScheduler;
+import com.storytimeproductions.stweaks.util.PetStateManager;
 import com.storytimeproductions.stweaks.util.PetsManager;
+import com.storytimeproductions.stweaks.util.PlayerNameCache;
 import com.storytimeproductions.stweaks.util.QuestsManager;
 import io.papermc.lib.PaperLib;
 import org.bukkit.Bukkit;
@@ -45,6 +52,9 @@ public class Stweaks extends JavaPlugin {
 
   private static Stweaks instance;
   private DbManager dbManager;
+  private BiomeTrackerManager biomeTrackerManager;
+  private QuestsManager questsManager;
+  private PetStateManager petStateManager;
 
   /**
    * Called when the plugin is enabled. This method is responsible for setting up the plugin,
@@ -62,12 +72,19 @@ public class Stweaks extends JavaPlugin {
     dbManager.connect();
 
     // Initialize playtime tracker and event manager
-    PlaytimeTracker.loadFromDatabase(dbManager.getConnection());
+    PlaytimePersistence.init(this, dbManager);
+    PlayerNameCache.init(this, dbManager);
+    PlaytimeResetScheduler.init(this);
+    SocialPartyEngine.init(this);
     PlaytimeTracker.init(this);
-    BossBarManager.init(this);
+    HudRenderer.init(this);
+    BlockChangeQueue.init(this);
+    HologramManager.init(this);
+    MenuRefresher.init(this);
 
     // Register event listeners
-    getServer().getPluginManager().registerEvents(new PlayerActivityListener(this), this);
+    getServer().getPluginManager().registerEvents(new MenuListener(), this);
+    getServer().getPluginManager().registerEvents(new PlayerActivityListener(), this);
     getServer().getPluginManager().registerEvents(new CowSkinnerListener(), this);
     getServer().getPluginManager().registerEvents(new FbiDiscListener(), this);
     getServer().getPluginManager().registerEvents(new IllegalWaterListener(this), this);
@@ -76,22 +93,20 @@ public class Stweaks extends JavaPlugin {
       getServer().getPluginManager().registerEvents(new LebronArmorListener(this), this);
     }
 
-    BiomeTrackerManager trackerManager = new BiomeTrackerManager(dbManager, this);
-    getServer().getPluginManager().registerEvents(new BiomeNotifier(this, trackerManager), this);
-
-    QuestsManager questsManager = new QuestsManager(dbManager, this);
-    QuestMenuCommand questMenuCommand = new QuestMenuCommand(questsManager);
+    biomeTrackerManager = new BiomeTrackerManager(dbManager, this);
     getServer()
         .getPluginManager()
-        .registerEvents(new QuestMenuListener(this, questsManager, questMenuCommand), this);
+        .registerEvents(new BiomeNotifier(this, biomeTrackerManager), this);
+
+    questsManager = new QuestsManager(dbManager, this);
+    QuestMenuCommand questMenuCommand = new QuestMenuCommand(questsManager);
 
     PetsManager petsManager = new PetsManager(this);
     PetsMenuCommand petsMenuCommand = new PetsMenuCommand(this, petsManager);
+    petStateManager = new PetStateManager(dbManager, this);
     getServer()
         .getPluginManager()
-        .registerEvents(new PetsMenuListener(this, petsManager, petsMenuCommand), this);
-    getServer().getPluginManager().registerEvents(new PetsListener(this, petsManager), this);
-    getServer().getPluginManager().registerEvents(new CosmeticsListener(), this);
+        .registerEvents(new PetsListener(this, petsManager, petStateManager), this);
     getServer().getPluginManager().registerEvents(new ColoredArmorCraftListener(), this);
     getServer().getPluginManager().registerEvents(new GameManagerListener(this), this);
     getServer().getPluginManager().registerEvents(new ItemConsumableListener(), this);
@@ -102,8 +117,9 @@ public class Stweaks extends JavaPlugin {
     getCommand("stcasino").setExecutor(new StCasinoCommand(getConfig()));
     getCommand("stlobby").setExecutor(new StLobbyCommand(getConfig()));
     getCommand("spawn").setExecutor(new StSpawnCommand(getConfig()));
-    getCommand("biometracker").setExecutor(new BiomeTrackerCommand(trackerManager, this));
+    getCommand("biometracker").setExecutor(new BiomeTrackerCommand(biomeTrackerManager));
     getCommand("stquests").setExecutor(questMenuCommand);
+    getCommand("stquests").setTabCompleter(questMenuCommand);
     getCommand("stpets").setExecutor(petsMenuCommand);
 
     CosmeticsManager cosmeticsManager = new CosmeticsManager(this);
@@ -126,7 +142,22 @@ public class Stweaks extends JavaPlugin {
    */
   @Override
   public void onDisable() {
-    PlaytimeTracker.saveToDatabase(dbManager.getConnection());
+    BlockChangeQueue.shutdown();
+    HologramManager.shutdown();
+    MenuRefresher.shutdown();
+    PetActionScheduler.shutdown();
+    if (biomeTrackerManager != null) {
+      biomeTrackerManager.shutdown();
+    }
+    if (questsManager != null) {
+      questsManager.shutdown();
+    }
+    if (petStateManager != null) {
+      petStateManager.shutdown();
+    }
+    PlaytimeResetScheduler.shutdown();
+    PlaytimePersistence.shutdown();
+    PlayerNameCache.shutdown();
     getLogger().info("Stweaks disabled!");
   }
 
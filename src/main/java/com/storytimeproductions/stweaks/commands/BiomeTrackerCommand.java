@@ -1,32 +1,20 @@
 package com.storytimeproductions.stweaks.commands;
 
+import com.storytimeproductions.stweaks.util.BiomeCatalog;
 import com.storytimeproductions.stweaks.util.BiomeTrackerManager;
-import io.papermc.paper.registry.RegistryAccess;
-import io.papermc.paper.registry.RegistryKey;
-import java.io.File;
+import com.storytimeproductions.stweaks.util.MenuHolder;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
-import org.bukkit.Registry;
-import org.bukkit.World;
-import org.bukkit.block.Biome;
+import org.bukkit.Sound;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
-import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.plugin.java.JavaPlugin;
 
 /**
  * Handles the `/biometracker` command for opening a GUI that shows the player's discovered biomes.
@@ -36,41 +24,15 @@ import org.bukkit.plugin.java.JavaPlugin;
 public class BiomeTrackerCommand implements CommandExecutor {
 
   private final BiomeTrackerManager trackerManager;
-  private final YamlConfiguration config;
-  private Set<Biome> allBiomes = new HashSet<>();
+  private final ItemStack blackPane = createBlackPane();
 
   /**
    * Constructs a BiomeTrackerCommand instance.
    *
    * @param trackerManager The BiomeTrackerManager instance used to track discovered biomes.
    */
-  public BiomeTrackerCommand(BiomeTrackerManager trackerManager, JavaPlugin plugin) {
+  public BiomeTrackerCommand(BiomeTrackerManager trackerManager) {
     this.trackerManager = trackerManager;
-
-    File file = new File(plugin.getDataFolder(), "biome_item.yml");
-    if (!file.exists()) {
-      plugin.saveResource("biome_item.yml", false); // If it doesn't exist, save the default
-    }
-
-    config = YamlConfiguration.loadConfiguration(file);
-
-    allBiomes = new HashSet<>();
-    World world = Bukkit.getWorld("world"); // or any loaded world
-    if (world != null) {
-      RegistryAccess registryAccess = RegistryAccess.registryAccess();
-      Registry<Biome> biomeRegistry = registryAccess.getRegistry(RegistryKey.BIOME);
-      if (biomeRegistry != null) {
-        biomeRegistry
-            .iterator()
-            .forEachRemaining(
-                b -> {
-                  if ("minecraft".equals(b.getKey().getNamespace())) {
-                    allBiomes.add(b);
-                  }
-                });
-      }
-    }
-    trackerManager.syncAndLoadBiomeItems(allBiomes);
   }
 
   /**
@@ -90,105 +52,85 @@ public class BiomeTrackerCommand implements CommandExecutor {
       return false;
     }
 
+    openTracker(player, args.length > 0 ? Integer.parseInt(args[0]) : 1);
+    return true;
+  }
+
+  /**
+   * Opens a page of the Biome Tracker for a player.
+   *
+   * @param player The player to open the tracker for.
+   * @param requestedPage The page to open, clamped to the pages that exist.
+   */
+  private void openTracker(Player player, int requestedPage) {
+    BiomeCatalog catalog = trackerManager.getCatalog();
+
     // Pagination setup
     int biomesPerPage = 14;
-    int totalBiomes = allBiomes.size();
+    int totalBiomes = catalog.size();
     int totalPages = (int) Math.ceil((double) totalBiomes / biomesPerPage);
-    int page = args.length > 0 ? Integer.parseInt(args[0]) : 1;
-    page = Math.min(Math.max(page, 1), totalPages);
+    int page = Math.min(Math.max(requestedPage, 1), totalPages);
 
     int startIndex = (page - 1) * biomesPerPage;
     int endIndex = Math.min(startIndex + biomesPerPage, totalBiomes);
-    List<Biome> biomesForPage = new ArrayList<>(allBiomes);
-    biomesForPage.sort(
-        (b1, b2) ->
-            formatBiomeName(b1.getKey().toString())
-                .compareToIgnoreCase(formatBiomeName(b2.getKey().toString())));
-    biomesForPage = biomesForPage.subList(startIndex, endIndex);
 
-    Inventory gui =
-        Bukkit.createInventory(null, 54, Component.text("Biome Tracker - Page " + page));
+    MenuHolder gui = new MenuHolder(54, Component.text("Biome Tracker - Page " + page));
 
     // Set outer edge to black panes with padding between biomes
     for (int i = 0; i < 9; i++) {
-      gui.setItem(i, createBlackPane()); // Top row
-      gui.setItem(45 + i, createBlackPane()); // Bottom row
+      gui.setItem(i, blackPane.clone()); // Top row
+      gui.setItem(45 + i, blackPane.clone()); // Bottom row
     }
     for (int i = 0; i < 54; i += 9) {
-      gui.setItem(i, createBlackPane()); // Left column
-      gui.setItem(i + 8, createBlackPane()); // Right column
+      gui.setItem(i, blackPane.clone()); // Left column
+      gui.setItem(i + 8, blackPane.clone()); // Right column
     }
 
-    int itemsPlaced = 0;
+    int position = startIndex;
     UUID uuid = player.getUniqueId();
-    Set<String> discovered = trackerManager.getDiscoveredBiomes(uuid);
 
     // Loop through 2nd to 5th row (1 to 4), and 2nd to 8th column (1 to 7)
     for (int y = 1; y <= 4; y++) {
       for (int x = 1; x <= 7; x++) {
         // Checkerboard condition: place only if (x + y) is even
         if ((x + y) % 2 == 0) {
-          if (itemsPlaced >= biomesForPage.size()) {
+          if (position >= endIndex) {
             break;
           }
 
-          Biome biome = biomesForPage.get(itemsPlaced);
-          String biomeKey = biome.getKey().toString();
-          boolean isDiscovered = discovered.contains(biomeKey);
-
-          // Access the biome_item.yml mapping and get the corresponding item
-          String itemName = config.getString(formatBiomeName(biomeKey));
-
-          // Set itemName to "BARRIER" if biome is not discovered
-          if (!isDiscovered) {
-            itemName = "BARRIER";
-          } else if (itemName == null || itemName.isEmpty()) {
-            itemName = "PAPER";
-          }
-
-          // Create the item for the biome
-          Material material =
-              Material.getMaterial(itemName.toUpperCase()); // Converts string to Material
-          if (material == null) {
-            material = Material.BARRIER; // Fallback if the material is invalid
-          }
-
-          ItemStack itemStack = new ItemStack(material);
-          ItemMeta meta = itemStack.getItemMeta();
-
-          // Set the item's display name based on discovery status
-          meta.displayName(
-              Component.text(
-                  formatBiomeName(biomeKey) + " - " + (isDiscovered ? "FOUND" : "NOT FOUND")));
-          itemStack.setItemMeta(meta);
-
+          // Copy the biome's prebuilt icon for its discovery status
+          int ordinal = catalog.getSortedOrdinal(position);
+          boolean isDiscovered = trackerManager.isDiscovered(uuid, ordinal);
           int slotIndex = y * 9 + x;
-          gui.setItem(slotIndex, itemStack);
+          gui.setItem(slotIndex, catalog.createIcon(ordinal, isDiscovered));
 
-          itemsPlaced++;
+          position++;
         }
       }
     }
 
     // Set navigation buttons
+    boolean hasPrevious = page > 1;
     gui.setItem(
         46,
         createNavigationPane(
-            page > 1, "Previous", Material.ARROW, Material.BLACK_STAINED_GLASS_PANE, page - 1));
+            hasPrevious, "Previous", Material.ARROW, Material.BLACK_STAINED_GLASS_PANE),
+        hasPrevious ? p -> turnPage(p, page - 1) : null);
+    boolean hasNext = page < totalPages;
     gui.setItem(
         52,
-        createNavigationPane(
-            page < totalPages,
-            "Next",
-            Material.ARROW,
-            Material.BLACK_STAINED_GLASS_PANE,
-            page + 1));
+        createNavigationPane(hasNext, "Next", Material.ARROW, Material.BLACK_STAINED_GLASS_PANE),
+        hasNext ? p -> turnPage(p, page + 1) : null);
 
     // Display current page number
-    gui.setItem(49, createBiomeProgressPane(player, allBiomes.size()));
+    gui.setItem(49, createBiomeProgressPane(player, totalBiomes));
 
-    player.openInventory(gui);
-    return true;
+    gui.open(player);
+  }
+
+  private void turnPage(Player player, int page) {
+    player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 1.0f, 1.0f);
+    openTracker(player, page);
   }
 
   private ItemStack createBlackPane() {
@@ -200,36 +142,18 @@ public class BiomeTrackerCommand implements CommandExecutor {
   }
 
   private ItemStack createNavigationPane(
-      boolean canNavigate,
-      String label,
-      Material enabledMaterial,
-      Material disabledMaterial,
-      int page) {
+      boolean canNavigate, String label, Material enabledMaterial, Material disabledMaterial) {
     Material material = canNavigate ? enabledMaterial : disabledMaterial;
     ItemStack navigationPane = new ItemStack(material);
     ItemMeta meta = navigationPane.getItemMeta();
     meta.displayName(Component.text(label));
-
-    // Store the page number in the item's persistent data container
-    PersistentDataContainer data = meta.getPersistentDataContainer();
-    data.set(new NamespacedKey("stweaks", "page"), PersistentDataType.INTEGER, page);
-
     navigationPane.setItemMeta(meta);
     return navigationPane;
   }
 
   private ItemStack createBiomeProgressPane(Player player, int totalBiomes) {
-    UUID uuid = player.getUniqueId();
-    Set<String> discovered = trackerManager.getDiscoveredBiomes(uuid);
-
-    int found = 0;
-    int total = allBiomes.size();
-
-    for (Biome biome : allBiomes) {
-      if (discovered.contains(biome.getKey().toString())) {
-        found++;
-      }
-    }
+    int found = trackerManager.getDiscoveredCount(player.getUniqueId());
+    int total = totalBiomes;
 
     ItemStack progressPane = new ItemStack(Material.PAPER);
     ItemMeta meta = progressPane.getItemMeta();
@@ -245,39 +169,4 @@ public class BiomeTrackerCommand implements CommandExecutor {
     progressPane.setItemMeta(meta);
     return progressPane;
   }
-
-  /**
-   * Formats the biome key into a human-readable name by capitalizing the first letter of each word
-   * and replacing underscores with spaces.
-   *
-   * @param key The biome key (e.g., "minecraft/desert").
-   * @return The formatted biome name (e.g., "Desert").
-   */
-  private String formatBiomeName(String key) {
-    String rawName = key.toLowerCase();
-
-    // Use the part after '/' if present, otherwise after ':'
-    if (rawName.contains("/")) {
-      rawName = rawName.substring(rawName.indexOf("/") + 1);
-    } else if (rawName.contains(":")) {
-      rawName = rawName.substring(rawName.indexOf(":") + 1);
-    }
-
-    // Replace underscores with spaces
-    rawName = rawName.replace('_', ' ');
-
-    // Capitalize each word
-    String[] words = rawName.split(" ");
-    StringBuilder formatted = new StringBuilder();
-    for (String word : words) {
-      if (!word.isEmpty()) {
-        formatted
-            .append(Character.toUpperCase(word.charAt(0)))
-            .append(word.substring(1))
-            .append(" ");
-      }
-    }
-
-    return formatted.toString().trim();
-  }
 }
@@ -2,11 +2,11 @@ package com.storytimeproductions.stweaks.commands;
 
 import com.storytimeproductions.stweaks.util.Cosmetic;
 import com.storytimeproductions.stweaks.util.CosmeticsManager;
+import com.storytimeproductions.stweaks.util.MenuHolder;
 import java.util.ArrayList;
 import java.util.List;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.command.Command;
@@ -14,10 +14,8 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Listener;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
 
 /**
  * Command executor and menu handler for the Cosmetics GUI. Handles opening the cosmetics menu,
@@ -58,12 +56,12 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
       page = totalPages - 1;
     }
 
-    Inventory gui =
-        Bukkit.createInventory(
-            null,
+    MenuHolder gui =
+        new MenuHolder(
             GUI_SIZE,
             GUI_TITLE.append(
                 Component.text(" (Page " + (page + 1) + ")", NamedTextColor.DARK_GREEN)));
+    final int currentPage = page;
 
     // Border: Black panes
     ItemStack borderPane = createPane(Material.BLACK_STAINED_GLASS_PANE, " ");
@@ -84,7 +82,10 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
         if ((x + y) % 2 == 0 && startIndex + itemsPlaced < endIndex) {
           int slot = y * 9 + x;
           Cosmetic cosmetic = cosmetics.get(startIndex + itemsPlaced);
-          gui.setItem(slot, createCosmeticItem(cosmetic, page));
+          gui.setItem(
+              slot,
+              createCosmeticItem(cosmetic),
+              p -> openCosmeticView(p, cosmetic, currentPage));
           itemsPlaced++;
         }
       }
@@ -92,18 +93,19 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
 
     // Navigation
     if (page > 0) {
-      gui.setItem(PREV_SLOT, createArrow("Previous Page", page - 1, "prev_page"));
+      gui.setItem(
+          PREV_SLOT, createArrow("Previous Page"), p -> openMainMenu(p, currentPage - 1));
     } else {
       gui.setItem(PREV_SLOT, createPane(Material.GRAY_STAINED_GLASS_PANE, "No Previous Page"));
     }
 
     if (page < totalPages - 1) {
-      gui.setItem(NEXT_SLOT, createArrow("Next Page", page + 1, "targeted_page_number"));
+      gui.setItem(NEXT_SLOT, createArrow("Next Page"), p -> openMainMenu(p, currentPage + 1));
     } else {
       gui.setItem(NEXT_SLOT, createPane(Material.GRAY_STAINED_GLASS_PANE, "No Next Page"));
     }
 
-    player.openInventory(gui);
+    gui.open(player);
   }
 
   /**
@@ -111,11 +113,11 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
    *
    * @param player the player to open the view for
    * @param cosmetic the cosmetic to view
+   * @param returnPage the menu page (0-based) to return to
    */
   public static void openCosmeticView(Player player, Cosmetic cosmetic, int returnPage) {
-    Inventory gui =
-        Bukkit.createInventory(
-            null,
+    MenuHolder gui =
+        new MenuHolder(
             54,
             Component.text("Cosmetic: " + cosmetic.getDisplayName(), NamedTextColor.BLACK));
 
@@ -145,7 +147,7 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
     }
 
     int cosmeticCenter = 24;
-    ItemStack cosmeticItem = createCosmeticItem(cosmetic, 0);
+    ItemStack cosmeticItem = createCosmeticItem(cosmetic);
     gui.setItem(cosmeticCenter, cosmeticItem);
 
     int[] greenSlots = {
@@ -160,7 +162,7 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
     }; // below
     ItemStack greenPane = createPane(Material.GREEN_STAINED_GLASS_PANE, " ");
     for (int slot : greenSlots) {
-      if (slot >= 0 && slot < 54 && gui.getItem(slot) == null) {
+      if (slot >= 0 && slot < 54 && gui.getInventory().getItem(slot) == null) {
         gui.setItem(slot, greenPane);
       }
     }
@@ -179,10 +181,10 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
     itemIcon.setItemMeta(itemMeta);
     gui.setItem(42, itemIcon);
 
-    ItemStack returnArrow = createArrow("Return to Page", returnPage, "return_page");
-    gui.setItem(49, returnArrow);
+    ItemStack returnArrow = createArrow("Return to Page");
+    gui.setItem(49, returnArrow, p -> openMainMenu(p, returnPage));
 
-    player.openInventory(gui);
+    gui.open(player);
   }
 
   // Utility for Title Case
@@ -204,7 +206,7 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
    * @param cosmetic the Cosmetic to represent
    * @return the ItemStack for the cosmetic
    */
-  private static ItemStack createCosmeticItem(Cosmetic cosmetic, int returnPage) {
+  private static ItemStack createCosmeticItem(Cosmetic cosmetic) {
     ItemStack item = new ItemStack(Material.CARVED_PUMPKIN); // Assuming model overrides this
     ItemMeta meta = item.getItemMeta();
     // Name: not italic
@@ -227,12 +229,6 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
 
     String itemModel = cosmetic.getItemModel();
     meta.setItemModel(new NamespacedKey(itemModel.split(":")[0], itemModel.split(":")[1]));
-    NamespacedKey idKey = new NamespacedKey("stweaks", "cosmetic_id");
-    NamespacedKey returnKey = new NamespacedKey("stweaks", "return_page");
-    meta.getPersistentDataContainer().set(idKey, PersistentDataType.STRING, cosmetic.getId());
-    if (returnPage == 0) {
-      meta.getPersistentDataContainer().set(returnKey, PersistentDataType.INTEGER, returnPage);
-    }
     item.setItemMeta(meta);
     return item;
   }
@@ -283,17 +279,12 @@ public class CosmeticsMenuCommand implements CommandExecutor, Listener {
    * Creates an arrow item for navigation.
    *
    * @param name the display name
-   * @param pageNumber the page number this arrow points to
-   * @param keyName the key for the metadata ("prevPage" or "targetedPageNumber")
    * @return the ItemStack for the arrow
    */
-  private static ItemStack createArrow(String name, int pageNumber, String keyName) {
+  private static ItemStack createArrow(String name) {
     ItemStack item = new ItemStack(Material.ARROW);
     ItemMeta meta = item.getItemMeta();
     meta.displayName(Component.text(name));
-    // Use only lowercase, underscores for key names
-    NamespacedKey key = new NamespacedKey("stweaks", keyName.toLowerCase());
-    meta.getPersistentDataContainer().set(key, PersistentDataType.INTEGER, pageNumber);
     item.setItemMeta(meta);
     return item;
   }
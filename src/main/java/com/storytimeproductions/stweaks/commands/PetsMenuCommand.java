@@ -1,25 +1,25 @@
 package com.storytimeproductions.stweaks.commands;
 
 import com.storytimeproductions.models.Pet;
+import com.storytimeproductions.stweaks.util.MenuHolder;
+import com.storytimeproductions.stweaks.util.PetCatalog;
 import com.storytimeproductions.stweaks.util.PetsManager;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
-import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 
 /**
@@ -29,8 +29,11 @@ import org.bukkit.plugin.java.JavaPlugin;
  * <p>It also provides methods to open the main pets menu and individual pet view menus.
  */
 public class PetsMenuCommand implements CommandExecutor {
+  private static final long PREVIEW_COOLDOWN_MILLIS = 30_000;
+
   private final JavaPlugin plugin;
   private final PetsManager petsManager;
+  private final Map<UUID, Long> lastPreviewTime = new HashMap<>();
 
   /**
    * Constructs the PetsMenuCommand.
@@ -61,6 +64,7 @@ public class PetsMenuCommand implements CommandExecutor {
         return true;
       }
 
+      petsManager.loadPets();
       sender.sendMessage(Component.text("Pets reloaded successfully!", NamedTextColor.WHITE));
       return true;
     }
@@ -69,8 +73,6 @@ public class PetsMenuCommand implements CommandExecutor {
       return false;
     }
 
-    petsManager.loadPets();
-
     openMainPetsMenu(player, 1);
     return true;
   }
@@ -83,15 +85,16 @@ public class PetsMenuCommand implements CommandExecutor {
    */
   public void openMainPetsMenu(Player player, int page) {
     int maxItems = 14; // Maximum number of pets per page
-    List<Pet> pets = petsManager.getAllPets();
+    PetCatalog catalog = petsManager.getCatalog();
+    List<Pet> pets = catalog.getPets();
     int totalPages = (int) Math.ceil(pets.size() / (double) maxItems);
     page = Math.max(1, Math.min(page, totalPages));
 
-    Inventory menu =
-        Bukkit.createInventory(
-            null,
+    MenuHolder menu =
+        new MenuHolder(
             6 * 9,
             Component.text("Pets Menu - Page " + page).decoration(TextDecoration.ITALIC, false));
+    final int currentPage = page;
 
     // Add border panes
     for (int i = 0; i < 54; i++) {
@@ -109,43 +112,10 @@ public class PetsMenuCommand implements CommandExecutor {
       for (int x = 1; x <= 7; x++) {
         if ((x + y) % 2 == 0 && startIndex + itemsPlaced < endIndex) {
           Pet pet = pets.get(startIndex + itemsPlaced);
-
-          ItemStack item = new ItemStack(Material.PAPER);
-          ItemMeta meta = item.getItemMeta();
-          String petName = formatText(pet.getId() + " Pet", false);
-          String petId = pet.getId();
-          ItemStack petItem;
-
-          if (petId.matches(".*-[a-zA-Z0-9_]+$")) {
-            // Extract the player name after the last hyphen
-            String[] parts = petId.split("-");
-            String playerName = parts[parts.length - 1];
-            petItem = new ItemStack(Material.PLAYER_HEAD);
-            ItemMeta petMeta = petItem.getItemMeta();
-            // Set the owning player for the head
-            if (petMeta instanceof SkullMeta skullMeta) {
-              skullMeta.setOwningPlayer(Bukkit.getOfflinePlayer(playerName));
-              skullMeta.displayName(Component.text(playerName.toLowerCase() + " Pet"));
-              petItem.setItemMeta(skullMeta);
-            } else {
-              petItem.setItemMeta(meta);
-            }
-          } else {
-            petItem = new ItemStack(Material.PAPER);
-            ItemMeta petMeta = petItem.getItemMeta();
-            petMeta.displayName(Component.text(petId.replace("_", " ").toLowerCase() + " Pet"));
-            petItem.setItemMeta(petMeta);
-          }
-          meta.displayName(Component.text(petName));
-          meta.getPersistentDataContainer()
-              .set(new NamespacedKey(plugin, "petId"), PersistentDataType.STRING, pet.getId());
-          meta.getPersistentDataContainer()
-              .set(new NamespacedKey(plugin, "returnPage"), PersistentDataType.INTEGER, page);
-          meta.setItemModel(new NamespacedKey("hotbar_pets", pet.getId()));
-          item.setItemMeta(meta);
+          ItemStack item = catalog.createMenuIcon(pet);
 
           int slot = y * 9 + x;
-          menu.setItem(slot, item);
+          menu.setItem(slot, item, p -> openPetView(p, pet, currentPage));
           itemsPlaced++;
         }
       }
@@ -154,60 +124,19 @@ public class PetsMenuCommand implements CommandExecutor {
     // Add navigation buttons
     if (page > 1) {
       ItemStack prevButton = createPane(Material.ARROW, "Previous Page");
-      ItemMeta meta = prevButton.getItemMeta();
-      meta.getPersistentDataContainer()
-          .set(new NamespacedKey(plugin, "prevPage"), PersistentDataType.INTEGER, page - 1);
-      prevButton.setItemMeta(meta);
-      menu.setItem(46, prevButton);
+      menu.setItem(46, prevButton, p -> openMainPetsMenu(p, currentPage - 1));
     }
 
     if (page < totalPages) {
       ItemStack nextButton = createPane(Material.ARROW, "Next Page");
-      ItemMeta meta = nextButton.getItemMeta();
-      meta.getPersistentDataContainer()
-          .set(new NamespacedKey(plugin, "nextPage"), PersistentDataType.INTEGER, page + 1);
-      nextButton.setItemMeta(meta);
-      menu.setItem(52, nextButton);
+      menu.setItem(52, nextButton, p -> openMainPetsMenu(p, currentPage + 1));
     }
 
     // Add total pets indicator
     ItemStack totalPets = createPane(Material.NAME_TAG, "Total Pets: " + pets.size());
     menu.setItem(49, totalPets); // Bottom row middle slot
 
-    player.openInventory(menu);
-  }
-
-  /**
-   * Converts a string to title case format (first letter of each word capitalized, rest lowercase).
-   *
-   * @param text the text to convert
-   * @return the text in title case format
-   */
-  private String formatText(String text, boolean toLowerCase) {
-    if (text == null || text.isEmpty()) {
-      return text;
-    }
-
-    StringBuilder titleCase = new StringBuilder();
-    boolean nextTitleCase = true;
-
-    for (char c : text.toCharArray()) {
-      if (Character.isSpaceChar(c) || c == '_' || c == '-') {
-        nextTitleCase = true;
-        titleCase.append(c == '_' ? ' ' : c); // Replace underscores with spaces
-      } else if (nextTitleCase) {
-        titleCase.append(Character.toUpperCase(c));
-        nextTitleCase = false;
-      } else {
-        titleCase.append(Character.toLowerCase(c));
-      }
-    }
-
-    if (toLowerCase) {
-      return titleCase.toString().toLowerCase();
-    }
-
-    return titleCase.toString();
+    menu.open(player);
   }
 
   /**
@@ -233,12 +162,17 @@ public class PetsMenuCommand implements CommandExecutor {
    * @param returnPage the page to return to when closing the pet view
    */
   public void openPetView(Player player, Pet pet, int returnPage) {
-    Inventory menu =
-        Bukkit.createInventory(
-            null,
-            54,
-            Component.text(formatText(pet.getId() + " Pet", false))
-                .decoration(TextDecoration.ITALIC, false));
+    PetCatalog catalog = petsManager.getCatalog();
+    Pet current = catalog.getById(pet.getId());
+    if (current == null) {
+      // Removed by a reload since the main menu was opened
+      openMainPetsMenu(player, returnPage);
+      return;
+    }
+
+    Component title =
+        Component.text(catalog.getDisplayName(current)).decoration(TextDecoration.ITALIC, false);
+    MenuHolder menu = new MenuHolder(54, title);
 
     // Add border panes
     for (int i = 0; i < 54; i++) {
@@ -263,27 +197,12 @@ public class PetsMenuCommand implements CommandExecutor {
     menu.setItem(42, infoItem);
 
     // Display recipe (slots 10, 11, 12, 19, 20, 21, 28, 29, 30)
-    List<List<Material>> recipe = pet.getRecipe();
+    ItemStack[] recipe = catalog.createRecipeItems(current);
     if (recipe != null) {
       int[] ingredientSlots = {10, 11, 12, 19, 20, 21, 28, 29, 30};
-      int slotIndex = 0;
-
-      for (List<Material> row : recipe) {
-        for (Material material : row) {
-          if (slotIndex >= ingredientSlots.length) {
-            break;
-          }
-
-          if (material != null && material != Material.AIR) {
-            ItemStack ingredientItem = new ItemStack(material);
-            ItemMeta ingredientMeta = ingredientItem.getItemMeta();
-            ingredientMeta.displayName(
-                Component.text(formatText(material.name().replace("_", " "), false))
-                    .decoration(TextDecoration.ITALIC, false));
-            ingredientItem.setItemMeta(ingredientMeta);
-            menu.setItem(ingredientSlots[slotIndex], ingredientItem);
-          }
-          slotIndex++;
+      for (int i = 0; i < ingredientSlots.length; i++) {
+        if (recipe[i] != null) {
+          menu.setItem(ingredientSlots[i], recipe[i]);
         }
       }
     } else {
@@ -297,19 +216,7 @@ public class PetsMenuCommand implements CommandExecutor {
     }
 
     // Display pet description on slot 14
-    ItemStack descriptionItem = new ItemStack(Material.WRITTEN_BOOK);
-    ItemMeta descMeta = descriptionItem.getItemMeta();
-
-    descMeta.addItemFlags(org.bukkit.inventory.ItemFlag.HIDE_ADDITIONAL_TOOLTIP);
-
-    descMeta.displayName(Component.text("What am I?").decoration(TextDecoration.ITALIC, false));
-
-    List<Component> descLore = new ArrayList<>();
-    descLore.add(Component.text(pet.getSubtitle()).decoration(TextDecoration.ITALIC, false));
-    descMeta.lore(descLore);
-
-    descriptionItem.setItemMeta(descMeta);
-    menu.setItem(14, descriptionItem);
+    menu.setItem(14, catalog.createDescriptionItem(current));
 
     // Display pet preview button on slot 16
     ItemStack previewItem = new ItemStack(Material.JUKEBOX);
@@ -322,104 +229,46 @@ public class PetsMenuCommand implements CommandExecutor {
     previewLore.add(Component.text("make sounds!").decoration(TextDecoration.ITALIC, false));
     previewMeta.lore(previewLore);
 
-    previewMeta
-        .getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, "previewPet"), PersistentDataType.STRING, pet.getId());
     previewItem.setItemMeta(previewMeta);
-    menu.setItem(16, previewItem);
+    menu.setItem(16, previewItem, p -> sendPreview(p, current));
 
     // Display pet itself on slot 24
-    ItemStack petItem = new ItemStack(Material.PAPER);
-    ItemMeta petMeta = petItem.getItemMeta();
-    petMeta.displayName(
-        Component.text(formatText(pet.getId(), false)).decoration(TextDecoration.ITALIC, false));
-    petMeta.setItemModel(new NamespacedKey("hotbar_pets", pet.getId()));
-    petItem.setItemMeta(petMeta);
-    menu.setItem(24, petItem);
+    menu.setItem(24, catalog.createModelItem(current));
 
     // Display food requirement on slot 32
-    Material foodMat = pet.getFood();
-    ItemStack foodItem = new ItemStack(foodMat);
-    ItemMeta foodMeta = foodItem.getItemMeta();
-    foodMeta.displayName(Component.text("What do I eat?").decoration(TextDecoration.ITALIC, false));
-
-    List<Component> foodLoreList = new ArrayList<>();
-    foodLoreList.add(
-        Component.text("I really like ")
-            .append(Component.text(formatText(foodMat.name().replace("_", " "), true)))
-            .decoration(TextDecoration.ITALIC, false));
-    foodMeta.lore(foodLoreList);
-
-    foodItem.setItemMeta(foodMeta);
-    menu.setItem(32, foodItem);
+    menu.setItem(32, catalog.createFoodItem(current));
 
     // Display perk on slot 34
-    ItemStack perkItem;
-    String perk = pet.getPerk();
-
-    if (perk.startsWith("effect:")) {
-      perkItem = new ItemStack(Material.POTION);
-      ItemMeta perkMeta = perkItem.getItemMeta();
-      perkMeta.displayName(
-          Component.text("What do I give you?").decoration(TextDecoration.ITALIC, false));
-
-      perkMeta.addItemFlags(org.bukkit.inventory.ItemFlag.HIDE_ADDITIONAL_TOOLTIP);
-
-      List<Component> perkLore = new ArrayList<>();
-      String effectName = perk.substring(7);
-
-      perkLore.add(
-          Component.text("I give " + formatText(effectName, true) + " sometimes!")
-              .decoration(TextDecoration.ITALIC, false));
-      perkMeta.lore(perkLore);
-
-      perkItem.setItemMeta(perkMeta);
-    } else if (perk.startsWith("item:")) {
-      String itemName = perk.substring(5);
-      Material itemMat = Material.matchMaterial(itemName);
-      perkItem = new ItemStack(itemMat != null ? itemMat : Material.CHEST);
-      ItemMeta perkMeta = perkItem.getItemMeta();
-      perkMeta.displayName(
-          Component.text("What do I give you?").decoration(TextDecoration.ITALIC, false));
-
-      List<Component> perkLore = new ArrayList<>();
-      perkLore.add(
-          Component.text("I give " + formatText(itemName.replace("_", " "), true) + "s sometimes!")
-              .decoration(TextDecoration.ITALIC, false));
-      perkMeta.lore(perkLore);
-
-      perkItem.setItemMeta(perkMeta);
-    } else {
-      perkItem = new ItemStack(Material.NETHER_STAR);
-      ItemMeta perkMeta = perkItem.getItemMeta();
-      perkMeta.displayName(
-          Component.text("How I can help you?").decoration(TextDecoration.ITALIC, false));
-
-      List<Component> perkLore = new ArrayList<>();
-      perkLore.add(
-          Component.text("Unknown perk type: " + perk).decoration(TextDecoration.ITALIC, false));
-      perkMeta.lore(perkLore);
-
-      perkItem.setItemMeta(perkMeta);
-    }
-    menu.setItem(34, perkItem);
+    menu.setItem(34, catalog.createPerkItem(current));
 
     // Add a back button to return to the main menu
     ItemStack backButton = new ItemStack(Material.ARROW);
     ItemMeta backMeta = backButton.getItemMeta();
     backMeta.displayName(
         Component.text("Back to Main Menu").decoration(TextDecoration.ITALIC, false));
-    backMeta
-        .getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, "returnPetsMenu"), PersistentDataType.INTEGER, 1);
-    backMeta
-        .getPersistentDataContainer()
-        .set(new NamespacedKey(plugin, "returnPage"), PersistentDataType.INTEGER, returnPage);
     backButton.setItemMeta(backMeta);
 
-    menu.setItem(49, backButton); // Bottom center slot for the back button
+    // Bottom center slot for the back button
+    menu.setItem(49, backButton, p -> openMainPetsMenu(p, returnPage));
+
+    menu.open(player);
+  }
 
-    player.openInventory(menu);
+  /**
+   * Lets a pet speak to the player from its view, at most once every 30 seconds per player.
+   *
+   * @param player the player who clicked the preview button
+   * @param pet the pet being viewed
+   */
+  private void sendPreview(Player player, Pet pet) {
+    long now = System.currentTimeMillis();
+    long last = lastPreviewTime.getOrDefault(player.getUniqueId(), 0L);
+    if (now - last < PREVIEW_COOLDOWN_MILLIS) {
+      player.sendMessage("Please wait before previewing your pet again!");
+      return;
+    }
+    pet.sendRandomPetMessage(player);
+    lastPreviewTime.put(player.getUniqueId(), now);
   }
 
   /**
@@ -431,11 +280,11 @@ public class PetsMenuCommand implements CommandExecutor {
   public void previewPet(Player player, Pet pet) {
     // Get a random burp sound
     List<String> burps = pet.getBurpSounds();
-    String randomBurp = burps.get(new Random().nextInt(burps.size()));
+    String randomBurp = burps.get(ThreadLocalRandom.current().nextInt(burps.size()));
 
     // Get a random quote
     List<String> quotes = pet.getQuotes();
-    String randomQuote = quotes.get(new Random().nextInt(quotes.size()));
+    String randomQuote = quotes.get(ThreadLocalRandom.current().nextInt(quotes.size()));
 
     // Play the sound and send the message
     player.playSound(player.getLocation(), randomBurp, 1.0f, 1.0f);
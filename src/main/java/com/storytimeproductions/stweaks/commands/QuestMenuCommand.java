@@ -1,7 +1,13 @@
 package com.storytimeproductions.stweaks.commands;
 
+import com.storytimeproductions.models.ItemRequirement;
 import com.storytimeproductions.models.Quest;
+import com.storytimeproductions.models.StatRequirement;
+import com.storytimeproductions.stweaks.util.MenuHolder;
+import com.storytimeproductions.stweaks.util.MenuHolder.MenuAction;
+import com.storytimeproductions.stweaks.util.PlayerNameCache;
 import com.storytimeproductions.stweaks.util.QuestsManager;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -9,34 +15,39 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
+import org.bukkit.Color;
+import org.bukkit.FireworkEffect;
+import org.bukkit.Location;
 import org.bukkit.Material;
-import org.bukkit.NamespacedKey;
 import org.bukkit.OfflinePlayer;
-import org.bukkit.Statistic;
+import org.bukkit.Sound;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.EntityType;
+import org.bukkit.entity.Firework;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.FireworkMeta;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.plugin.Plugin;
 
 /**
  * Handles the "/questmenu" command to open a graphical quest menu interface for players. This menu
  * displays available quests, quest completion statistics, and access to a QuestBook.
  */
-public class QuestMenuCommand implements CommandExecutor {
+public class QuestMenuCommand implements CommandExecutor, TabCompleter {
+  private static final int MAX_SUGGESTIONS = 20;
 
   private final QuestsManager questsManager;
   DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d, yyyy h:mm a", Locale.ENGLISH);
@@ -66,19 +77,23 @@ public class QuestMenuCommand implements CommandExecutor {
       return true;
     }
 
-    if (args.length == 3 && args[0].equalsIgnoreCase("unset")) {
+    if (args.length >= 3 && args[0].equalsIgnoreCase("unset")) {
       if (!sender.isOp()) {
         sender.sendMessage("You do not have permission to run this command.");
         return true;
       }
 
       String playerName = args[1];
-      String questName = args[2];
-
-      OfflinePlayer target = Bukkit.getOfflinePlayer(playerName);
-      if (!target.hasPlayedBefore() && !target.isOnline()) {
-        sender.sendMessage("Player not found or hasn't played before.");
-        return true;
+      String questName = String.join(" ", Arrays.copyOfRange(args, 2, args.length));
+
+      UUID targetUuid = PlayerNameCache.getUuid(playerName);
+      if (targetUuid == null) {
+        OfflinePlayer target = Bukkit.getOfflinePlayer(playerName);
+        if (!target.hasPlayedBefore() && !target.isOnline()) {
+          sender.sendMessage("Player not found or hasn't played before.");
+          return true;
+        }
+        targetUuid = target.getUniqueId();
       }
 
       String questId = questsManager.getQuestByName(questName);
@@ -87,7 +102,7 @@ public class QuestMenuCommand implements CommandExecutor {
         return true;
       }
 
-      questsManager.unsetQuestCompletion(target.getUniqueId(), questId);
+      questsManager.unsetQuestCompletion(targetUuid, questId);
       sender.sendMessage("Quest '" + questName + "' marked as incomplete for " + playerName + ".");
       return true;
     }
@@ -97,8 +112,13 @@ public class QuestMenuCommand implements CommandExecutor {
         sender.sendMessage("You do not have permission to run this command.");
         return true;
       }
-      questsManager.reloadQuests();
-      sender.sendMessage("Quests reloaded successfully.");
+      sender.sendMessage("Reloading quests...");
+      questsManager.reloadQuests(
+          () ->
+              sender.sendMessage(
+                  "Quests reloaded successfully ("
+                      + questsManager.getCatalog().size()
+                      + " quests)."));
       return true;
     }
 
@@ -114,6 +134,51 @@ public class QuestMenuCommand implements CommandExecutor {
     return true;
   }
 
+  /**
+   * Suggests completions for the admin subcommands: "reload" and "unset", the player to unset a
+   * quest for, and the quest itself. Quest IDs starting with what has been typed are suggested
+   * first; if there are none, the closest quest names and IDs are suggested instead.
+   *
+   * @param sender the source of the command
+   * @param command the command being completed
+   * @param alias the alias used
+   * @param args the arguments typed so far
+   * @return the suggested completions for the last argument
+   */
+  @Override
+  public List<String> onTabComplete(
+      CommandSender sender, Command command, String alias, String[] args) {
+    if (!sender.isOp()) {
+      return List.of();
+    }
+
+    String typed = args[args.length - 1];
+    if (args.length == 1) {
+      return Arrays.asList("reload", "unset").stream()
+          .filter(option -> option.startsWith(typed.toLowerCase(Locale.ROOT)))
+          .collect(Collectors.toList());
+    }
+    if (!args[0].equalsIgnoreCase("unset")) {
+      return List.of();
+    }
+    if (args.length == 2) {
+      return Bukkit.getOnlinePlayers().stream()
+          .map(Player::getName)
+          .filter(name -> name.toLowerCase(Locale.ROOT).startsWith(typed.toLowerCase(Locale.ROOT)))
+          .limit(MAX_SUGGESTIONS)
+          .collect(Collectors.toList());
+    }
+    if (args.length == 3) {
+      List<String> suggestions =
+          questsManager.getCatalog().getNameIndex().complete(typed, MAX_SUGGESTIONS);
+      if (suggestions.isEmpty() && !typed.isEmpty()) {
+        suggestions = questsManager.getCatalog().getNameIndex().search(typed, MAX_SUGGESTIONS);
+      }
+      return suggestions;
+    }
+    return List.of();
+  }
+
   /**
    * Opens a custom GUI menu for the specified player, showing active and completed quests, along
    * with statistics and navigation options.
@@ -121,8 +186,6 @@ public class QuestMenuCommand implements CommandExecutor {
    * @param player the player for whom the menu is opened
    */
   private void openQuestMenu(Player player, int page) {
-    questsManager.reloadQuests();
-
     UUID uuid = player.getUniqueId();
     List<String> allQuestIdsRaw = questsManager.getDisplayableQuestIdsFor(uuid);
     List<String> waitingOnOtherPlayers = new ArrayList<>();
@@ -151,16 +214,9 @@ public class QuestMenuCommand implements CommandExecutor {
       }
 
       if (isCompletedByPlayer) {
-        if (requiredPlayers != null && !requiredPlayers.isEmpty()) {
-          // Check if all required players have completed the quest
-          boolean allPlayersCompleted =
-              requiredPlayers.stream()
-                  .allMatch(playerUuid -> questsManager.isQuestCompleted(playerUuid, questId));
-          if (!allPlayersCompleted) {
-            waitingOnOtherPlayers.add(questId);
-          } else {
-            completedQuests.add(questId);
-          }
+        // Wait on the other required players, if the quest has any
+        if (!questsManager.areRequiredPlayersDone(questId)) {
+          waitingOnOtherPlayers.add(questId);
         } else {
           completedQuests.add(questId);
         }
@@ -188,16 +244,16 @@ public class QuestMenuCommand implements CommandExecutor {
     int totalPages = (int) Math.ceil(allQuestIds.size() / (double) maxItems);
     page = Math.max(1, Math.min(page, totalPages));
 
-    Inventory gui =
-        Bukkit.createInventory(
-            null,
+    MenuHolder menu =
+        new MenuHolder(
             6 * 9,
             Component.text("Quest Menu - Page " + page).decoration(TextDecoration.ITALIC, false));
+    final int currentPage = page;
 
     // Add border panes
     for (int i = 0; i < 54; i++) {
       if (i < 9 || i >= 45 || i % 9 == 0 || i % 9 == 8) {
-        gui.setItem(i, createPane(Material.BLACK_STAINED_GLASS_PANE, " "));
+        menu.setItem(i, createPane(Material.BLACK_STAINED_GLASS_PANE, " "));
       }
     }
 
@@ -212,18 +268,13 @@ public class QuestMenuCommand implements CommandExecutor {
           String questId = allQuestIds.get(startIndex + itemsPlaced);
           Quest quest = questsManager.getQuestById(questId);
 
-          boolean isCompleted = questsManager.isQuestCompleted(player.getUniqueId(), questId);
-
-          if (!quest.getRequiredPlayers().isEmpty()) {
-            boolean allPlayersCompleted =
-                quest.getRequiredPlayers().stream()
-                    .allMatch(playerUuid -> questsManager.isQuestCompleted(playerUuid, questId));
-            isCompleted = isCompleted && allPlayersCompleted;
-          }
+          boolean isCompleted =
+              questsManager.isQuestCompleted(player.getUniqueId(), questId)
+                  && questsManager.areRequiredPlayersDone(questId);
 
-          ItemStack paper = createQuestPaper(quest, isCompleted, page);
+          ItemStack paper = createQuestPaper(quest, isCompleted);
           int slot = y * 9 + x;
-          gui.setItem(slot, paper);
+          menu.setItem(slot, paper, p -> openQuestViewMenu(p, questId, currentPage));
           itemsPlaced++;
         }
       }
@@ -252,35 +303,37 @@ public class QuestMenuCommand implements CommandExecutor {
                     Component.text(String.format("%.2f%%", percent), NamedTextColor.AQUA)
                         .decoration(TextDecoration.ITALIC, false))));
     stats.setItemMeta(statsMeta);
-    gui.setItem(49, stats);
+    menu.setItem(49, stats);
 
     // Prev and Next buttons
-    NamespacedKey pageKey =
-        new NamespacedKey(Bukkit.getPluginManager().getPlugin("stweaks"), "page");
-
     if (page > 1) {
       ItemStack previous = createPane(Material.ARROW, "Previous Page");
-      ItemMeta previousMeta = previous.getItemMeta();
-      previousMeta.getPersistentDataContainer().set(pageKey, PersistentDataType.INTEGER, page - 1);
-      previous.setItemMeta(previousMeta);
-      gui.setItem(46, previous);
+      menu.setItem(46, previous, p -> turnPage(p, currentPage - 1));
     } else {
       // No previous page, set to gray stained glass pane
-      gui.setItem(46, createPane(Material.GRAY_STAINED_GLASS_PANE, " "));
+      menu.setItem(46, createPane(Material.GRAY_STAINED_GLASS_PANE, " "));
     }
 
     if (page < totalPages) {
       ItemStack next = createPane(Material.ARROW, "Next Page");
-      ItemMeta nextMeta = next.getItemMeta();
-      nextMeta.getPersistentDataContainer().set(pageKey, PersistentDataType.INTEGER, page + 1);
-      next.setItemMeta(nextMeta);
-      gui.setItem(52, next);
+      menu.setItem(52, next, p -> turnPage(p, currentPage + 1));
     } else {
       // No previous page, set to gray stained glass pane
-      gui.setItem(52, createPane(Material.GRAY_STAINED_GLASS_PANE, " "));
+      menu.setItem(52, createPane(Material.GRAY_STAINED_GLASS_PANE, " "));
     }
 
-    player.openInventory(gui);
+    menu.open(player);
+  }
+
+  /**
+   * Plays the page turn sound and opens another page of the quest menu.
+   *
+   * @param player the player turning the page
+   * @param page the page to open
+   */
+  private void turnPage(Player player, int page) {
+    player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 1.0f, 1.0f);
+    openQuestMenu(player, page);
   }
 
   /**
@@ -301,11 +354,11 @@ public class QuestMenuCommand implements CommandExecutor {
   /**
    * Creates a quest paper item representing a specific quest.
    *
-   * @param questId the quest identifier
-   * @param modelNumber the model number used for custom model data
+   * @param quest the quest to represent
+   * @param isCompleted whether the quest is fully completed
    * @return the customized quest paper item
    */
-  private ItemStack createQuestPaper(Quest quest, boolean isCompleted, int page) {
+  private ItemStack createQuestPaper(Quest quest, boolean isCompleted) {
     // Check if the deadline has passed
 
     // Check if the deadline has passed
@@ -366,40 +419,58 @@ public class QuestMenuCommand implements CommandExecutor {
                         isCompleted ? NamedTextColor.GREEN : NamedTextColor.YELLOW)
                     .decoration(TextDecoration.ITALIC, false)));
 
+    int completions = questsManager.getCompletionCount(quest.getId());
+    lore.add(
+        Component.text("Completed by: ", NamedTextColor.AQUA)
+            .append(
+                Component.text(
+                        completions + (completions == 1 ? " player" : " players"),
+                        NamedTextColor.WHITE)
+                    .decoration(TextDecoration.ITALIC, false)));
+
     meta.addItemFlags(
         ItemFlag.HIDE_ATTRIBUTES,
         ItemFlag.HIDE_UNBREAKABLE,
         ItemFlag.HIDE_ENCHANTS,
         ItemFlag.HIDE_ADDITIONAL_TOOLTIP);
 
-    Plugin plugin = Bukkit.getPluginManager().getPlugin("stweaks");
-    NamespacedKey questIdKey =
-        new NamespacedKey(Bukkit.getPluginManager().getPlugin("stweaks"), "questId");
-    NamespacedKey pageKey = new NamespacedKey(plugin, "returnPage");
-    meta.getPersistentDataContainer().set(questIdKey, PersistentDataType.STRING, quest.getId());
-    meta.getPersistentDataContainer().set(pageKey, PersistentDataType.INTEGER, page);
-
     meta.lore(lore);
     item.setItemMeta(meta);
     return item;
   }
 
+  /**
+   * Opens a detailed view of a quest by its ID, looking it up when the player asks for it so a menu
+   * opened before a reload never shows a stale quest.
+   *
+   * @param player the player who will see the quest details
+   * @param questId the ID of the quest to be displayed
+   * @param page the quest menu page to return to
+   */
+  private void openQuestViewMenu(Player player, String questId, int page) {
+    Quest quest = questsManager.getQuestById(questId);
+    if (quest != null) {
+      openQuestViewMenu(player, quest, page);
+    }
+  }
+
   /**
    * Opens a detailed view of a specific quest for the player.
    *
    * @param player the player who will see the quest details
    * @param quest the quest to be displayed
+   * @param page the quest menu page to return to
    */
   public void openQuestViewMenu(Player player, Quest quest, int page) {
 
-    Inventory gui =
-        Bukkit.createInventory(
-            null, 6 * 9, Component.text("Quest Details").decoration(TextDecoration.ITALIC, false));
+    MenuHolder menu =
+        new MenuHolder(
+            6 * 9, Component.text("Quest Details").decoration(TextDecoration.ITALIC, false));
 
     // Border
     for (int i = 0; i < 54; i++) {
       if (i < 9 || i >= 45 || i % 9 == 0 || i % 9 == 8) {
-        gui.setItem(i, createPane(Material.BLACK_STAINED_GLASS_PANE, " "));
+        menu.setItem(i, createPane(Material.BLACK_STAINED_GLASS_PANE, " "));
       }
     }
 
@@ -408,24 +479,11 @@ public class QuestMenuCommand implements CommandExecutor {
     ItemMeta exitMeta = exit.getItemMeta();
     exitMeta.displayName(Component.text("Exit to Quest Menu"));
     exit.setItemMeta(exitMeta);
-
-    Plugin plugin = Bukkit.getPluginManager().getPlugin("stweaks");
-
-    NamespacedKey exitKey = new NamespacedKey(plugin, "exit");
-    exitMeta.getPersistentDataContainer().set(exitKey, PersistentDataType.INTEGER, 1);
-    NamespacedKey pageKey = new NamespacedKey(plugin, "returnPage");
-    exitMeta.getPersistentDataContainer().set(pageKey, PersistentDataType.INTEGER, page);
-    exit.setItemMeta(exitMeta);
+    MenuAction exitAction = p -> openQuestMenu(p, page);
 
     ItemStack attempt = new ItemStack(Material.EMERALD_BLOCK);
     ItemMeta attemptMeta = attempt.getItemMeta();
     attemptMeta.displayName(Component.text("Verify Completion"));
-    NamespacedKey attemptKey = new NamespacedKey(plugin, "verify_completion");
-    NamespacedKey questIdKey = new NamespacedKey(plugin, "questId");
-    attemptMeta.getPersistentDataContainer().set(attemptKey, PersistentDataType.INTEGER, 1);
-    attemptMeta
-        .getPersistentDataContainer()
-        .set(questIdKey, PersistentDataType.STRING, quest.getId());
     attempt.setItemMeta(attemptMeta);
 
     boolean hasDeadlinePassed = false;
@@ -441,11 +499,7 @@ public class QuestMenuCommand implements CommandExecutor {
     if (questsManager.isQuestCompleted(player.getUniqueId(), quest.getId())) {
       if (!quest.getRequiredPlayers().isEmpty()) {
         // Check if there is at least one other player who has not completed the quest
-        boolean allPlayersCompleted =
-            quest.getRequiredPlayers().stream()
-                .allMatch(uuid -> questsManager.isQuestCompleted(uuid, quest.getId()));
-
-        if (!allPlayersCompleted) {
+        if (!questsManager.areRequiredPlayersDone(quest.getId())) {
           // Add a gold block named "Partially Complete" for quests with required players
           ItemStack partiallyComplete = new ItemStack(Material.GOLD_BLOCK);
           ItemMeta partiallyCompleteMeta = partiallyComplete.getItemMeta();
@@ -454,27 +508,29 @@ public class QuestMenuCommand implements CommandExecutor {
                   .decoration(TextDecoration.ITALIC, false));
           partiallyComplete.setItemMeta(partiallyCompleteMeta);
 
-          gui.setItem(46, exit); // Exit button on the left
-          gui.setItem(52, partiallyComplete); // Place in the center slot
+          menu.setItem(46, exit, exitAction); // Exit button on the left
+          menu.setItem(52, partiallyComplete); // Place in the center slot
         } else {
-          gui.setItem(49, exit); // Default exit button for fully completed quests
+          // Default exit button for fully completed quests
+          menu.setItem(49, exit, exitAction);
         }
       } else {
-        gui.setItem(
-            49, exit); // Default exit button for fully completed quests without required players
+        // Default exit button for fully completed quests without required players
+        menu.setItem(49, exit, exitAction);
       }
     } else if (!hasDeadlinePassed) {
-      gui.setItem(46, exit); // Exit button on the left
-      gui.setItem(52, attempt); // Attempt button on the right
+      menu.setItem(46, exit, exitAction); // Exit button on the left
+      // Attempt button on the right
+      menu.setItem(52, attempt, p -> attemptCompletion(p, quest.getId(), page));
     } else {
-      gui.setItem(49, exit);
+      menu.setItem(49, exit, exitAction);
     }
 
     // Quest name
-    gui.setItem(20, createInfoItem(quest.getIcon(), "Quest Name", quest.getName()));
+    menu.setItem(20, createInfoItem(quest.getIcon(), "Quest Name", quest.getName()));
 
     // Lore
-    gui.setItem(22, createInfoItem(Material.WRITABLE_BOOK, "Description", quest.getLore()));
+    menu.setItem(22, createInfoItem(Material.WRITABLE_BOOK, "Description", quest.getLore()));
 
     // Players & Deadline
     StringBuilder extra = new StringBuilder();
@@ -483,13 +539,7 @@ public class QuestMenuCommand implements CommandExecutor {
       extra.append("Players:\n");
       quest
           .getRequiredPlayers()
-          .forEach(
-              uuid -> {
-                OfflinePlayer currentPlayer = Bukkit.getOfflinePlayer(uuid);
-                if (currentPlayer != null) {
-                  extra.append("- ").append(currentPlayer.getName()).append("\n");
-                }
-              });
+          .forEach(uuid -> extra.append("- ").append(getPlayerName(uuid)).append("\n"));
     }
 
     if (extra.length() > 0) {
@@ -504,7 +554,7 @@ public class QuestMenuCommand implements CommandExecutor {
       extra.append("None");
     }
 
-    gui.setItem(24, createInfoItem(Material.CLOCK, "Optional Requirements", extra.toString()));
+    menu.setItem(24, createInfoItem(Material.CLOCK, "Optional Requirements", extra.toString()));
 
     boolean isCompleted =
         hasDeadlinePassed || questsManager.isQuestCompleted(player.getUniqueId(), quest.getId());
@@ -513,21 +563,27 @@ public class QuestMenuCommand implements CommandExecutor {
     Component combinedComponent =
         Component.text("Required Items:", NamedTextColor.YELLOW)
             .decoration(TextDecoration.ITALIC, false) // Ensure title is non-italic
-            .append(formatItemList(player, quest.getItemRequirements(), !isCompleted))
+            .append(
+                formatItemRequirements(
+                    quest.getCompiledItemRequirements(),
+                    questsManager.countItems(player),
+                    !isCompleted))
             .append(Component.newline())
             .append(Component.newline())
             .append(
                 Component.text("Required Stats:", NamedTextColor.BLUE)
                     .decoration(TextDecoration.ITALIC, false)) // Ensure title is non-italic
-            .append(formatStatList(player, quest.getStatRequirements(), !isCompleted))
+            .append(
+                formatStatRequirements(
+                    player, quest.getCompiledStatRequirements(), !isCompleted))
             .append(Component.newline())
             .append(Component.newline())
             .append(
                 Component.text("Rewards:", NamedTextColor.GREEN)
                     .decoration(TextDecoration.ITALIC, false)) // Ensure title is non-italic
-            .append(formatItemList(player, quest.getRewards(), false));
+            .append(formatRewardList(quest.getRewards()));
 
-    gui.setItem(30, createInfoItem(Material.CHEST, "Items & Rewards", combinedComponent));
+    menu.setItem(30, createInfoItem(Material.CHEST, "Items & Rewards", combinedComponent));
 
     // Completed Players in slot 32 using questsManager
     List<UUID> completedPlayers = questsManager.getCompletedPlayers(quest);
@@ -535,16 +591,123 @@ public class QuestMenuCommand implements CommandExecutor {
         completedPlayers.isEmpty()
             ? "None yet"
             : completedPlayers.stream()
-                .map(
-                    uuid -> {
-                      OfflinePlayer p = Bukkit.getOfflinePlayer(uuid);
-                      return p.getName() != null ? p.getName() : uuid.toString();
-                    })
+                .map(this::getPlayerName)
                 .collect(Collectors.joining(",\n"));
 
-    gui.setItem(32, createInfoItem(Material.PLAYER_HEAD, "Completed By", completedText));
+    menu.setItem(32, createInfoItem(Material.PLAYER_HEAD, "Completed By", completedText));
+
+    menu.open(player);
+  }
+
+  /**
+   * Completes a quest for a player if they meet its requirements, giving the rewards and
+   * celebrating the completion, then refreshes the quest view.
+   *
+   * @param player the player attempting the quest
+   * @param questId the ID of the quest
+   * @param page the quest menu page the view returns to
+   */
+  private void attemptCompletion(Player player, String questId, int page) {
+    Quest quest = questsManager.getQuestById(questId);
+
+    if (!player.getWorld().getName().equals("world")) {
+      player.sendMessage(
+          Component.text("You cannot complete quests outside the main world.", NamedTextColor.RED));
+      player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
+      return;
+    }
+    if (quest == null || questsManager.isQuestCompleted(player.getUniqueId(), questId)) {
+      return;
+    }
+
+    // Check if player has all required items
+    if (!questsManager.hasRequiredItems(player, quest)
+        || !questsManager.hasRequiredStats(player, quest)) {
+      player.sendMessage(
+          Component.text(
+              "You do not meet the requirements to complete this quest.", NamedTextColor.RED));
+      player.playSound(player.getLocation(), Sound.ENTITY_VILLAGER_NO, 1f, 1f);
+      return;
+    }
+
+    // Remove items and give rewards
+    questsManager.giveRewards(player, quest);
+
+    // Mark quest as completed
+    questsManager.markQuestCompleted(player.getUniqueId(), questId);
+
+    // Broadcast completion
+    if (quest.getRequiredPlayers().isEmpty()) {
+      // Broadcast to everyone
+      Bukkit.getServer()
+          .broadcast(
+              Component.text()
+                  .append(Component.text(player.getName(), NamedTextColor.GREEN))
+                  .append(Component.text(" has completed the quest: ", NamedTextColor.WHITE))
+                  .append(Component.text(quest.getName(), NamedTextColor.GOLD))
+                  .build());
+    } else if (questsManager.areRequiredPlayersDone(quest.getId())) {
+      // Send a title to all required players
+      quest
+          .getRequiredPlayers()
+          .forEach(
+              uuid -> {
+                Player requiredPlayer = Bukkit.getPlayer(uuid);
+                if (requiredPlayer != null) {
+                  requiredPlayer.showTitle(
+                      Title.title(
+                          Component.text("Quest Completed!", NamedTextColor.GREEN),
+                          Component.text(
+                              "All players have completed: " + quest.getName(),
+                              NamedTextColor.GOLD),
+                          Title.Times.times(
+                              Duration.ofMillis(500),
+                              Duration.ofSeconds(3),
+                              Duration.ofMillis(1000))));
+                }
+              });
+    } else {
+      // Notify the current player of partial completion
+      player.sendMessage(
+          Component.text()
+              .append(Component.text("You have completed the quest: ", NamedTextColor.GREEN))
+              .append(Component.text(quest.getName(), NamedTextColor.GOLD))
+              .append(
+                  Component.text(
+                      ". Waiting for other players to complete.", NamedTextColor.YELLOW))
+              .build());
+    }
+
+    Location location = player.getLocation();
+    Firework firework =
+        (Firework) location.getWorld().spawnEntity(location, EntityType.FIREWORK_ROCKET);
+    FireworkMeta fireworkMeta = firework.getFireworkMeta();
+    fireworkMeta.addEffect(
+        FireworkEffect.builder()
+            .withColor(Color.RED, Color.YELLOW)
+            .withFade(Color.ORANGE)
+            .with(FireworkEffect.Type.BALL_LARGE)
+            .trail(true)
+            .flicker(true)
+            .build());
+    fireworkMeta.setPower(1);
+    firework.setFireworkMeta(fireworkMeta);
+    player.playSound(player.getLocation(), Sound.ENTITY_FIREWORK_ROCKET_LAUNCH, 1f, 1f);
+
+    // Refresh GUI
+    openQuestViewMenu(player, quest, page);
+  }
 
-    player.openInventory(gui);
+  /**
+   * Gets a player's name from the name cache, falling back to the server's own records and then to
+   * the UUID itself.
+   */
+  private String getPlayerName(UUID uuid) {
+    String name = PlayerNameCache.getName(uuid);
+    if (name == null) {
+      name = Bukkit.getOfflinePlayer(uuid).getName();
+    }
+    return name != null ? name : uuid.toString();
   }
 
   private ItemStack createInfoItem(Material material, String title, String content) {
@@ -625,86 +788,76 @@ public class QuestMenuCommand implements CommandExecutor {
     return lines;
   }
 
-  private Component formatStatList(Player player, List<String> stats, boolean showFraction) {
-    if (stats == null || stats.isEmpty()) {
+  /**
+   * Lists a quest's stat requirements, with the player's progress towards each when showFraction is
+   * set.
+   */
+  private Component formatStatRequirements(
+      Player player, List<StatRequirement> stats, boolean showFraction) {
+    if (stats.isEmpty()) {
       return Component.text("\nNone", NamedTextColor.GRAY);
     }
 
-    return stats.stream()
-        .map(
-            raw -> {
-              String[] parts = raw.split(":");
-              if (parts.length != 3) {
-                return Component.text("Invalid Stat Format", NamedTextColor.RED);
-              }
-
-              String statName = parts[0];
-              String key = parts[1];
-
-              Statistic statistic;
-              try {
-                statistic = Statistic.valueOf(statName.toUpperCase());
-              } catch (IllegalArgumentException e) {
-                return Component.text("Invalid Statistic", NamedTextColor.RED);
-              }
-
-              int currentAmount = 0;
-              String additionalInfo = "";
-
-              if (statistic.getType() == Statistic.Type.UNTYPED) {
-                currentAmount = player.getStatistic(statistic);
-              } else if (statistic.getType() == Statistic.Type.BLOCK
-                  || statistic.getType() == Statistic.Type.ITEM) {
-                Material material = Material.matchMaterial(key);
-                if (material != null) {
-                  currentAmount = player.getStatistic(statistic, material);
-                }
-              } else if (statistic.getType() == Statistic.Type.ENTITY) {
-                EntityType entityType;
-                try {
-                  entityType = EntityType.valueOf(key.toUpperCase());
-                  currentAmount = player.getStatistic(statistic, entityType);
-                  additionalInfo =
-                      " ("
-                          + Arrays.stream(entityType.name().split("_"))
-                              .map(
-                                  word ->
-                                      word.substring(0, 1).toUpperCase()
-                                          + word.substring(1).toLowerCase())
-                              .collect(Collectors.joining(" "))
-                          + ")";
-                } catch (IllegalArgumentException ignored) {
-                  return Component.text("Invalid Entity Type", NamedTextColor.RED);
-                }
-              }
-
-              int requiredAmount = Integer.parseInt(parts[2]);
-
-              NamedTextColor color =
-                  currentAmount >= requiredAmount ? NamedTextColor.GREEN : NamedTextColor.RED;
+    Component list = Component.empty();
+    for (StatRequirement stat : stats) {
+      String name = toTitleCase(stat.getStatistic().name());
+      if (stat.getEntityType() != null) {
+        name += " (" + toTitleCase(stat.getEntityType().name()) + ")";
+      }
+      list =
+          list.append(Component.newline())
+              .append(
+                  formatRequirement(
+                      name,
+                      showFraction ? stat.getCurrent(player) : 0,
+                      stat.getAmount(),
+                      showFraction));
+    }
+    return list;
+  }
 
-              if (!showFraction) {
-                color = NamedTextColor.WHITE;
-              }
+  /**
+   * Lists a quest's item requirements, with the player's progress towards each when showFraction is
+   * set. The inventory is counted once by the caller and shared by every requirement.
+   */
+  private Component formatItemRequirements(
+      List<ItemRequirement> items, Map<Material, Integer> counts, boolean showFraction) {
+    if (items.isEmpty()) {
+      return Component.text("\nNone", NamedTextColor.GRAY);
+    }
 
-              String display =
-                  showFraction ? currentAmount + "/" + requiredAmount : "x" + requiredAmount;
+    Component list = Component.empty();
+    for (ItemRequirement item : items) {
+      list =
+          list.append(Component.newline())
+              .append(
+                  formatRequirement(
+                      toTitleCase(item.getMaterial().name()),
+                      counts.getOrDefault(item.getMaterial(), 0),
+                      item.getAmount(),
+                      showFraction));
+    }
+    return list;
+  }
 
-              // Convert statistic name to title case
-              String titleCaseName =
-                  Arrays.stream(statName.split("_"))
-                      .map(
-                          word ->
-                              word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase())
-                      .collect(Collectors.joining(" "));
+  private Component formatRequirement(
+      String name, int currentAmount, int requiredAmount, boolean showFraction) {
+    NamedTextColor color =
+        !showFraction
+            ? NamedTextColor.WHITE
+            : currentAmount >= requiredAmount ? NamedTextColor.GREEN : NamedTextColor.RED;
+    String display = showFraction ? currentAmount + "/" + requiredAmount : "x" + requiredAmount;
+    return Component.text(display + " " + name, color).decoration(TextDecoration.ITALIC, true);
+  }
 
-              return Component.text(display + " " + titleCaseName + additionalInfo, color)
-                  .decoration(TextDecoration.ITALIC, true);
-            })
-        .reduce(Component.empty(), (a, b) -> a.append(Component.newline()).append(b));
+  /** Converts an enum constant name such as "MINE_BLOCK" to "Mine Block". */
+  private static String toTitleCase(String name) {
+    return Arrays.stream(name.split("_"))
+        .map(word -> word.substring(0, 1).toUpperCase() + word.substring(1).toLowerCase())
+        .collect(Collectors.joining(" "));
   }
 
-  private Component formatItemList(Player player, List<String> items, boolean showFraction) {
+  private Component formatRewardList(List<String> items) {
     if (items == null || items.isEmpty()) {
       return Component.text("\nNone", NamedTextColor.GRAY);
     }
@@ -753,37 +906,12 @@ public class QuestMenuCommand implements CommandExecutor {
                 }
               }
 
-              // Count matching items in the player's inventory
-              int currentAmount =
-                  Arrays.stream(player.getInventory().getContents())
-                      .filter(item -> item != null && item.getType() == material)
-                      .mapToInt(ItemStack::getAmount)
-                      .sum();
-
-              int requiredAmount = Integer.parseInt(raw.substring(lastColon + 1));
-
-              NamedTextColor color =
-                  (currentAmount >= requiredAmount) ? NamedTextColor.GREEN : NamedTextColor.RED;
-
-              if (!showFraction) {
-                color = NamedTextColor.WHITE;
-              }
-
-              String display =
-                  showFraction ? currentAmount + "/" + requiredAmount : "x" + requiredAmount;
+              String display = "x" + raw.substring(lastColon + 1);
 
               // Use custom_name if available, otherwise use the material name
-              String displayName =
-                  itemName != null
-                      ? itemName
-                      : Arrays.stream(material.name().split("_"))
-                          .map(
-                              word ->
-                                  word.substring(0, 1).toUpperCase()
-                                      + word.substring(1).toLowerCase())
-                          .collect(Collectors.joining(" "));
-
-              return Component.text(display + " " + displayName, color)
+              String displayName = itemName != null ? itemName : toTitleCase(material.name());
+
+              return Component.text(display + " " + displayName, NamedTextColor.WHITE)
                   .decoration(TextDecoration.ITALIC, true);
             })
         .reduce(Component.empty(), (a, b) -> a.append(Component.newline()).append(b));
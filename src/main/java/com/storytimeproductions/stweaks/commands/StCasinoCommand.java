@@ -80,19 +80,19 @@ public class StCasinoCommand implements CommandExecutor {
     }
 
     if (label.equalsIgnoreCase("casino") && args.length == 1 && args[0].equalsIgnoreCase("leave")) {
-      for (Minigame minigame : GameManagerListener.activeGames.values()) {
-        if (minigame.getPlayers().contains(player)) {
-          Location exit = minigame.getConfig().getExitArea();
-          if (exit != null) {
-            player.teleport(exit);
-            minigame.leave(player);
-            refundTicket(player, minigame.getConfig().getTicketCost());
-            player.sendMessage("You have left the game.");
-          } else {
-            player.sendMessage("No exit area set for this game.");
-          }
-          return true;
+      Minigame minigame = GameManagerListener.getGameOf(player);
+      if (minigame != null && minigame.getPlayers().contains(player)) {
+        Location exit = minigame.getConfig().getExitArea();
+        if (exit != null) {
+          player.teleport(exit);
+          minigame.leave(player);
+          GameManagerListener.forgetPlayer(player);
+          refundTicket(player, minigame.getConfig().getTicketCost());
+          player.sendMessage("You have left the game.");
+        } else {
+          player.sendMessage("No exit area set for this game.");
         }
+        return true;
       }
       player.sendMessage("You are not currently in a game.");
       return true;
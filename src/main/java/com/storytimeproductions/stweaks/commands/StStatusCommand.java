@@ -2,7 +2,16 @@ package com.storytimeproductions.stweaks.commands;
 
 import com.storytimeproductions.stweaks.config.SettingsManager;
 import com.storytimeproductions.stweaks.playtime.PlaytimeData;
+import com.storytimeproductions.stweaks.playtime.PlaytimePersistence;
 import com.storytimeproductions.stweaks.playtime.PlaytimeTracker;
+import com.storytimeproductions.stweaks.playtime.SocialPartyEngine;
+import com.storytimeproductions.stweaks.playtime.SocialSnapshot;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
+import com.storytimeproductions.stweaks.util.HologramManager;
+import com.storytimeproductions.stweaks.util.HudRenderer;
+import com.storytimeproductions.stweaks.util.MenuHolder;
+import com.storytimeproductions.stweaks.util.MenuRefresher;
+import com.storytimeproductions.stweaks.util.PetActionScheduler;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -19,13 +28,11 @@ import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
-import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Command for checking the player's current playtime status.
@@ -107,12 +114,8 @@ public class StStatusCommand implements CommandExecutor {
         return true;
       }
 
-      if (PlaytimeTracker.getData(targetIdentifer) != null) {
-        PlaytimeTracker.resetPlaytime(targetIdentifer);
-        sender.sendMessage("§aReset playtime for §f" + targetName + "§a.");
-      } else {
-        sender.sendMessage("§eNo playtime data found for " + targetName + ".");
-      }
+      PlaytimeTracker.resetPlaytime(targetIdentifer);
+      sender.sendMessage("§aReset playtime for §f" + targetName + "§a.");
       return true;
     }
 
@@ -254,6 +257,16 @@ public class StStatusCommand implements CommandExecutor {
       return anySuccess;
     }
 
+    // /ststatus metrics
+    if (args.length == 1 && args[0].equalsIgnoreCase("metrics")) {
+      if (!sender.hasPermission("stweaks.ststatus.metrics")) {
+        sender.sendMessage("You don't have permission to view Stweaks metrics.");
+        return true;
+      }
+      sendMetrics(sender);
+      return true;
+    }
+
     if (args.length == 1 && args[0].equalsIgnoreCase("afk")) {
       if (!(sender instanceof Player player)) {
         sender.sendMessage("Only players can use this command.");
@@ -282,6 +295,85 @@ public class StStatusCommand implements CommandExecutor {
     return false;
   }
 
+  /** Sends the plugin's internal performance counters to the sender. */
+  private void sendMetrics(CommandSender sender) {
+    sender.sendMessage(Component.text("[Stweaks] Metrics", NamedTextColor.YELLOW));
+    sender.sendMessage(
+        Component.text("Playtime writer: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    "last flush "
+                        + PlaytimePersistence.getLastFlushMillis()
+                        + "ms, last batch "
+                        + PlaytimePersistence.getLastBatchSize()
+                        + ", queued "
+                        + PlaytimePersistence.getQueueDepth()
+                        + ", total "
+                        + PlaytimePersistence.getTotalRowsFlushed()
+                        + ", failed "
+                        + PlaytimePersistence.getFailedFlushes(),
+                    NamedTextColor.WHITE)));
+    sender.sendMessage(
+        Component.text("HUD: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    HudRenderer.getTrackedPlayers()
+                        + " players, "
+                        + HudRenderer.getPacketsSentPerSecond()
+                        + " packets/s sent, "
+                        + HudRenderer.getPacketsSkippedPerSecond()
+                        + " packets/s skipped",
+                    NamedTextColor.WHITE)));
+    sender.sendMessage(
+        Component.text("Arena queue: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    BlockChangeQueue.getPendingBlocks()
+                        + " blocks in "
+                        + BlockChangeQueue.getPendingJobs()
+                        + " batches, "
+                        + BlockChangeQueue.getBlocksAppliedPerSecond()
+                        + " blocks/s, budget "
+                        + BlockChangeQueue.getBudgetMicros()
+                        + "us/tick",
+                    NamedTextColor.WHITE)));
+    sender.sendMessage(
+        Component.text("Holograms: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    HologramManager.getHologramCount()
+                        + " active, "
+                        + HologramManager.getRequestsPerSecond()
+                        + " changes/s requested, "
+                        + HologramManager.getUpdatesAppliedPerSecond()
+                        + " entity updates/s",
+                    NamedTextColor.WHITE)));
+    sender.sendMessage(
+        Component.text("Live menus: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    MenuRefresher.getLiveMenuCount()
+                        + " open, "
+                        + MenuRefresher.getSlotsRebuiltPerSecond()
+                        + " slots/s rebuilt, last refresh "
+                        + MenuRefresher.getLastRunMicros()
+                        + "us",
+                    NamedTextColor.WHITE)));
+    sender.sendMessage(
+        Component.text("Pet actions: ", NamedTextColor.GOLD)
+            .append(
+                Component.text(
+                    PetActionScheduler.getScheduledCount()
+                        + " pets in "
+                        + PetActionScheduler.getBucketCount()
+                        + " slots, fullest slot "
+                        + PetActionScheduler.getFullestBucketSize()
+                        + ", "
+                        + PetActionScheduler.getDueLastSecond()
+                        + " due last second",
+                    NamedTextColor.WHITE)));
+  }
+
   /**
    * Resolves "@a", "@p", or a player name to a list of online players. Returns null and sends an
    * error message to the sender if the target cannot be resolved.
@@ -329,20 +421,12 @@ public class StStatusCommand implements CommandExecutor {
   }
 
   /**
-   * Schedules a repeating task that updates a single inventory slot every second while the player
-   * keeps a given inventory open. Cancels automatically when the inventory is closed.
+   * Gets a player's available time in whole seconds, which is what the live time items show, so an
+   * item is only rebuilt once the time it shows has changed.
    */
-  private void runWhileOpen(Player player, Component expectedTitle, Runnable update) {
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (!expectedTitle.equals(player.getOpenInventory().title())) {
-          cancel();
-          return;
-        }
-        update.run();
-      }
-    }.runTaskTimer(plugin, 20L, 20L);
+  private static long wholeSecondsLeft(Player target) {
+    PlaytimeData data = PlaytimeTracker.getData(target.getUniqueId());
+    return data != null ? (long) data.getAvailableSeconds() : 0;
   }
 
   private void openAdminStatusInventory(Player admin, int page) {
@@ -358,9 +442,8 @@ public class StStatusCommand implements CommandExecutor {
 
     final int currentPage = page;
 
-    Inventory inv =
-        Bukkit.createInventory(
-            null,
+    MenuHolder menu =
+        new MenuHolder(
             54,
             Component.text(
                 "Admin: Player Status (Page "
@@ -375,7 +458,7 @@ public class StStatusCommand implements CommandExecutor {
     borderPane.setItemMeta(paneMeta);
     for (int i = 0; i < 54; i++) {
       if (i < 9 || i >= 45 || i % 9 == 0 || i % 9 == 8) {
-        inv.setItem(i, borderPane);
+        menu.setItem(i, borderPane);
       }
     }
 
@@ -386,7 +469,11 @@ public class StStatusCommand implements CommandExecutor {
       for (int x = 1; x <= 7; x++) {
         if ((x + y) % 2 == 0 && startIndex + itemsPlacedArr[0] < endIndex) {
           Player target = onlinePlayers.get(startIndex + itemsPlacedArr[0]);
-          inv.setItem(y * 9 + x, buildSkullItem(target));
+          menu.setLiveItem(
+              y * 9 + x,
+              () -> wholeSecondsLeft(target),
+              secondsLeft -> buildSkullItem(target, secondsLeft),
+              p -> openManageIfOnline(p, target));
           itemsPlacedArr[0]++;
         }
       }
@@ -402,58 +489,40 @@ public class StStatusCommand implements CommandExecutor {
       ItemMeta prevMeta = prev.getItemMeta();
       prevMeta.displayName(Component.text("Previous Page", NamedTextColor.YELLOW));
       prev.setItemMeta(prevMeta);
-      inv.setItem(46, prev);
+      menu.setItem(46, prev, p -> openAdminStatusInventory(p, currentPage - 1));
     } else {
-      inv.setItem(46, grayPane);
+      menu.setItem(46, grayPane);
     }
     if (page < totalPages - 1) {
       ItemStack next = new ItemStack(Material.ARROW);
       ItemMeta nextMeta = next.getItemMeta();
       nextMeta.displayName(Component.text("Next Page", NamedTextColor.YELLOW));
       next.setItemMeta(nextMeta);
-      inv.setItem(52, next);
+      menu.setItem(52, next, p -> openAdminStatusInventory(p, currentPage + 1));
     } else {
-      inv.setItem(52, grayPane);
+      menu.setItem(52, grayPane);
     }
 
-    admin.openInventory(inv);
+    menu.open(admin);
+  }
 
-    String expectedTitle =
-        "Admin: Player Status (Page " + (currentPage + 1) + "/" + Math.max(1, totalPages) + ")";
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (!admin.getOpenInventory().title().toString().contains(expectedTitle)) {
-          cancel();
-          return;
-        }
-        Inventory openInv = admin.getOpenInventory().getTopInventory();
-        int[] placed = {0};
-        for (int y = 1; y <= 4; y++) {
-          for (int x = 1; x <= 7; x++) {
-            if ((x + y) % 2 == 0 && startIndex + placed[0] < endIndex) {
-              Player target = onlinePlayers.get(startIndex + placed[0]);
-              openInv.setItem(y * 9 + x, buildSkullItem(target));
-              placed[0]++;
-            }
-          }
-        }
-      }
-    }.runTaskTimer(plugin, 20L, 20L);
+  /** Opens the manage view for a player picked in the admin view, if they are still online. */
+  private void openManageIfOnline(Player admin, Player target) {
+    if (target.isOnline()) {
+      openPlayerManageInventory(admin, target, plugin);
+    }
   }
 
-  private static ItemStack buildSkullItem(Player target) {
+  private static ItemStack buildSkullItem(Player target, long secondsLeft) {
     ItemStack skull = new ItemStack(Material.PLAYER_HEAD);
     ItemMeta meta = skull.getItemMeta();
     meta.displayName(Component.text(target.getName()).color(NamedTextColor.AQUA));
     if (meta instanceof org.bukkit.inventory.meta.SkullMeta skullMeta) {
       skullMeta.setOwningPlayer(target);
     }
-    PlaytimeData data = PlaytimeTracker.getData(target.getUniqueId());
-    double secondsLeft = data != null ? data.getAvailableSeconds() : 0;
-    int h = (int) (secondsLeft / 3600);
-    int m = (int) ((secondsLeft % 3600) / 60);
-    int s = (int) (secondsLeft % 60);
+    long h = secondsLeft / 3600;
+    long m = (secondsLeft % 3600) / 60;
+    long s = secondsLeft % 60;
     meta.lore(
         List.of(
             Component.text(
@@ -470,56 +539,70 @@ public class StStatusCommand implements CommandExecutor {
    * @param plugin The JavaPlugin instance.
    */
   public static void openPlayerManageInventory(Player admin, Player target, Plugin plugin) {
-    Inventory inv = Bukkit.createInventory(null, 27, Component.text("Manage: " + target.getName()));
+    MenuHolder menu = new MenuHolder(27, Component.text("Manage: " + target.getName()));
 
     ItemStack add = new ItemStack(Material.LIME_WOOL);
     ItemMeta addMeta = add.getItemMeta();
     addMeta.displayName(Component.text("Add 5 Minutes").color(NamedTextColor.GREEN));
     add.setItemMeta(addMeta);
-    inv.setItem(12, add);
+    menu.setItem(12, add, p -> manage(p, target, plugin, () -> adjustTime(p, target, 300)));
 
     ItemStack remove = new ItemStack(Material.RED_WOOL);
     ItemMeta removeMeta = remove.getItemMeta();
     removeMeta.displayName(Component.text("Remove 5 Minutes").color(NamedTextColor.RED));
     remove.setItemMeta(removeMeta);
-    inv.setItem(10, remove);
+    menu.setItem(10, remove, p -> manage(p, target, plugin, () -> adjustTime(p, target, -300)));
 
     ItemStack ticket = new ItemStack(Material.NAME_TAG);
     ItemMeta ticketMeta = ticket.getItemMeta();
     ticketMeta.displayName(Component.text("Give 5-Minute Ticket").color(NamedTextColor.GOLD));
     ticket.setItemMeta(ticketMeta);
-    inv.setItem(14, ticket);
+    menu.setItem(
+        14,
+        ticket,
+        p ->
+            manage(p, target, plugin, () -> p.performCommand("status ticket " + target.getName())));
 
     ItemStack cash = new ItemStack(Material.PAPER);
     ItemMeta cashMeta = cash.getItemMeta();
     cashMeta.displayName(Component.text("Cash 5-Minute Ticket").color(NamedTextColor.YELLOW));
     cash.setItemMeta(cashMeta);
-    inv.setItem(16, cash);
-
-    inv.setItem(4, buildTimeItem(target));
-    admin.openInventory(inv);
-
-    Component title = Component.text("Manage: " + target.getName());
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        if (!title.equals(admin.getOpenInventory().title())) {
-          cancel();
-          return;
-        }
-        admin.getOpenInventory().setItem(4, buildTimeItem(target));
-      }
-    }.runTaskTimer(plugin, 20L, 20L);
+    menu.setItem(
+        16,
+        cash,
+        p -> manage(p, target, plugin, () -> p.performCommand("status cash " + target.getName())));
+
+    menu.setLiveItem(4, () -> wholeSecondsLeft(target), StStatusCommand::buildTimeItem);
+    menu.open(admin);
+  }
 
-    admin.openInventory(inv);
+  /**
+   * Applies a change from the manage view to a player who is still online, then reopens the view so
+   * it shows the result.
+   */
+  private static void manage(Player admin, Player target, Plugin plugin, Runnable change) {
+    if (!target.isOnline()) {
+      return;
+    }
+    change.run();
+    openPlayerManageInventory(admin, target, plugin);
   }
 
-  private static ItemStack buildTimeItem(Player target) {
+  /** Adds seconds to, or with a negative amount removes them from, a player's available time. */
+  private static void adjustTime(Player admin, Player target, int seconds) {
     PlaytimeData data = PlaytimeTracker.getData(target.getUniqueId());
-    double secondsLeft = data != null ? data.getAvailableSeconds() : 0;
-    int h = (int) (secondsLeft / 3600);
-    int m = (int) ((secondsLeft % 3600) / 60);
-    int s = (int) (secondsLeft % 60);
+    if (data == null) {
+      return;
+    }
+    data.addAvailableSeconds(seconds);
+    admin.sendMessage(
+        (seconds >= 0 ? "Added 5 minutes to " : "Removed 5 minutes from ") + target.getName());
+  }
+
+  private static ItemStack buildTimeItem(long secondsLeft) {
+    long h = secondsLeft / 3600;
+    long m = (secondsLeft % 3600) / 60;
+    long s = secondsLeft % 60;
     String timeString = String.format("%02d:%02d:%02d", h, m, s);
 
     ItemStack timeLeft = new ItemStack(Material.CLOCK);
@@ -535,46 +618,27 @@ public class StStatusCommand implements CommandExecutor {
    * in the center.
    */
   private void openStatusInventory(Player player) {
-    Component title = Component.text("Your Playtime Status");
-    Inventory inv = Bukkit.createInventory(null, 54, title);
+    MenuHolder menu = new MenuHolder(54, Component.text("Your Playtime Status"));
 
     ItemStack blackPane = new ItemStack(Material.BLACK_STAINED_GLASS_PANE);
     ItemMeta paneMeta = blackPane.getItemMeta();
     paneMeta.displayName(Component.text(" "));
     blackPane.setItemMeta(paneMeta);
     for (int i = 0; i < 9; i++) {
-      inv.setItem(i, blackPane);
-      inv.setItem(45 + i, blackPane);
+      menu.setItem(i, blackPane);
+      menu.setItem(45 + i, blackPane);
     }
     for (int i = 1; i < 5; i++) {
-      inv.setItem(i * 9, blackPane);
-      inv.setItem(i * 9 + 8, blackPane);
+      menu.setItem(i * 9, blackPane);
+      menu.setItem(i * 9 + 8, blackPane);
     }
 
     PlaytimeData data = PlaytimeTracker.getData(player.getUniqueId());
     double secondsLeft = data != null ? data.getAvailableSeconds() : 0;
 
-    double hours = secondsLeft / 3600;
-    double minutes = (secondsLeft % 3600) / 60;
-    double seconds = secondsLeft % 60;
-    String formatted = formatTimeLeft(hours, minutes, seconds);
-
-    ItemStack timeLeft = new ItemStack(Material.CLOCK);
-    ItemMeta timeMeta = timeLeft.getItemMeta();
-    timeMeta.displayName(
-        Component.text("Time Left")
-            .decoration(TextDecoration.ITALIC, false)
-            .color(NamedTextColor.WHITE));
-    timeMeta.lore(
-        wrapLoreLine(formatted, 25).stream()
-            .map(
-                line ->
-                    Component.text(line, NamedTextColor.GREEN)
-                        .decoration(TextDecoration.ITALIC, true))
-            .toList());
-    timeLeft.setItemMeta(timeMeta);
-    inv.setItem(20, timeLeft);
+    menu.setLiveItem(20, () -> wholeSecondsLeft(player), StStatusCommand::buildStatusClock);
 
+    SocialSnapshot snapshot = SocialPartyEngine.getSnapshot();
     double baseMultiplier = PlaytimeTracker.getBaseMultiplier();
     ItemStack multiplierItem = new ItemStack(Material.EXPERIENCE_BOTTLE);
     ItemMeta multiplierMeta = multiplierItem.getItemMeta();
@@ -586,14 +650,14 @@ public class StStatusCommand implements CommandExecutor {
     multiplierLoreRaw.add("Base Multiplier: " + baseMultiplier + "x");
     multiplierLoreRaw.add(" ");
     double weekendMultiplier = PlaytimeTracker.getWeekendMultiplier();
-    boolean isWeekend = PlaytimeTracker.isWeekend();
+    boolean isWeekend = snapshot.isWeekend();
     String weekendStatus = isWeekend ? "active" : "inactive";
     multiplierLoreRaw.add("Weekend Multiplier: " + weekendMultiplier + "x (" + weekendStatus + ")");
     multiplierLoreRaw.add(" ");
-    double socialMultiplier = PlaytimeTracker.computeGlobalSocialMultiplier();
+    double socialMultiplier = snapshot.getSocialMultiplier();
     multiplierLoreRaw.add("Social Multiplier: " + socialMultiplier + "x");
     multiplierLoreRaw.add(" ");
-    multiplierLoreRaw.add("Total Multiplier: " + PlaytimeTracker.getTotalMultiplier() + "x");
+    multiplierLoreRaw.add("Total Multiplier: " + snapshot.getTotalMultiplier() + "x");
     List<Component> multiplierLore = new ArrayList<>();
     for (String line : multiplierLoreRaw) {
       wrapLoreLine(line, 25)
@@ -605,7 +669,7 @@ public class StStatusCommand implements CommandExecutor {
     }
     multiplierMeta.lore(multiplierLore);
     multiplierItem.setItemMeta(multiplierMeta);
-    inv.setItem(22, multiplierItem);
+    menu.setItem(22, multiplierItem);
 
     ItemStack socialInfo = new ItemStack(Material.PLAYER_HEAD);
     ItemMeta socialMetaInfo = socialInfo.getItemMeta();
@@ -630,7 +694,7 @@ public class StStatusCommand implements CommandExecutor {
     }
     socialMetaInfo.lore(socialLoreInfo);
     socialInfo.setItemMeta(socialMetaInfo);
-    inv.setItem(30, socialInfo);
+    menu.setItem(30, socialInfo);
 
     ItemStack dailyHour = new ItemStack(Material.SLIME_BALL);
     ItemMeta dailyMeta = dailyHour.getItemMeta();
@@ -653,7 +717,7 @@ public class StStatusCommand implements CommandExecutor {
     }
     dailyMeta.lore(dailyLore);
     dailyHour.setItemMeta(dailyMeta);
-    inv.setItem(32, dailyHour);
+    menu.setItem(32, dailyHour);
 
     int tickets = secondsLeft > 600 ? (int) ((secondsLeft - 900) / 300) : 0;
     ItemStack ticketItem = new ItemStack(Material.PAPER);
@@ -678,7 +742,7 @@ public class StStatusCommand implements CommandExecutor {
     }
     ticketMeta.lore(ticketLoreLines);
     ticketItem.setItemMeta(ticketMeta);
-    inv.setItem(24, ticketItem);
+    menu.setItem(24, ticketItem);
 
     int bankedTickets = data != null ? data.getBankedTickets() : 0;
 
@@ -712,7 +776,7 @@ public class StStatusCommand implements CommandExecutor {
                         .decoration(TextDecoration.ITALIC, true)));
     bankedMeta.lore(bankedLore);
     bankedItem.setItemMeta(bankedMeta);
-    inv.setItem(49, bankedItem);
+    menu.setItem(49, bankedItem);
 
     ItemStack removeBanked = new ItemStack(Material.RED_STAINED_GLASS_PANE);
     ItemMeta removeMeta = removeBanked.getItemMeta();
@@ -720,14 +784,8 @@ public class StStatusCommand implements CommandExecutor {
         Component.text("Remove 5-minutes from Bank")
             .decoration(TextDecoration.ITALIC, false)
             .color(NamedTextColor.RED));
-    removeMeta
-        .getPersistentDataContainer()
-        .set(
-            new NamespacedKey(plugin, "remove_banked"),
-            org.bukkit.persistence.PersistentDataType.STRING,
-            "removeBanked");
     removeBanked.setItemMeta(removeMeta);
-    inv.setItem(48, removeBanked);
+    menu.setItem(48, removeBanked, this::withdrawBankedChunk);
 
     ItemStack addBanked = new ItemStack(Material.LIME_STAINED_GLASS_PANE);
     ItemMeta addMeta = addBanked.getItemMeta();
@@ -735,43 +793,77 @@ public class StStatusCommand implements CommandExecutor {
         Component.text("Add 5-minutes from Bank")
             .decoration(TextDecoration.ITALIC, false)
             .color(NamedTextColor.GREEN));
-    addMeta
-        .getPersistentDataContainer()
-        .set(
-            new NamespacedKey(plugin, "add_banked"),
-            org.bukkit.persistence.PersistentDataType.STRING,
-            "addBanked");
     addBanked.setItemMeta(addMeta);
-    inv.setItem(50, addBanked);
-
-    player.openInventory(inv);
-
-    runWhileOpen(
-        player,
-        title,
-        () -> {
-          PlaytimeData d = PlaytimeTracker.getData(player.getUniqueId());
-          double sl = d != null ? d.getAvailableSeconds() : 0;
-          double h = sl / 3600;
-          double m = (sl % 3600) / 60;
-          double s = sl % 60;
-          String f = formatTimeLeft(h, m, s);
-          ItemStack clock = new ItemStack(Material.CLOCK);
-          ItemMeta cm = clock.getItemMeta();
-          cm.displayName(
-              Component.text("Time Left")
-                  .decoration(TextDecoration.ITALIC, false)
-                  .color(NamedTextColor.WHITE));
-          cm.lore(
-              wrapLoreLine(f, 25).stream()
-                  .map(
-                      line ->
-                          Component.text(line, NamedTextColor.GREEN)
-                              .decoration(TextDecoration.ITALIC, true))
-                  .toList());
-          clock.setItemMeta(cm);
-          player.getOpenInventory().setItem(20, clock);
-        });
+    menu.setItem(50, addBanked, this::depositBankedChunk);
+
+    menu.open(player);
+
+  }
+
+  /** Builds the "Time Left" clock shown in a player's own status view. */
+  private static ItemStack buildStatusClock(long secondsLeft) {
+    String formatted =
+        formatTimeLeft(secondsLeft / 3600, (secondsLeft % 3600) / 60, secondsLeft % 60);
+
+    ItemStack timeLeft = new ItemStack(Material.CLOCK);
+    ItemMeta timeMeta = timeLeft.getItemMeta();
+    timeMeta.displayName(
+        Component.text("Time Left")
+            .decoration(TextDecoration.ITALIC, false)
+            .color(NamedTextColor.WHITE));
+    timeMeta.lore(
+        wrapLoreLine(formatted, 25).stream()
+            .map(
+                line ->
+                    Component.text(line, NamedTextColor.GREEN)
+                        .decoration(TextDecoration.ITALIC, true))
+            .toList());
+    timeLeft.setItemMeta(timeMeta);
+    return timeLeft;
+  }
+
+  /**
+   * Moves 5 minutes of a player's available time into their bank, as long as more than 10 minutes
+   * would be left, then refreshes their status view.
+   */
+  private void depositBankedChunk(Player player) {
+    PlaytimeData data = PlaytimeTracker.getData(player.getUniqueId());
+    if (data == null) {
+      return;
+    }
+    double secondsLeft = data.getAvailableSeconds();
+    if (secondsLeft - 300 > 600) {
+      data.setBankedTickets(data.getBankedTickets() + 1);
+      data.addAvailableSeconds(-300);
+      player.sendMessage("Added a 5-minute chunk to your bank!");
+    } else {
+      player.sendMessage("You cannot bank more chunks (must keep more than 10 minutes remaining).");
+    }
+    openStatusInventory(player);
+  }
+
+  /**
+   * Moves 5 minutes from a player's bank back into their available time, as long as they have less
+   * than 55 minutes left, then refreshes their status view.
+   */
+  private void withdrawBankedChunk(Player player) {
+    PlaytimeData data = PlaytimeTracker.getData(player.getUniqueId());
+    if (data == null) {
+      return;
+    }
+    int banked = data.getBankedTickets();
+    if (banked > 0) {
+      if (data.getAvailableSeconds() < 3600 - 300) {
+        data.setBankedTickets(banked - 1);
+        data.addAvailableSeconds(300);
+        player.sendMessage("Removed a 5-minute chunk from your bank!");
+      } else {
+        player.sendMessage("You can only add time if you have less than 55 minutes remaining.");
+      }
+    } else {
+      player.sendMessage("You have no banked chunks to remove.");
+    }
+    openStatusInventory(player);
   }
 
   /** Wraps a string into lines of maxLineLength, not breaking words. */
@@ -130,6 +130,54 @@ public class SettingsManager {
     return config.getDouble("multipliers.social-cap", 2.0);
   }
 
+  /**
+   * Retrieves how often dirty playtime data is flushed to the database.
+   *
+   * <p>This method fetches the "playtime.flush-interval-seconds" setting from the configuration
+   * file. If the setting is not found, the default value of 30 seconds is returned.
+   *
+   * @return The playtime flush interval in seconds.
+   */
+  public static int getPlaytimeFlushIntervalSeconds() {
+    return config.getInt("playtime.flush-interval-seconds", 30);
+  }
+
+  /**
+   * Retrieves how long an offline player's playtime is kept in memory before it is evicted.
+   *
+   * <p>This method fetches the "playtime.evict-after-seconds" setting from the configuration file.
+   * If the setting is not found, the default value of 300 seconds (5 minutes) is returned.
+   *
+   * @return The playtime eviction delay in seconds.
+   */
+  public static int getPlaytimeEvictAfterSeconds() {
+    return config.getInt("playtime.evict-after-seconds", 300);
+  }
+
+  /**
+   * Retrieves how long arena block changes may run each tick.
+   *
+   * <p>This method fetches the "arena.restore-budget-micros" setting from the configuration file.
+   * If the setting is not found, the default value of 2000 microseconds (2 ms) is returned.
+   *
+   * @return The per-tick arena restore budget in microseconds.
+   */
+  public static int getArenaRestoreBudgetMicros() {
+    return config.getInt("arena.restore-budget-micros", 2000);
+  }
+
+  /**
+   * Retrieves how often newly discovered biomes are written to the database.
+   *
+   * <p>This method fetches the "biomes.flush-interval-seconds" setting from the configuration file.
+   * If the setting is not found, the default value of 10 seconds is returned.
+   *
+   * @return The biome discovery flush interval in seconds.
+   */
+  public static int getBiomeFlushIntervalSeconds() {
+    return config.getInt("biomes.flush-interval-seconds", 10);
+  }
+
   /**
    * Retrieves the player settings for a specific player. If the player settings don't exist yet,
    * create a new `PlayerSettings` object and store it.
@@ -1,9 +1,14 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.ArenaSnapshot;
+import com.storytimeproductions.models.stgames.BlockChangeSet;
+import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 import net.kyori.adventure.text.Component;
@@ -16,7 +21,6 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Sound;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFlag;
@@ -30,8 +34,35 @@ import org.bukkit.inventory.meta.ItemMeta;
 public class BlockPartyGame implements Minigame {
   private final GameConfig config;
   private final List<Player> players = new ArrayList<>();
-  private final List<Location> platformBlocks = new ArrayList<>();
-  private final List<Location> originalPlatformBlocks = new ArrayList<>();
+  private static final Material[] COLORS = {
+    Material.WHITE_CONCRETE,
+    Material.ORANGE_CONCRETE,
+    Material.MAGENTA_CONCRETE,
+    Material.LIGHT_BLUE_CONCRETE,
+    Material.YELLOW_CONCRETE,
+    Material.LIME_CONCRETE,
+    Material.PINK_CONCRETE,
+    Material.GRAY_CONCRETE,
+    Material.LIGHT_GRAY_CONCRETE,
+    Material.CYAN_CONCRETE,
+    Material.PURPLE_CONCRETE,
+    Material.BLUE_CONCRETE,
+    Material.BROWN_CONCRETE,
+    Material.GREEN_CONCRETE,
+    Material.RED_CONCRETE,
+    Material.BLACK_CONCRETE
+  };
+
+  // The floor is kept in memory: floorColors[(x - minX) * FLOOR_SIZE + (z - minZ)] is the colour
+  // currently shown at that cell, or null if the cell is not part of the platform or was removed
+  private static final int FLOOR_SIZE = 10;
+  private final Material[] floorColors = new Material[FLOOR_SIZE * FLOOR_SIZE];
+  private final List<Integer> platformCells = new ArrayList<>();
+  private ArenaSnapshot floorSnapshot;
+  private World floorWorld;
+  private int floorMinX;
+  private int floorMinZ;
+  private int floorY;
 
   private boolean inGracePeriod = false;
 
@@ -72,8 +103,9 @@ public class BlockPartyGame implements Minigame {
     postRemovalDelaySeconds = 3;
     postRemovalDelayCurrent = 0;
     winner = null;
-    platformBlocks.clear();
-    originalPlatformBlocks.clear();
+    platformCells.clear();
+    Arrays.fill(floorColors, null);
+    floorSnapshot = null;
 
     Location area = config.getGameArea();
     if (area == null) {
@@ -85,49 +117,30 @@ public class BlockPartyGame implements Minigame {
       return;
     }
 
-    int minX = area.getBlockX() - 4;
-    int maxX = area.getBlockX() + 4;
-    int minZ = area.getBlockZ() - 4;
-    int maxZ = area.getBlockZ() + 4;
-    int y = area.getBlockY();
-
-    Material[] colors = {
-      Material.WHITE_CONCRETE,
-      Material.ORANGE_CONCRETE,
-      Material.MAGENTA_CONCRETE,
-      Material.LIGHT_BLUE_CONCRETE,
-      Material.YELLOW_CONCRETE,
-      Material.LIME_CONCRETE,
-      Material.PINK_CONCRETE,
-      Material.GRAY_CONCRETE,
-      Material.LIGHT_GRAY_CONCRETE,
-      Material.CYAN_CONCRETE,
-      Material.PURPLE_CONCRETE,
-      Material.BLUE_CONCRETE,
-      Material.BROWN_CONCRETE,
-      Material.GREEN_CONCRETE,
-      Material.RED_CONCRETE,
-      Material.BLACK_CONCRETE
-    };
-    Random rand = new Random();
-
-    platformBlocks.clear();
-    originalPlatformBlocks.clear(); // Only clear here, never again!
-    for (int x = minX; x <= maxX; x += 2) {
-      for (int z = minZ; z <= maxZ; z += 2) {
-        Material color = colors[rand.nextInt(colors.length)];
+    floorWorld = world;
+    floorMinX = area.getBlockX() - 4;
+    floorMinZ = area.getBlockZ() - 4;
+    floorY = area.getBlockY();
+    floorSnapshot =
+        ArenaSnapshot.capture(
+            new Cuboid(
+                world,
+                floorMinX,
+                floorY,
+                floorMinZ,
+                floorMinX + FLOOR_SIZE - 1,
+                floorY,
+                floorMinZ + FLOOR_SIZE - 1));
+
+    // The platform is every solid cell of the floor; the first round paints it
+    for (int x = 0; x < FLOOR_SIZE; x += 2) {
+      for (int z = 0; z < FLOOR_SIZE; z += 2) {
         for (int dx = 0; dx < 2; dx++) {
           for (int dz = 0; dz < 2; dz++) {
-            int bx = x + dx;
-            int bz = z + dz;
-            Block block = world.getBlockAt(bx, y, bz);
-            if (block.getType() != Material.AIR && block.getType() != Material.BARRIER) {
-              Location loc = block.getLocation().clone();
-              if (!originalPlatformBlocks.contains(loc)) {
-                originalPlatformBlocks.add(loc);
-              }
-              block.setType(color);
-              platformBlocks.add(loc);
+            Material type =
+                floorSnapshot.getMaterial(floorMinX + x + dx, floorY, floorMinZ + z + dz);
+            if (type != Material.AIR && type != Material.BARRIER) {
+              platformCells.add((x + dx) * FLOOR_SIZE + (z + dz));
             }
           }
         }
@@ -203,69 +216,53 @@ public class BlockPartyGame implements Minigame {
 
   // Add this method to regenerate the floor with random colors
   private void regenerateFloor() {
-    if (originalPlatformBlocks.isEmpty()) {
+    if (platformCells.isEmpty()) {
       return;
     }
 
-    Material[] colors = {
-      Material.WHITE_CONCRETE,
-      Material.ORANGE_CONCRETE,
-      Material.MAGENTA_CONCRETE,
-      Material.LIGHT_BLUE_CONCRETE,
-      Material.YELLOW_CONCRETE,
-      Material.LIME_CONCRETE,
-      Material.PINK_CONCRETE,
-      Material.GRAY_CONCRETE,
-      Material.LIGHT_GRAY_CONCRETE,
-      Material.CYAN_CONCRETE,
-      Material.PURPLE_CONCRETE,
-      Material.BLUE_CONCRETE,
-      Material.BROWN_CONCRETE,
-      Material.GREEN_CONCRETE,
-      Material.RED_CONCRETE,
-      Material.BLACK_CONCRETE
-    };
     Random rand = new Random();
-    platformBlocks.clear();
+    Arrays.fill(floorColors, null);
 
-    // 1. Pick a random location to be the target block
-    int targetIndex = rand.nextInt(originalPlatformBlocks.size());
-    Location targetLoc = originalPlatformBlocks.get(targetIndex);
+    // 1. Pick a random cell to be the target block
+    int targetCell = platformCells.get(rand.nextInt(platformCells.size()));
 
     // 2. Pick a random color for the target
-    Material targetColor = colors[rand.nextInt(colors.length)];
+    Material targetColor = COLORS[rand.nextInt(COLORS.length)];
 
     // 3. Assign colors to all blocks, ensuring only one block has the target color
     // and no two adjacent blocks have the same color
-    for (Location loc : originalPlatformBlocks) {
-      Block block = loc.getWorld().getBlockAt(loc);
+    BlockChangeSet changes = new BlockChangeSet(floorWorld);
+    for (int cell : platformCells) {
+      int cx = cell / FLOOR_SIZE;
+      int cz = cell % FLOOR_SIZE;
       Material color;
-      if (loc.equals(targetLoc)) {
+      if (cell == targetCell) {
         color = targetColor;
       } else {
         // Pick a color that is not the target color and not the same as any adjacent
-        // block
-        List<Material> possibleColors = new ArrayList<>(List.of(colors));
+        // block already painted this round
+        List<Material> possibleColors = new ArrayList<>(List.of(COLORS));
         possibleColors.remove(targetColor);
 
         // Check adjacent blocks (N, S, E, W)
         for (int[] offset : new int[][] {{1, 0}, {-1, 0}, {0, 1}, {0, -1}}) {
-          Location adj = loc.clone().add(offset[0], 0, offset[1]);
-          if (platformBlocks.contains(adj)) {
-            Block adjBlock = adj.getWorld().getBlockAt(adj);
-            possibleColors.remove(adjBlock.getType());
+          int ax = cx + offset[0];
+          int az = cz + offset[1];
+          if (ax >= 0 && ax < FLOOR_SIZE && az >= 0 && az < FLOOR_SIZE) {
+            possibleColors.remove(floorColors[ax * FLOOR_SIZE + az]);
           }
         }
         // Fallback in case all colors are removed (shouldn't happen with 15+ colors)
         if (possibleColors.isEmpty()) {
-          possibleColors.addAll(List.of(colors));
+          possibleColors.addAll(List.of(COLORS));
           possibleColors.remove(targetColor);
         }
         color = possibleColors.get(rand.nextInt(possibleColors.size()));
       }
-      block.setType(color);
-      platformBlocks.add(loc.clone());
+      floorColors[cell] = color;
+      changes.set(floorMinX + cx, floorY, floorMinZ + cz, color);
     }
+    BlockChangeQueue.submit(changes);
 
     // Set the current target color and location for this round
     currentTargetColor = targetColor;
@@ -279,10 +276,9 @@ public class BlockPartyGame implements Minigame {
 
     // Pick a random color from the platform
     List<Material> presentColors =
-        platformBlocks.stream()
-            .map(loc -> loc.getBlock().getType())
+        Arrays.stream(floorColors)
+            .filter(mat -> mat != null && mat.name().endsWith("_CONCRETE"))
             .distinct()
-            .filter(mat -> mat.name().endsWith("_CONCRETE"))
             .toList();
 
     if (presentColors.isEmpty()) {
@@ -318,11 +314,17 @@ public class BlockPartyGame implements Minigame {
   }
 
   private void removeNonTargetBlocks() {
-    for (Location loc : platformBlocks) {
-      Block block = loc.getBlock();
-      if (block.getType() != currentTargetColor) {
-        block.setType(Material.AIR);
+    if (floorWorld != null) {
+      BlockChangeSet changes = new BlockChangeSet(floorWorld);
+      for (int cell : platformCells) {
+        if (floorColors[cell] != null && floorColors[cell] != currentTargetColor) {
+          floorColors[cell] = null;
+          int x = floorMinX + cell / FLOOR_SIZE;
+          int z = floorMinZ + cell % FLOOR_SIZE;
+          changes.set(x, floorY, z, Material.AIR);
+        }
       }
+      BlockChangeQueue.submit(changes);
     }
     // Play block removal sound for all players
     for (Player player : players) {
@@ -476,7 +478,11 @@ public class BlockPartyGame implements Minigame {
   /** Cleans up resources when the game is destroyed. */
   @Override
   public void onDestroy() {
-    regenerateFloor();
+    // Put back the floor exactly as it was before the game, touching only the cells that changed
+    if (floorSnapshot != null) {
+      BlockChangeQueue.submit(floorSnapshot.restore());
+      floorSnapshot = null;
+    }
 
     if (winner != null) {
       ItemStack tickets = new ItemStack(Material.NAME_TAG, initialPlayerCount);
@@ -1,7 +1,11 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.ArenaSnapshot;
+import com.storytimeproductions.models.stgames.BlockChangeSet;
+import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -16,7 +20,6 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
-import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.event.entity.PlayerDeathEvent;
@@ -134,26 +137,22 @@ public class BombermanGame implements Minigame {
     if (world == null) {
       return;
     }
-    int minX = Math.min(x1, x2);
-    int maxX = Math.max(x1, x2);
-    int minY = Math.min(y1, y2);
-    int maxY = Math.max(y1, y2);
-    int minZ = Math.min(z1, z2);
-    int maxZ = Math.max(z1, z2);
+    Cuboid region = new Cuboid(world, x1, y1, z1, x2, y2, z2);
+    ArenaSnapshot current = ArenaSnapshot.capture(region);
     Material[] choices = {Material.NETHERRACK, Material.OAK_PLANKS, Material.DIRT};
     Random random = new Random();
 
-    for (int x = minX; x <= maxX; x++) {
-      for (int y = minY; y <= maxY; y++) {
-        for (int z = minZ; z <= maxZ; z++) {
-          Location loc = new Location(world, x, y, z);
-          Block block = world.getBlockAt(loc);
-          if (block.getType() == Material.AIR) {
-            block.setType(choices[random.nextInt(choices.length)]);
+    BlockChangeSet changes = new BlockChangeSet(world);
+    for (int x = region.x1; x <= region.x2; x++) {
+      for (int y = region.y1; y <= region.y2; y++) {
+        for (int z = region.z1; z <= region.z2; z++) {
+          if (current.getMaterial(x, y, z) == Material.AIR) {
+            changes.set(x, y, z, choices[random.nextInt(choices.length)]);
           }
         }
       }
     }
+    BlockChangeQueue.submit(changes);
   }
 
   /** Called after the game has been initialized. */
@@ -1,14 +1,17 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.BlockChangeSet;
+import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
@@ -24,6 +27,10 @@ import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
 
 /**
  * Represents a Color Splat game where players can slap each other with fish. Implements the
@@ -33,7 +40,16 @@ public class ColorSplatGame implements Minigame, Listener {
   private final GameConfig config;
   private final List<Player> players = new ArrayList<>();
   private final Map<Player, Material> playerColors = new HashMap<>();
-  private final Set<Location> poolBlocks = new HashSet<>();
+  private Cuboid pool;
+
+  // In-memory pool model, updated at paint time: poolCells[(x - pool.x1) * POOL_SIZE + (z -
+  // pool.z1)] is the colour painted there, or null while the cell is still water
+  private static final int POOL_SIZE = 5;
+  private final Material[] poolCells = new Material[POOL_SIZE * POOL_SIZE];
+  private final Map<Material, Integer> paintedCounts = new EnumMap<>(Material.class);
+  private int remainingWater = 0;
+  private Scoreboard scoreboard;
+  private Objective scoreObjective;
   private boolean gameInProgress = false;
   private Location poolOrigin;
   private Location ladderLoc;
@@ -84,14 +100,28 @@ public class ColorSplatGame implements Minigame, Listener {
       wasOnGround.put(players.get(i), true);
     }
     // Fill pool with water and record locations
-    poolBlocks.clear();
-    for (int dx = 0; dx < 5; dx++) {
-      for (int dz = 0; dz < 5; dz++) {
-        Location loc = poolOrigin.clone().add(dx, 0, dz);
-        Block b = loc.getBlock();
-        b.setType(Material.WATER);
-        poolBlocks.add(b.getLocation());
-      }
+    int originX = poolOrigin.getBlockX();
+    int originY = poolOrigin.getBlockY();
+    int originZ = poolOrigin.getBlockZ();
+    pool =
+        new Cuboid(
+            poolOrigin.getWorld(), originX, originY, originZ, originX + 4, originY, originZ + 4);
+    BlockChangeSet water = new BlockChangeSet(pool.world);
+    water.fill(pool, Material.WATER);
+    BlockChangeQueue.submit(water);
+    Arrays.fill(poolCells, null);
+    paintedCounts.clear();
+    remainingWater = poolCells.length;
+
+    // Live scores, driven from the same counters as the final tally
+    scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+    scoreObjective =
+        scoreboard.registerNewObjective(
+            "colorsplat", Criteria.DUMMY, Component.text("Color Splat", NamedTextColor.GOLD));
+    scoreObjective.setDisplaySlot(DisplaySlot.SIDEBAR);
+    for (Player player : players) {
+      scoreObjective.getScore(player.getName()).setScore(0);
+      player.setScoreboard(scoreboard);
     }
     gameInProgress = true;
 
@@ -137,9 +167,16 @@ public class ColorSplatGame implements Minigame, Listener {
   /** Cleans up resources when the game is destroyed. */
   @Override
   public void onDestroy() {
+    if (scoreboard != null) {
+      for (Player player : players) {
+        player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+      }
+      scoreboard = null;
+      scoreObjective = null;
+    }
     players.clear();
     playerColors.clear();
-    poolBlocks.clear();
+    pool = null;
     gameInProgress = false;
   }
 
@@ -165,6 +202,9 @@ public class ColorSplatGame implements Minigame, Listener {
   public void leave(Player player) {
     players.remove(player);
     playerColors.remove(player);
+    if (scoreboard != null && player.getScoreboard() == scoreboard) {
+      player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+    }
   }
 
   /**
@@ -253,26 +293,30 @@ public class ColorSplatGame implements Minigame, Listener {
     if (heightRequirement.getOrDefault(player, false)
         && hasJumped.getOrDefault(player, false)
         && (to.getBlockY() == poolY || to.getBlockY() == poolY + 1)) {
-      Block toBlock = to.getBlock();
+      int cell = poolCellAt(to.getBlockX(), to.getBlockY(), to.getBlockZ());
 
-      if (toBlock.getType() == Material.WATER && poolBlocks.contains(toBlock.getLocation())) {
+      if (cell >= 0 && poolCells[cell] == null) {
         // Landed in the pool: color it and reset requirement
         Material color = playerColors.get(player);
-        toBlock.setType(color);
-
-        // Color adjacent blocks if they are not already the player's color
-        for (BlockFace face :
-            new BlockFace[] {BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST}) {
-          Block adj = toBlock.getRelative(face);
-          if (poolBlocks.contains(adj.getLocation())
-              && adj.getType() != color
-              && adj.getType() != Material.WATER) {
-            adj.setType(color);
+        paint(cell, color);
+
+        // Color adjacent blocks if they are already painted, but not in the player's color
+        int cx = cell / POOL_SIZE;
+        int cz = cell % POOL_SIZE;
+        for (int[] offset : new int[][] {{0, -1}, {1, 0}, {0, 1}, {-1, 0}}) {
+          int ax = cx + offset[0];
+          int az = cz + offset[1];
+          if (ax < 0 || ax >= POOL_SIZE || az < 0 || az >= POOL_SIZE) {
+            continue;
+          }
+          Material adjacent = poolCells[ax * POOL_SIZE + az];
+          if (adjacent != null && adjacent != color) {
+            paint(ax * POOL_SIZE + az, color);
           }
         }
 
         // Check if pool is finished
-        if (isPoolFull()) {
+        if (remainingWater == 0) {
           endGameAndAwardWinner();
         }
       }
@@ -293,14 +337,43 @@ public class ColorSplatGame implements Minigame, Listener {
     }
   }
 
-  private boolean isPoolFull() {
-    for (Location loc : poolBlocks) {
-      Material type = loc.getBlock().getType();
-      if (type == Material.WATER) {
-        return false;
+  /** Gets the pool model index of a block, or -1 if the block is not part of the pool. */
+  private int poolCellAt(int x, int y, int z) {
+    if (x < pool.x1 || x > pool.x2 || y != pool.y1 || z < pool.z1 || z > pool.z2) {
+      return -1;
+    }
+    return (x - pool.x1) * POOL_SIZE + (z - pool.z1);
+  }
+
+  /** Paints a pool cell, keeping the water and per-colour counters and the scoreboard in step. */
+  private void paint(int cell, Material color) {
+    Material previous = poolCells[cell];
+    if (previous == color) {
+      return;
+    }
+    if (previous == null) {
+      remainingWater--;
+    } else {
+      paintedCounts.merge(previous, -1, Integer::sum);
+    }
+    paintedCounts.merge(color, 1, Integer::sum);
+    poolCells[cell] = color;
+    pool.world
+        .getBlockAt(pool.x1 + cell / POOL_SIZE, pool.y1, pool.z1 + cell % POOL_SIZE)
+        .setType(color);
+
+    if (scoreObjective != null) {
+      for (Map.Entry<Player, Material> entry : playerColors.entrySet()) {
+        if (entry.getValue() == color || entry.getValue() == previous) {
+          scoreObjective.getScore(entry.getKey().getName()).setScore(scoreOf(entry.getValue()));
+        }
       }
     }
-    return true;
+  }
+
+  /** Gets the number of pool cells currently painted in a colour. */
+  private int scoreOf(Material color) {
+    return paintedCounts.getOrDefault(color, 0);
   }
 
   private void endGameAndAwardWinner() {
@@ -310,12 +383,9 @@ public class ColorSplatGame implements Minigame, Listener {
     for (Player p : players) {
       scores.put(p, 0);
     }
-    for (Location loc : poolBlocks) {
-      Material type = loc.getBlock().getType();
-      for (Map.Entry<Player, Material> entry : playerColors.entrySet()) {
-        if (entry.getValue() == type) {
-          scores.put(entry.getKey(), scores.get(entry.getKey()) + 1);
-        }
+    for (Map.Entry<Player, Material> entry : playerColors.entrySet()) {
+      if (scores.containsKey(entry.getKey())) {
+        scores.put(entry.getKey(), scoreOf(entry.getValue()));
       }
     }
     // Find winner (highest score, first in case of tie)
@@ -1,5 +1,6 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.BlockKey;
 import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
@@ -48,15 +49,13 @@ public class GymGame implements Minigame, Listener {
   private final Map<Location, TextDisplay> punchingBagDisplays = new HashMap<>();
   private final Map<Integer, TextDisplay> treadmillDisplays = new HashMap<>();
   private final Map<Location, TextDisplay> trampolineDisplays = new HashMap<>();
-  private final List<Cuboid> treadmillCuboids = new ArrayList<>();
   private final Map<UUID, Location> lastTrampoline = new HashMap<>();
   private final Map<Location, Integer> squatCounts = new HashMap<>();
   private final Map<Location, TextDisplay> squatDisplays = new HashMap<>();
   private final Map<UUID, Boolean> lastSneakState = new HashMap<>();
   private final List<Cuboid> squatCuboids = new ArrayList<>();
   private Block leaveBlock;
-  private final Map<Cuboid, Location> punchingBagCuboidToBase = new HashMap<>();
-  private final List<Cuboid> punchingBagCuboids = new ArrayList<>();
+  private final GymStations stations = new GymStations();
 
   /**
    * Constructs a new GymGame with the specified configuration and plugin.
@@ -70,10 +69,11 @@ public class GymGame implements Minigame, Listener {
 
   @Override
   public void onInit() {
+    stations.clear();
+
     // --- Punching Bags ---
     int punchingBagCount =
         Integer.parseInt(config.getGameProperties().get("punchingBagCount").toString());
-    punchingBagCuboids.clear();
     for (int i = 1; i <= punchingBagCount; i++) {
       String[] regionParts =
           ((String) config.getGameProperties().get("punchingBagRegion" + i)).split(",");
@@ -85,15 +85,16 @@ public class GymGame implements Minigame, Listener {
       int y2 = Integer.parseInt(regionParts[5]);
       int z2 = Integer.parseInt(regionParts[6]);
       Cuboid cuboid = new Cuboid(world, x1, y1, z1, x2, y2, z2);
-      punchingBagCuboids.add(cuboid);
 
       int centerX = (cuboid.x1 + cuboid.x2) / 2;
       int minY = cuboid.y1;
       int centerZ = (cuboid.z1 + cuboid.z2) / 2;
       Location base = new Location(world, centerX, minY, centerZ);
-      punchingBagCuboidToBase.put(cuboid, base);
       punchingBagCounts.put(base, goal);
 
+      // Every block of the bag can be punched
+      stations.addPunchingBag(cuboid, base);
+
       TextDisplay display =
           spawnDisplay(
               world,
@@ -105,7 +106,6 @@ public class GymGame implements Minigame, Listener {
     // --- Treadmills ---
     int treadmillCount =
         Integer.parseInt(config.getGameProperties().get("treadmillCount").toString());
-    treadmillCuboids.clear();
     for (int i = 1; i <= treadmillCount; i++) {
       String[] regionParts =
           ((String) config.getGameProperties().get("treadmillRegion" + i)).split(",");
@@ -117,7 +117,7 @@ public class GymGame implements Minigame, Listener {
       int y2 = Integer.parseInt(regionParts[5]);
       int z2 = Integer.parseInt(regionParts[6]);
       Cuboid cuboid = new Cuboid(world, x1, y1, z1, x2, y2, z2);
-      treadmillCuboids.add(cuboid);
+      registerTreadmill(i - 1, cuboid);
 
       Location back = new Location(world, x1, y1, z1);
       treadmillCounts.put(i - 1, 0);
@@ -153,6 +153,9 @@ public class GymGame implements Minigame, Listener {
       Location loc = new Location(world, centerX, minY, centerZ);
       trampolineCounts.put(loc, goal);
 
+      stations.addTrampoline(
+          loc, world.getBlockAt(centerX, minY, centerZ).getType() == Material.SLIME_BLOCK);
+
       TextDisplay display =
           spawnDisplay(
               world,
@@ -211,6 +214,19 @@ public class GymGame implements Minigame, Listener {
     Bukkit.getPluginManager().registerEvents(this, plugin);
   }
 
+  /**
+   * Resolves which end of a treadmill is the front, the block next to a quartz block, and which is
+   * the back, and registers the front so stepping onto it can be found with a single lookup.
+   */
+  private void registerTreadmill(int index, Cuboid cuboid) {
+    Location front = getTreadmillFront(cuboid);
+    if (front == null) {
+      plugin.getLogger().warning("Treadmill " + (index + 1) + " has no quartz block at its front");
+      return;
+    }
+    stations.addTreadmill(index, cuboid, front);
+  }
+
   private TextDisplay spawnDisplay(World world, Location loc, Component text) {
     return world.spawn(
         loc,
@@ -307,6 +323,8 @@ public class GymGame implements Minigame, Listener {
     squatCounts.clear();
     squatCuboids.clear();
     lastSneakState.clear();
+    stations.clear();
+    lastTrampoline.clear();
   }
 
   @Override
@@ -326,6 +344,9 @@ public class GymGame implements Minigame, Listener {
    */
   @Override
   public void onInteract(PlayerInteractEvent event) {
+    if (!players.contains(event.getPlayer())) {
+      return;
+    }
     // Allow leaving the gym by clicking the leave block
     Block block = event.getClickedBlock();
     if (block != null
@@ -343,28 +364,26 @@ public class GymGame implements Minigame, Listener {
     if (clickedBlock == null) {
       return;
     }
-    Location hitLoc = clickedBlock.getLocation();
-
-    // Check if the clicked block is inside any punching bag cuboid
-    for (Cuboid cuboid : punchingBagCuboids) {
-      if (cuboid.contains(hitLoc)) {
-        Location base = punchingBagCuboidToBase.get(cuboid);
-        int left = punchingBagCounts.get(base) - 1;
-        punchingBagCounts.put(base, left);
-        setDisplayText(
-            punchingBagDisplays.get(base),
-            Component.text("Punches left: " + (left > 0 ? left : 0), NamedTextColor.YELLOW));
-        if (left <= 0) {
-          giveTimeTicket(event.getPlayer());
-          punchingBagCounts.put(base, goal);
-          setDisplayText(
-              punchingBagDisplays.get(base),
-              Component.text("Punches left: " + goal, NamedTextColor.YELLOW));
-        }
-        event.setCancelled(true);
-        return;
-      }
+
+    // Check if the clicked block is part of a punching bag
+    GymStations.Station station = stations.get(clickedBlock.getLocation());
+    if (station == null || station.punchingBag == null) {
+      return;
     }
+    Location base = station.punchingBag;
+    int left = punchingBagCounts.get(base) - 1;
+    punchingBagCounts.put(base, left);
+    setDisplayText(
+        punchingBagDisplays.get(base),
+        Component.text("Punches left: " + (left > 0 ? left : 0), NamedTextColor.YELLOW));
+    if (left <= 0) {
+      giveTimeTicket(event.getPlayer());
+      punchingBagCounts.put(base, goal);
+      setDisplayText(
+          punchingBagDisplays.get(base),
+          Component.text("Punches left: " + goal, NamedTextColor.YELLOW));
+    }
+    event.setCancelled(true);
   }
 
   /**
@@ -375,100 +394,62 @@ public class GymGame implements Minigame, Listener {
   @Override
   public void onMove(PlayerMoveEvent event) {
     Player player = event.getPlayer();
+    if (!players.contains(player)) {
+      return;
+    }
     Location to = event.getTo();
     Location from = event.getFrom();
 
-    // --- Treadmill logic ---
-    for (int i = 0; i < treadmillCuboids.size(); i++) {
-      Cuboid treadmillCuboid = treadmillCuboids.get(i);
-      Location front = getTreadmillFront(treadmillCuboid);
-      if (front == null) {
-        continue;
-      }
+    GymStations.Station station = stations.get(to);
 
-      // The "back" is the other block in the cuboid
-      List<Location> treadmillBlocks = new ArrayList<>();
-      World world = treadmillCuboid.world;
-      for (int x = Math.min(treadmillCuboid.x1, treadmillCuboid.x2);
-          x <= Math.max(treadmillCuboid.x1, treadmillCuboid.x2);
-          x++) {
-        for (int y = Math.min(treadmillCuboid.y1, treadmillCuboid.y2);
-            y <= Math.max(treadmillCuboid.y1, treadmillCuboid.y2);
-            y++) {
-          for (int z = Math.min(treadmillCuboid.z1, treadmillCuboid.z2);
-              z <= Math.max(treadmillCuboid.z1, treadmillCuboid.z2);
-              z++) {
-            treadmillBlocks.add(new Location(world, x, y, z));
-          }
-        }
-      }
-      treadmillBlocks.removeIf(loc -> loc.equals(front));
-      Location back = treadmillBlocks.isEmpty() ? null : treadmillBlocks.get(0);
-
-      if (back != null
-          && from.getBlock().equals(back.getBlock())
-          && to.getBlock().equals(front.getBlock())) {
-        int meters = treadmillCounts.getOrDefault(i, 0) + 1;
-        treadmillCounts.put(i, meters);
+    // --- Treadmill logic ---
+    // Stepping from the back of a treadmill onto its front
+    if (station != null && station.treadmill >= 0 && BlockKey.pack(from) == station.treadmillBack) {
+      int i = station.treadmill;
+      int meters = treadmillCounts.getOrDefault(i, 0) + 1;
+      treadmillCounts.put(i, meters);
+      setDisplayText(
+          treadmillDisplays.get(i),
+          Component.text("Meters: " + meters + "/" + goal, NamedTextColor.YELLOW));
+      // Teleport player to back block, preserving yaw and pitch
+      Location tp = station.treadmillReturn.clone();
+      tp.setYaw(to.getYaw());
+      tp.setPitch(to.getPitch());
+      player.teleport(tp);
+      if (meters >= goal) {
+        giveTimeTicket(player);
+        treadmillCounts.put(i, 0);
         setDisplayText(
-            treadmillDisplays.get(i),
-            Component.text("Meters: " + meters + "/" + goal, NamedTextColor.YELLOW));
-        // Teleport player to back block, preserving yaw and pitch
-        Location tp = back.clone().add(0.5, 0.5, 0.5);
-        tp.setYaw(to.getYaw());
-        tp.setPitch(to.getPitch());
-        player.teleport(tp);
-        if (meters >= goal) {
-          giveTimeTicket(player);
-          treadmillCounts.put(i, 0);
-          setDisplayText(
-              treadmillDisplays.get(i), Component.text("Meters: 0/" + goal, NamedTextColor.YELLOW));
-        }
-        break;
+            treadmillDisplays.get(i), Component.text("Meters: 0/" + goal, NamedTextColor.YELLOW));
       }
     }
 
     // --- Trampoline logic ---
-    for (Location tramp : trampolineCounts.keySet()) {
-      // Check if player is standing on the trampoline slime block
-      if (to.getBlockX() == tramp.getBlockX()
-          && to.getBlockY() - 1 == tramp.getBlockY()
-          && to.getBlockZ() == tramp.getBlockZ()
-          && tramp.getBlock().getType() == Material.SLIME_BLOCK) {
-        // Only decrement if the player was NOT just on this trampoline
-        if (!tramp.equals(lastTrampoline.get(player.getUniqueId()))) {
-          int jumps = trampolineCounts.get(tramp) - 1;
-          trampolineCounts.put(tramp, jumps);
-          setDisplayText(
-              trampolineDisplays.get(tramp),
-              Component.text("Jumps left: " + (jumps > 0 ? jumps : 0), NamedTextColor.YELLOW));
-          if (jumps <= 0) {
-            giveTimeTicket(player);
-            trampolineCounts.put(tramp, goal);
-            setDisplayText(
-                trampolineDisplays.get(tramp),
-                Component.text("Jumps left: " + goal, NamedTextColor.YELLOW));
-          }
-        }
-        lastTrampoline.put(player.getUniqueId(), tramp);
-        break;
-      }
+    if (station == null || station.trampoline == null) {
+      // Clean up when player leaves the trampoline
+      lastTrampoline.remove(player.getUniqueId());
+      return;
     }
-    // Clean up when player leaves the trampoline
-    if (lastTrampoline.containsKey(player.getUniqueId())) {
-      boolean onAnyTramp = false;
-      for (Location tramp : trampolineCounts.keySet()) {
-        if (to.getBlockX() == tramp.getBlockX()
-            && to.getBlockY() - 1 == tramp.getBlockY()
-            && to.getBlockZ() == tramp.getBlockZ()) {
-          onAnyTramp = true;
-          break;
-        }
-      }
-      if (!onAnyTramp) {
-        lastTrampoline.remove(player.getUniqueId());
+    if (!station.bouncy) {
+      return;
+    }
+    Location tramp = station.trampoline;
+    // Only decrement if the player was NOT just on this trampoline
+    if (!tramp.equals(lastTrampoline.get(player.getUniqueId()))) {
+      int jumps = trampolineCounts.get(tramp) - 1;
+      trampolineCounts.put(tramp, jumps);
+      setDisplayText(
+          trampolineDisplays.get(tramp),
+          Component.text("Jumps left: " + (jumps > 0 ? jumps : 0), NamedTextColor.YELLOW));
+      if (jumps <= 0) {
+        giveTimeTicket(player);
+        trampolineCounts.put(tramp, goal);
+        setDisplayText(
+            trampolineDisplays.get(tramp),
+            Component.text("Jumps left: " + goal, NamedTextColor.YELLOW));
       }
     }
+    lastTrampoline.put(player.getUniqueId(), tramp);
   }
 
   private Location getTreadmillFront(Cuboid treadmillCuboid) {
@@ -591,6 +572,9 @@ public class GymGame implements Minigame, Listener {
   @Override
   public void onSneak(org.bukkit.event.player.PlayerToggleSneakEvent event) {
     Player player = event.getPlayer();
+    if (!players.contains(player)) {
+      return;
+    }
     boolean isSneaking = event.isSneaking();
     UUID uuid = player.getUniqueId();
 
@@ -0,0 +1,121 @@
+package com.storytimeproductions.stweaks.games;
+
+import com.storytimeproductions.models.stgames.BlockKey;
+import com.storytimeproductions.models.stgames.Cuboid;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+/**
+ * The gym's station index: what every block of every station does, keyed by the block's packed
+ * position and resolved once when the game starts. A move or click then finds its station with a
+ * single lookup instead of rebuilding and scanning every station's geometry.
+ */
+final class GymStations {
+  private final Map<Long, Station> stations = new HashMap<>();
+
+  /** Forgets every station. */
+  void clear() {
+    stations.clear();
+  }
+
+  /**
+   * Registers every block of a punching bag. Where bags overlap the first one registered wins.
+   *
+   * @param bag The bag's region.
+   * @param base The bag's base, which identifies it.
+   */
+  void addPunchingBag(Cuboid bag, Location base) {
+    for (int x = bag.x1; x <= bag.x2; x++) {
+      for (int y = bag.y1; y <= bag.y2; y++) {
+        for (int z = bag.z1; z <= bag.z2; z++) {
+          Station station = stationAt(bag.world, x, y, z);
+          if (station.punchingBag == null) {
+            station.punchingBag = base;
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Registers the front of a treadmill, so stepping onto it from the back is one lookup. The back
+   * is the first other block of the treadmill's region.
+   *
+   * @param index The treadmill's index.
+   * @param treadmill The treadmill's region.
+   * @param front The block at the front of the treadmill.
+   */
+  void addTreadmill(int index, Cuboid treadmill, Location front) {
+    long frontKey = BlockKey.pack(front);
+    for (Location loc : treadmill.getLocations()) {
+      long key = BlockKey.pack(loc);
+      if (key == frontKey) {
+        continue;
+      }
+      Station station = stations.computeIfAbsent(frontKey, k -> new Station(treadmill.world));
+      if (station.treadmill < 0) {
+        station.treadmill = index;
+        station.treadmillBack = key;
+        station.treadmillReturn = loc.clone().add(0.5, 0.5, 0.5);
+      }
+      return;
+    }
+  }
+
+  /**
+   * Registers a trampoline. Players trigger it from the block above it, so it is keyed by that
+   * block. Where trampolines share that block the first one registered wins.
+   *
+   * @param trampoline The trampoline block, which identifies it.
+   * @param bouncy Whether the trampoline block is a slime block.
+   */
+  void addTrampoline(Location trampoline, boolean bouncy) {
+    Station station =
+        stationAt(
+            trampoline.getWorld(),
+            trampoline.getBlockX(),
+            trampoline.getBlockY() + 1,
+            trampoline.getBlockZ());
+    if (station.trampoline == null) {
+      station.trampoline = trampoline;
+      station.bouncy = bouncy;
+    }
+  }
+
+  /**
+   * Gets the station entry for the block a location is in.
+   *
+   * @param loc The location.
+   * @return The station, or null if the block is not part of one.
+   */
+  Station get(Location loc) {
+    Station station = stations.get(BlockKey.pack(loc));
+    return station != null && Objects.equals(station.world, loc.getWorld()) ? station : null;
+  }
+
+  /** Gets the station entry for a block, creating an empty one if there is none yet. */
+  private Station stationAt(World world, int x, int y, int z) {
+    return stations.computeIfAbsent(BlockKey.pack(x, y, z), k -> new Station(world));
+  }
+
+  /**
+   * Everything a single block does in the gym. A block can be the front of a treadmill, the block
+   * above a trampoline and part of a punching bag at once.
+   */
+  static final class Station {
+    final World world;
+    int treadmill = -1;
+    long treadmillBack;
+    Location treadmillReturn;
+    Location trampoline;
+    boolean bouncy;
+    Location punchingBag;
+
+    private Station(World world) {
+      this.world = world;
+    }
+  }
+}
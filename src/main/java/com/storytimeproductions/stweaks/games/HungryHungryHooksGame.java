@@ -1,13 +1,17 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.title.Title;
@@ -19,11 +23,13 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
 import org.bukkit.enchantments.Enchantment;
-import org.bukkit.entity.EntityType;
 import org.bukkit.entity.Firework;
 import org.bukkit.entity.Pig;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.FireworkMeta;
@@ -65,6 +71,13 @@ public class HungryHungryHooksGame implements Minigame, Listener {
   };
   private final List<Cuboid> teamPens = new ArrayList<>();
 
+  // The pigs this game spawned, in spawn order. Pigs leave the registry when they are scored,
+  // die or are removed from the world, so nothing here ever scans the world's entities. Game pigs
+  // are not saved with their chunk, so a pig removed by a chunk unload is gone for good and never
+  // comes back untracked when the chunk reloads.
+  private final Map<UUID, Pig> gamePigs = new LinkedHashMap<>();
+  private final Location pigScratch = new Location(null, 0, 0, 0);
+
   /**
    * Constructs a new HungryHungryHooksGame game with the specified configuration.
    *
@@ -149,6 +162,8 @@ public class HungryHungryHooksGame implements Minigame, Listener {
       teamScores.put(i, 0);
     }
     setupScoreboard();
+    gamePigs.clear();
+    Bukkit.getPluginManager().registerEvents(this, Bukkit.getPluginManager().getPlugin("stweaks"));
     gameInProgress = true;
   }
 
@@ -177,8 +192,7 @@ public class HungryHungryHooksGame implements Minigame, Listener {
     if (!pigsInitiallySpawned) {
       int toSpawn = pigTargetCount;
       for (int i = 0; i < toSpawn && i < pigSpawnLocations.size(); i++) {
-        Location spawnLoc = pigSpawnLocations.get(i % pigSpawnLocations.size());
-        spawnLoc.getWorld().spawnEntity(spawnLoc, EntityType.PIG);
+        spawnPig(pigSpawnLocations.get(i % pigSpawnLocations.size()));
       }
       pigsInitiallySpawned = true;
       pigSpawnTick = 0;
@@ -189,28 +203,19 @@ public class HungryHungryHooksGame implements Minigame, Listener {
 
     if (pigSpawnTick >= pigSpawnInterval) {
       pigSpawnTick = 0;
-      int currentPigCount = 0;
-      for (Location loc : pigSpawnLocations) {
-        currentPigCount += loc.getWorld().getEntitiesByClass(Pig.class).size();
-      }
-      int toSpawn = pigTargetCount - currentPigCount;
+      int toSpawn = pigTargetCount - gamePigs.size();
       for (int i = 0; i < toSpawn && i < pigSpawnLocations.size(); i++) {
-        Location spawnLoc = pigSpawnLocations.get(i % pigSpawnLocations.size());
-        spawnLoc.getWorld().spawnEntity(spawnLoc, EntityType.PIG);
+        spawnPig(pigSpawnLocations.get(i % pigSpawnLocations.size()));
       }
     }
 
     // Check each team's pen for pigs and score
+    Pig[] firstPigInPen = findFirstPigInEachPen();
     for (int team = 0; team < teamPens.size(); team++) {
-      Cuboid pen = teamPens.get(team);
-      List<Pig> pigsInPen = new ArrayList<>();
-      for (Pig pig : pen.world.getEntitiesByClass(Pig.class)) {
-        if (pen.contains(pig.getLocation())) {
-          pigsInPen.add(pig);
-        }
-      }
-      if (!pigsInPen.isEmpty() && teamScores.get(team) < maxScore) {
-        pigsInPen.get(0).remove();
+      Pig pig = firstPigInPen[team];
+      if (pig != null && teamScores.get(team) < maxScore) {
+        gamePigs.remove(pig.getUniqueId());
+        pig.remove();
 
         for (Player p : players) {
           p.playSound(p.getLocation(), org.bukkit.Sound.ENTITY_PLAYER_LEVELUP, 1.0f, 1.0f);
@@ -221,6 +226,68 @@ public class HungryHungryHooksGame implements Minigame, Listener {
     }
   }
 
+  /** Spawns a pig that is not saved with its chunk and adds it to the registry. */
+  private void spawnPig(Location spawnLoc) {
+    Pig pig = spawnLoc.getWorld().spawn(spawnLoc, Pig.class, p -> p.setPersistent(false));
+    gamePigs.put(pig.getUniqueId(), pig);
+  }
+
+  /**
+   * Finds, for each team pen, the earliest spawned registered pig standing in it. Each pig is
+   * looked up against the pens once, so the cost scales with the pigs this game spawned.
+   */
+  private Pig[] findFirstPigInEachPen() {
+    Pig[] firstPig = new Pig[teamPens.size()];
+    Iterator<Pig> it = gamePigs.values().iterator();
+    while (it.hasNext()) {
+      Pig pig = it.next();
+      if (!pig.isValid()) {
+        it.remove();
+        continue;
+      }
+      pig.getLocation(pigScratch);
+      for (int team = 0; team < teamPens.size(); team++) {
+        if (firstPig[team] == null && teamPens.get(team).contains(pigScratch)) {
+          firstPig[team] = pig;
+          break;
+        }
+      }
+    }
+    return firstPig;
+  }
+
+  /** Removes every pig this game spawned. */
+  private void removeGamePigs() {
+    // Copy first: removing a pig fires the remove event, which edits the registry
+    List<Pig> pigs = new ArrayList<>(gamePigs.values());
+    gamePigs.clear();
+    for (Pig pig : pigs) {
+      pig.remove();
+    }
+  }
+
+  /**
+   * Drops a game pig from the registry when it dies.
+   *
+   * @param event the EntityDeathEvent
+   */
+  @EventHandler
+  public void onPigDeath(EntityDeathEvent event) {
+    gamePigs.remove(event.getEntity().getUniqueId());
+  }
+
+  /**
+   * Drops a game pig from the registry when it despawns or is otherwise removed from the world. A
+   * pig removed because its chunk unloaded is discarded rather than saved, so the game spawns a
+   * replacement instead of counting a pig that no longer exists.
+   *
+   * @param event the EntityRemoveFromWorldEvent
+   */
+  @EventHandler
+  public void onPigRemoved(EntityRemoveFromWorldEvent event) {
+    gamePigs.remove(event.getEntity().getUniqueId());
+  }
+
   /**
    * Renders the game state to all players. This method is called periodically to update the game
    * display.
@@ -267,6 +334,8 @@ public class HungryHungryHooksGame implements Minigame, Listener {
       String cmd = "dh l set " + holoName + " 1 1 " + resetBar;
       Bukkit.dispatchCommand(Bukkit.getConsoleSender(), cmd);
     }
+    HandlerList.unregisterAll(this);
+    removeGamePigs();
     players.clear();
     teamMap.clear();
     teamScores.clear();
@@ -419,13 +488,8 @@ public class HungryHungryHooksGame implements Minigame, Listener {
       objective = null;
     }
 
-    // Remove all pigs in the game world(s)
-    for (Location spawnLoc : pigSpawnLocations) {
-      World world = spawnLoc.getWorld();
-      for (Pig pig : world.getEntitiesByClass(Pig.class)) {
-        pig.remove();
-      }
-    }
+    // Remove all pigs this game spawned
+    removeGamePigs();
 
     // Launch fireworks for all winners (must be after scoreboard removal)
     for (Player p : players) {
@@ -3,6 +3,7 @@ package com.storytimeproductions.stweaks.games;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -34,6 +35,8 @@ import org.bukkit.inventory.meta.ItemMeta;
 public class ParkourGame implements Minigame, Listener {
   private final GameConfig config;
   private final Set<UUID> players = new HashSet<>();
+  private final List<Player> members = new ArrayList<>();
+  private final List<Player> membersView = Collections.unmodifiableList(members);
   private int floorLevel;
   private Location winBlockLoc;
   private Location startArea;
@@ -77,25 +80,26 @@ public class ParkourGame implements Minigame, Listener {
 
   @Override
   public void join(Player player) {
-    players.add(player.getUniqueId());
+    if (players.add(player.getUniqueId())) {
+      members.add(player);
+    }
     player.teleport(startArea);
   }
 
   @Override
   public void leave(Player player) {
-    players.remove(player.getUniqueId());
+    if (players.remove(player.getUniqueId())) {
+      members.removeIf(p -> p.getUniqueId().equals(player.getUniqueId()));
+    }
   }
 
+  /**
+   * Gets the players in the game. Players are removed when they quit, so the returned live view
+   * never holds offline players.
+   */
   @Override
   public List<Player> getPlayers() {
-    List<Player> result = new ArrayList<>();
-    for (UUID uuid : players) {
-      Player p = Bukkit.getPlayer(uuid);
-      if (p != null && p.isOnline()) {
-        result.add(p);
-      }
-    }
-    return result;
+    return membersView;
   }
 
   @Override
@@ -3,6 +3,8 @@ package com.storytimeproductions.stweaks.games;
 import com.storytimeproductions.models.stgames.BetInfo;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
+import com.storytimeproductions.stweaks.util.HologramManager;
+import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -10,8 +12,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.title.Title;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -25,6 +29,7 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.ItemFlag;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.plugin.Plugin;
 
 /**
  * Roulette game with three tables, each represented by a wall block. Players left-click to confirm,
@@ -33,6 +38,10 @@ import org.bukkit.inventory.meta.ItemMeta;
  * randomly; the table is determined by the block.
  */
 public class RouletteGame implements Minigame {
+  private static final LegacyComponentSerializer LEGACY =
+      LegacyComponentSerializer.legacyAmpersand();
+  private static final double DEFAULT_SLOT_HOLOGRAM_Y = 75.5;
+
   private final GameConfig config;
   private static final List<Player> players = new ArrayList<>();
   private final Map<Player, BetInfo> playerBets = new HashMap<>();
@@ -45,6 +54,7 @@ public class RouletteGame implements Minigame {
   // Table blocks and their locations
   private final Map<Integer, Block> tableBlocks = new HashMap<>();
   private final Map<Integer, Location> tableHologramLocations = new HashMap<>();
+  private final Map<String, Location> slotHologramLocations = new HashMap<>();
 
   // Table state
   private final Map<Integer, Set<Player>> tablePlayers = new HashMap<>();
@@ -74,34 +84,38 @@ public class RouletteGame implements Minigame {
     // Obtain table blocks from config gameProperties as Location objects
     for (int i = 1; i <= maxTables; i++) {
       String key = "table" + i;
-      String locString = config.getGameProperties().get(key);
-      if (locString != null) {
-        String[] parts = locString.split(",");
-        if (parts.length == 4) {
-          Location loc =
-              new Location(
-                  Bukkit.getWorld(parts[0]),
-                  Double.parseDouble(parts[1]),
-                  Double.parseDouble(parts[2]),
-                  Double.parseDouble(parts[3]));
-          Block block = loc.getBlock();
-          tableBlocks.put(i, block);
-          tableHologramLocations.put(i, loc.clone().add(0, 1.0, 0));
-        }
+      Location loc = parseLocation(config.getGameProperties().get(key));
+      if (loc != null) {
+        Block block = loc.getBlock();
+        tableBlocks.put(i, block);
+        tableHologramLocations.put(i, loc.clone().add(0, 1.0, 0));
       }
     }
 
-    String leaveLocString = config.getGameProperties().get("leaveBlock");
-    if (leaveLocString != null) {
-      String[] parts = leaveLocString.split(",");
-      if (parts.length == 4) {
-        Location loc =
-            new Location(
-                Bukkit.getWorld(parts[0]),
-                Double.parseDouble(parts[1]),
-                Double.parseDouble(parts[2]),
-                Double.parseDouble(parts[3]));
-        leaveBlock = loc.getBlock();
+    Location leaveLoc = parseLocation(config.getGameProperties().get("leaveBlock"));
+    if (leaveLoc != null) {
+      leaveBlock = leaveLoc.getBlock();
+    }
+
+    // Hologram positions: the bottom line of each hologram is shown here and extra lines stack
+    // upwards, so the holograms never need moving as players join and leave. Tables configured
+    // before these properties existed keep the countdown above the table block and the slots in
+    // a row across it at the old base height.
+    for (int table = 1; table <= maxTables; table++) {
+      Location countdownLoc =
+          parseLocation(config.getGameProperties().get("countdownHologram" + table));
+      if (countdownLoc != null) {
+        tableHologramLocations.put(table, countdownLoc);
+      }
+      for (int slot = 1; slot <= maxSlots; slot++) {
+        Location slotLoc =
+            parseLocation(config.getGameProperties().get("slotHologram" + table + "-" + slot));
+        if (slotLoc == null) {
+          slotLoc = defaultSlotHologramLocation(table, slot);
+        }
+        if (slotLoc != null) {
+          slotHologramLocations.put(slotHologramName(table, slot), slotLoc);
+        }
       }
     }
 
@@ -110,6 +124,70 @@ public class RouletteGame implements Minigame {
       tablePlayerSlots.put(i, new HashMap<>());
       tableLockedPlayers.put(i, new HashSet<>());
     }
+
+    removeLegacyHolograms();
+  }
+
+  /**
+   * Deletes the DecentHolograms holograms this game drew before it had its own, which would
+   * otherwise show beside the new ones on servers that still have DecentHolograms installed. Only
+   * holograms that still have a save file are deleted, so this does nothing once they are gone.
+   */
+  private void removeLegacyHolograms() {
+    Plugin decentHolograms = Bukkit.getPluginManager().getPlugin("DecentHolograms");
+    if (decentHolograms == null || !decentHolograms.isEnabled()) {
+      return;
+    }
+    File folder = new File(decentHolograms.getDataFolder(), "holograms");
+    List<String> names = new ArrayList<>();
+    for (int table = 1; table <= maxTables; table++) {
+      names.add(countdownHologramId(table));
+      for (int slot = 1; slot <= maxSlots; slot++) {
+        names.add(slotHologramName(table, slot));
+      }
+    }
+    for (String name : names) {
+      if (new File(folder, name + ".yml").exists()) {
+        Bukkit.getLogger().info("[STweaks] Deleting legacy roulette hologram " + name);
+        Bukkit.dispatchCommand(Bukkit.getConsoleSender(), "dh hologram delete " + name);
+      }
+    }
+  }
+
+  /** Parses a "world,x,y,z" location, or returns null if it is missing or malformed. */
+  private static Location parseLocation(String locString) {
+    if (locString == null) {
+      return null;
+    }
+    String[] parts = locString.split(",");
+    if (parts.length != 4) {
+      return null;
+    }
+    try {
+      return new Location(
+          Bukkit.getWorld(parts[0]),
+          Double.parseDouble(parts[1]),
+          Double.parseDouble(parts[2]),
+          Double.parseDouble(parts[3]));
+    } catch (NumberFormatException e) {
+      Bukkit.getLogger().warning("Invalid roulette location: " + locString);
+      return null;
+    }
+  }
+
+  /**
+   * Returns where a slot hologram goes when its table has no slotHologram property: centred on the
+   * table block, one block apart along x, at the height the slot holograms were reset to before.
+   */
+  private Location defaultSlotHologramLocation(int table, int slot) {
+    Block tableBlock = tableBlocks.get(table);
+    if (tableBlock == null) {
+      return null;
+    }
+    double offset = (slot - 1) - (maxSlots - 1) / 2.0;
+    Location loc = tableBlock.getLocation().add(0.5 + offset, 0, 0.5);
+    loc.setY(DEFAULT_SLOT_HOLOGRAM_Y);
+    return loc;
   }
 
   @Override
@@ -122,6 +200,13 @@ public class RouletteGame implements Minigame {
       cancelSpinTask(i);
     }
     initializeSlotHologramLines();
+    for (int table = 1; table <= maxTables; table++) {
+      Location loc = tableHologramLocations.get(table);
+      if (loc != null) {
+        HologramManager.create(
+            countdownHologramId(table), loc, List.of(LEGACY.deserialize("&eWaiting...")));
+      }
+    }
   }
 
   private void cancelSpinTask(int table) {
@@ -174,17 +259,9 @@ public class RouletteGame implements Minigame {
     for (int i = 1; i <= maxTables; i++) {
       tablePlayers.get(i).clear();
       cancelTableCountdown(i);
+      setCountdownText(i, "&eWaiting...");
     }
     initializeSlotHologramLines();
-
-    for (int table = 1; table <= maxTables; table++) {
-      for (int slot = 1; slot <= maxSlots; slot++) {
-        String color = (slot % 2 == 1) ? "R" : "B";
-        String slotHolo = table + "-" + color + "-" + slot;
-        String moveCmd = String.format("dh move %s ~ 75.5 ~", slotHolo);
-        logAndDispatchDhCommand(moveCmd);
-      }
-    }
   }
 
   /**
@@ -225,21 +302,6 @@ public class RouletteGame implements Minigame {
     for (int i = 1; i <= maxTables; i++) {
       tablePlayers.get(i).remove(player);
     }
-
-    // Move all slot holograms down by 1 when a player leaves
-    int playerCount = players.size();
-    if (playerCount >= 2) {
-      for (int table = 1; table <= maxTables; table++) {
-        for (int slot = 1; slot <= maxSlots; slot++) {
-          String color = (slot % 2 == 1) ? "R" : "B";
-          String slotHolo = table + "-" + color + "-" + slot;
-          // Only move down for each player above the second
-          for (int i = 3; i <= playerCount + 1; i++) {
-            logAndDispatchDhCommand("dh move " + slotHolo + " ~ ~-1 ~");
-          }
-        }
-      }
-    }
   }
 
   @Override
@@ -277,6 +339,9 @@ public class RouletteGame implements Minigame {
       return;
     }
     Player player = event.getPlayer();
+    if (!players.contains(player)) {
+      return;
+    }
     Block clicked = event.getClickedBlock();
     if (clicked == null) {
       return;
@@ -460,8 +525,7 @@ public class RouletteGame implements Minigame {
       cancelTableCountdown(table);
 
       // Set the countdown hologram to "Waiting..."
-      String holoName = "roulette-table-" + table + "-countdown";
-      logAndDispatchDhCommand("dh l set " + holoName + " 1 1 &eWaiting...");
+      setCountdownText(table, "&eWaiting...");
     }
   }
 
@@ -475,8 +539,8 @@ public class RouletteGame implements Minigame {
       if (orig != null && orig.size() < neededLines) {
         while (orig.size() < neededLines) {
           orig.add("-");
-          logAndDispatchDhCommand("dh l add " + slotHolo + " 1 &7-");
         }
+        renderSlot(table, slot);
       }
       if (curr != null && curr.size() < neededLines) {
         while (curr.size() < neededLines) {
@@ -505,8 +569,6 @@ public class RouletteGame implements Minigame {
     broadcastToTable(
         table, Component.text("Countdown started! 5 seconds to lock in.", NamedTextColor.YELLOW));
 
-    String holoName = "roulette-table-" + table + "-countdown";
-
     int taskId =
         Bukkit.getScheduler()
             .scheduleSyncRepeatingTask(
@@ -519,8 +581,7 @@ public class RouletteGame implements Minigame {
                   }
                   int seconds = secondsObj.intValue();
 
-                  logAndDispatchDhCommand(
-                      "dh l set " + holoName + " 1 1 &eCountdown: " + seconds + "s");
+                  setCountdownText(table, "&eCountdown: " + seconds + "s");
 
                   if (seconds <= 1) {
                     finishTableCountdown(table);
@@ -545,24 +606,15 @@ public class RouletteGame implements Minigame {
 
   /** Called when the countdown finishes for a table. */
   private void finishTableCountdown(int table) {
-    // Set the countdown hologram to "Rolling..."
-    String holoName = "roulette-table-" + table + "-countdown";
-
     // For each slot, set all lines to "-"
     for (int slot = 1; slot <= maxSlots; slot++) {
-      String color = (slot % 2 == 1) ? "R" : "B";
-      String slotHolo = table + "-" + color + "-" + slot;
-      List<String> orig = hologramOriginalLines.get(slotHolo);
-      if (orig != null) {
-        for (int i = 1; i <= orig.size(); i++) {
-          logAndDispatchDhCommand("dh l set " + slotHolo + " 1 " + i + " &7-");
-        }
-      }
+      renderSlot(table, slot, line -> "&7-");
     }
 
     // Start the roulette spin animation
     spinRouletteForTable(table); // This will use tableSpinTasks
-    logAndDispatchDhCommand("dh l set " + holoName + " 1 1 &eRolling...");
+    // Set the countdown hologram to "Rolling..."
+    setCountdownText(table, "&eRolling...");
   }
 
   private void spinRouletteForTable(int table) {
@@ -599,16 +651,9 @@ public class RouletteGame implements Minigame {
                       // Determine the final slot and color
                       int finalSlot = lastSlot[0];
                       String finalColor = (finalSlot % 2 == 1) ? "R" : "B";
-                      String finalSlotHolo = table + "-" + finalColor + "-" + finalSlot;
 
                       // Highlight the winning slot for 3 seconds
-                      List<String> orig = hologramOriginalLines.get(finalSlotHolo);
-                      if (orig != null) {
-                        for (int i = 1; i <= orig.size(); i++) {
-                          logAndDispatchDhCommand(
-                              "dh l set " + finalSlotHolo + " 1 " + i + " &a" + orig.get(i - 1));
-                        }
-                      }
+                      renderSlot(table, finalSlot, line -> "&a" + line);
 
                       // Play sound for all players at the table
                       Set<Player> tableSet = tablePlayers.get(table);
@@ -635,24 +680,6 @@ public class RouletteGame implements Minigame {
                           .runTaskLater(
                               Bukkit.getPluginManager().getPlugin("stweaks"),
                               () -> {
-                                // Restore all hologram lines for every slot at this table
-                                for (int slot = 1; slot <= slots; slot++) {
-                                  String color = (slot % 2 == 1) ? "R" : "B";
-                                  String sh = table + "-" + color + "-" + slot;
-                                  List<String> origLines = hologramOriginalLines.get(sh);
-                                  if (origLines != null) {
-                                    for (int i = 1; i <= origLines.size(); i++) {
-                                      logAndDispatchDhCommand(
-                                          "dh l set "
-                                              + sh
-                                              + " 1 "
-                                              + i
-                                              + " "
-                                              + origLines.get(i - 1));
-                                    }
-                                  }
-                                }
-
                                 // Rewarding logic
                                 List<Player> winners = new ArrayList<>();
                                 List<Player> losers = new ArrayList<>();
@@ -682,27 +709,21 @@ public class RouletteGame implements Minigame {
                                 }
                                 Integer spinTaskId = tableSpinTasks.remove(table);
 
-                                String holoName = "roulette-table-" + table + "-countdown";
-
                                 if (spinTaskId != null) {
                                   Bukkit.getScheduler().cancelTask(spinTaskId);
-                                  logAndDispatchDhCommand(
-                                      "dh l set " + holoName + " 1 1 &eWaiting...");
+                                  setCountdownText(table, "&eWaiting...");
                                 }
 
-                                // After restoring all hologram lines and rewarding players, clear
-                                // all players
-                                // from the slots:
+                                // After rewarding players, clear all players from the slots and
+                                // restore every slot's hologram
                                 for (int slot = 1; slot <= slots; slot++) {
-                                  String color = (slot % 2 == 1) ? "R" : "B";
-                                  String slotHolo = table + "-" + color + "-" + slot;
-                                  List<String> origLines = hologramOriginalLines.get(slotHolo);
+                                  List<String> origLines =
+                                      hologramOriginalLines.get(slotHologramName(table, slot));
                                   if (origLines != null) {
                                     for (int i = 1; i < origLines.size(); i++) {
                                       origLines.set(i, "-");
-                                      logAndDispatchDhCommand(
-                                          "dh l set " + slotHolo + " 1 " + (i + 1) + " &7-");
                                     }
+                                    renderSlot(table, slot);
                                   }
                                 }
 
@@ -718,28 +739,13 @@ public class RouletteGame implements Minigame {
 
                     // Turn off previous slot
                     if (lastSlot[0] != -1) {
-                      String color = (lastSlot[0] % 2 == 1) ? "R" : "B";
-                      String slotHolo = table + "-" + color + "-" + lastSlot[0];
-                      List<String> orig = hologramOriginalLines.get(slotHolo);
-                      if (orig != null) {
-                        for (int i = 1; i <= orig.size(); i++) {
-                          logAndDispatchDhCommand("dh l set " + slotHolo + " 1 " + i + " &7-");
-                        }
-                      }
+                      renderSlot(table, lastSlot[0], line -> "&7-");
                     }
 
                     // Turn on current slot
                     int currentSlot = (spinIndex[0] % slots) + 1;
                     tableCurrentSlot.put(table, currentSlot);
-                    String color = (currentSlot % 2 == 1) ? "R" : "B";
-                    String slotHolo = table + "-" + color + "-" + currentSlot;
-                    List<String> orig = hologramOriginalLines.get(slotHolo);
-                    if (orig != null) {
-                      for (int i = 1; i <= orig.size(); i++) {
-                        logAndDispatchDhCommand(
-                            "dh l set " + slotHolo + " 1 " + i + " " + orig.get(i - 1));
-                      }
-                    }
+                    renderSlot(table, currentSlot);
 
                     Set<Player> tableSet = tablePlayers.get(table);
                     if (tableSet != null) {
@@ -787,8 +793,6 @@ public class RouletteGame implements Minigame {
   // Add this method to initialize the original lines for all slot holograms at
   // game start or round start
   private void initializeSlotHologramLines() {
-    int playerCount = players.size();
-
     for (int table = 1; table <= maxTables; table++) {
       for (int slot = 1; slot <= maxSlots; slot++) {
         String color = (slot % 2 == 1) ? "R" : "B";
@@ -807,43 +811,18 @@ public class RouletteGame implements Minigame {
         }
         hologramOriginalLines.put(slotHolo, new ArrayList<>(lines));
         hologramCurrentLines.put(slotHolo, new ArrayList<>(lines));
-        clearSlotHologramPlayers(table, slot);
 
-        if (playerCount >= 3) {
-          for (int i = 3; i <= playerCount; i++) {
-            logAndDispatchDhCommand("dh move " + slotHolo + " ~ ~1 ~");
-          }
+        Location loc = slotHologramLocations.get(slotHolo);
+        if (loc != null) {
+          HologramManager.create(slotHologramId(slotHolo), loc, renderLines(lines, line -> line));
         }
       }
     }
   }
 
-  private void clearSlotHologramPlayers(int table, int slot) {
-    String color = (slot % 2 == 1) ? "R" : "B";
-    String slotHolo = table + "-" + color + "-" + slot;
-    List<String> orig = hologramOriginalLines.get(slotHolo);
-    if (orig == null) {
-      return;
-    }
-
-    // Ensure the first line is always the correct color tag
-    String colorTag = color.equals("R") ? "&c&lR" : "&0&lB";
-    logAndDispatchDhCommand("dh l set " + slotHolo + " 1 1 " + colorTag);
-
-    // Remove all player lines (lines 2 to 2 + players.size())
-    for (int i = 2; i <= 2 + players.size(); i++) {
-      logAndDispatchDhCommand("dh l remove " + slotHolo + " 1 " + i);
-    }
-
-    // Set lines 2 to 2 + players.size() - 1 to "-"
-    for (int i = 2; i <= 2 + players.size() - 1; i++) {
-      logAndDispatchDhCommand("dh l add " + slotHolo + " 1 &7-");
-    }
-  }
-
   /**
    * Updates the slot hologram for a given table and slot, replacing the player's name line. If
-   * content is "-", removes the player's name from the slot using the remove command.
+   * content is "-", removes the player's name from the slot.
    */
   private void updateSlotHologram(int table, int slot, Player player, String content) {
     String color = (slot % 2 == 1) ? "R" : "B";
@@ -881,16 +860,51 @@ public class RouletteGame implements Minigame {
       // Only clear the player's own line
       if (orig.get(playerLine).replaceAll("&[0-9a-fl-or]", "").equalsIgnoreCase(player.getName())) {
         orig.set(playerLine, "-");
-        logAndDispatchDhCommand("dh l set " + slotHolo + " 1 " + (playerLine + 1) + " &7-");
+        renderSlot(table, slot);
       }
     } else {
       orig.set(playerLine, content);
-      logAndDispatchDhCommand("dh l set " + slotHolo + " 1 " + (playerLine + 1) + " " + content);
+      renderSlot(table, slot);
+    }
+  }
+
+  /** Shows a slot's current lines on its hologram, with empty player lines greyed out. */
+  private void renderSlot(int table, int slot) {
+    renderSlot(table, slot, line -> line);
+  }
+
+  /** Shows a slot's current lines on its hologram, each passed through a style first. */
+  private void renderSlot(int table, int slot, UnaryOperator<String> style) {
+    String slotHolo = slotHologramName(table, slot);
+    List<String> orig = hologramOriginalLines.get(slotHolo);
+    if (orig != null) {
+      HologramManager.setLines(slotHologramId(slotHolo), renderLines(orig, style));
+    }
+  }
+
+  private static List<Component> renderLines(List<String> lines, UnaryOperator<String> style) {
+    List<Component> rendered = new ArrayList<>(lines.size());
+    for (String line : lines) {
+      String styled = style.apply(line);
+      rendered.add(LEGACY.deserialize(styled.equals("-") ? "&7-" : styled));
     }
+    return rendered;
+  }
+
+  private void setCountdownText(int table, String text) {
+    HologramManager.setLines(countdownHologramId(table), List.of(LEGACY.deserialize(text)));
+  }
+
+  /** Returns the name of a slot, e.g. "1-R-3" for table 1 slot 3. */
+  private static String slotHologramName(int table, int slot) {
+    return table + "-" + ((slot % 2 == 1) ? "R" : "B") + "-" + slot;
+  }
+
+  private static String slotHologramId(String slotHolo) {
+    return "roulette-" + slotHolo;
   }
 
-  // Utility method for logging and dispatching DecentHolograms commands
-  private void logAndDispatchDhCommand(String command) {
-    Bukkit.dispatchCommand(Bukkit.getConsoleSender(), command);
+  private static String countdownHologramId(int table) {
+    return "roulette-table-" + table + "-countdown";
   }
 }
@@ -1,19 +1,20 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.ArenaSnapshot;
+import com.storytimeproductions.models.stgames.BlockChangeSet;
+import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.World;
-import org.bukkit.block.Block;
 import org.bukkit.enchantments.Enchantment;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemFlag;
@@ -27,7 +28,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 public class SpleefGame implements Minigame {
   private final GameConfig config;
   private final List<Player> players = new ArrayList<>();
-  private final Set<Location> platformBlocks = new HashSet<>();
+  private BlockChangeSet platformReset;
   private boolean roundActive = false;
   private Player winner = null;
   private int initialPlayerCount = 0; // Add this field at the top of your class
@@ -44,7 +45,6 @@ public class SpleefGame implements Minigame {
   /** Initializes the Spleef game. */
   @Override
   public void onInit() {
-    platformBlocks.clear();
     winner = null;
     spawnPlatform();
     initialPlayerCount = players.size();
@@ -110,10 +110,6 @@ public class SpleefGame implements Minigame {
   /** Cleans up resources when the game is destroyed. */
   @Override
   public void onDestroy() {
-    for (Location loc : platformBlocks) {
-      Block block = loc.getBlock();
-      block.setType(Material.OBSIDIAN);
-    }
     for (Player player : players) {
       player.getInventory().remove(Material.DIAMOND_SHOVEL);
       player.getInventory().remove(Material.SNOWBALL);
@@ -183,26 +179,42 @@ public class SpleefGame implements Minigame {
     World world = center.getWorld();
     int radius = 8;
     int y = center.getBlockY();
+    double maxDistanceSquared = (radius + 0.5) * (radius + 0.5);
+    ArenaSnapshot floor =
+        ArenaSnapshot.capture(
+            new Cuboid(
+                world,
+                center.getBlockX() - radius,
+                y,
+                center.getBlockZ() - radius,
+                center.getBlockX() + radius,
+                y,
+                center.getBlockZ() + radius));
+
+    BlockChangeSet snow = new BlockChangeSet(world);
+    platformReset = new BlockChangeSet(world);
     for (int x = center.getBlockX() - radius; x <= center.getBlockX() + radius; x++) {
       for (int z = center.getBlockZ() - radius; z <= center.getBlockZ() + radius; z++) {
-        Location loc = new Location(world, x, y, z);
-        Block block = world.getBlockAt(x, y, z);
-        if (loc.distance(center) <= radius + 0.5) {
-          if (block.getType() != Material.AIR && block.getType() != Material.BARRIER) {
-            block.setType(Material.SNOW_BLOCK);
-            platformBlocks.add(loc.clone());
+        double dx = x - center.getX();
+        double dy = y - center.getY();
+        double dz = z - center.getZ();
+        if (dx * dx + dy * dy + dz * dz <= maxDistanceSquared) {
+          Material type = floor.getMaterial(x, y, z);
+          if (type != Material.AIR && type != Material.BARRIER) {
+            snow.set(x, y, z, Material.SNOW_BLOCK);
+            platformReset.set(x, y, z, Material.OBSIDIAN);
           }
         }
       }
     }
+    BlockChangeQueue.submit(snow);
   }
 
   private void resetPlatform() {
-    for (Location loc : platformBlocks) {
-      Block block = loc.getBlock();
-      block.setType(Material.OBSIDIAN);
+    if (platformReset != null) {
+      BlockChangeQueue.submit(platformReset);
+      platformReset = null;
     }
-    platformBlocks.clear();
   }
 
   private void giveShovel(Player player) {
@@ -1,5 +1,7 @@
 package com.storytimeproductions.stweaks.games;
 
+import com.storytimeproductions.models.stgames.ArenaSnapshot;
+import com.storytimeproductions.models.stgames.BlockChangeSet;
 import com.storytimeproductions.models.stgames.Cuboid;
 import com.storytimeproductions.models.stgames.GameConfig;
 import com.storytimeproductions.models.stgames.Minigame;
@@ -15,6 +17,7 @@ import com.storytimeproductions.models.stgames.challenges.RidePigChallenge;
 import com.storytimeproductions.models.stgames.challenges.ShearSheepChallenge;
 import com.storytimeproductions.models.stgames.challenges.SnowballChallenge;
 import com.storytimeproductions.models.stgames.challenges.StoryBlitzChallenge;
+import com.storytimeproductions.stweaks.util.BlockChangeQueue;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -81,46 +84,7 @@ public class StoryBlitz implements Minigame {
       p.teleport(config.getGameArea());
     }
 
-    List<Cuboid> spawnRegions = new ArrayList<>();
-    Object regionCountObj = config.getGameProperties().get("regionCount");
-    int regionCount = 1;
-    if (regionCountObj instanceof Number) {
-      regionCount = ((Number) regionCountObj).intValue();
-    }
-
-    for (int i = 1; i <= regionCount; i++) {
-      Object regionObj = config.getGameProperties().get("spawnRegion" + i);
-      if (regionObj instanceof String) {
-        try {
-          String[] parts = ((String) regionObj).split(",");
-          if (parts.length == 7) {
-            String worldName = parts[0];
-            int x1 = Integer.parseInt(parts[1]);
-            int y1 = Integer.parseInt(parts[2]);
-            int z1 = Integer.parseInt(parts[3]);
-            int x2 = Integer.parseInt(parts[4]);
-            int y2 = Integer.parseInt(parts[5]);
-            int z2 = Integer.parseInt(parts[6]);
-            World world = Bukkit.getWorld(worldName);
-            if (world != null) {
-              Cuboid cuboid = new Cuboid(world, x1, y1, z1, x2, y2, z2);
-              spawnRegions.add(cuboid);
-              // Clear the region to air on startup
-              for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
-                for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
-                  for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
-                    world.getBlockAt(x, y, z).setType(Material.AIR);
-                  }
-                }
-              }
-            }
-          }
-        } catch (Exception e) {
-          Bukkit.getLogger()
-              .warning("[StoryBlitz] Failed to parse spawnRegion" + i + ": " + regionObj);
-        }
-      }
-    }
+    List<Cuboid> spawnRegions = parseSpawnRegions();
 
     challenges.add(new BreakBlockChallenge(spawnRegions));
     challenges.add(new CraftItemChallenge(spawnRegions));
@@ -138,7 +102,27 @@ public class StoryBlitz implements Minigame {
     gameInProgress = true;
     cooldown = 5;
     cooldownTicks = cooldown;
-    nextChallenge();
+
+    // Clear the regions to air on startup. Challenges build into the regions directly, so the
+    // first one only starts once the queued clears have landed.
+    if (spawnRegions.isEmpty()) {
+      nextChallenge();
+      return;
+    }
+    for (int i = 0; i < spawnRegions.size(); i++) {
+      BlockChangeSet clear = ArenaSnapshot.capture(spawnRegions.get(i)).fill(Material.AIR);
+      if (i < spawnRegions.size() - 1) {
+        BlockChangeQueue.submit(clear);
+      } else {
+        BlockChangeQueue.submit(
+            clear,
+            () -> {
+              if (gameInProgress && currentChallenge == null) {
+                nextChallenge();
+              }
+            });
+      }
+    }
   }
 
   /** Called after the game has been initialized. */
@@ -334,11 +318,26 @@ public class StoryBlitz implements Minigame {
     bossBars.clear();
 
     // Clear out all spawn regions and set them to air
+    for (Cuboid region : parseSpawnRegions()) {
+      BlockChangeQueue.submit(ArenaSnapshot.capture(region).fill(Material.AIR));
+    }
+
+    players.clear();
+    lives.clear();
+    challenges.clear();
+    currentChallenge = null;
+    gameInProgress = false;
+  }
+
+  /** Parses the spawnRegion1..spawnRegionN game properties into cuboids. */
+  private List<Cuboid> parseSpawnRegions() {
+    List<Cuboid> spawnRegions = new ArrayList<>();
     Object regionCountObj = config.getGameProperties().get("regionCount");
     int regionCount = 1;
     if (regionCountObj instanceof Number) {
       regionCount = ((Number) regionCountObj).intValue();
     }
+
     for (int i = 1; i <= regionCount; i++) {
       Object regionObj = config.getGameProperties().get("spawnRegion" + i);
       if (regionObj instanceof String) {
@@ -354,27 +353,16 @@ public class StoryBlitz implements Minigame {
             int z2 = Integer.parseInt(parts[6]);
             World world = Bukkit.getWorld(worldName);
             if (world != null) {
-              for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
-                for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
-                  for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
-                    world.getBlockAt(x, y, z).setType(Material.AIR);
-                  }
-                }
-              }
+              spawnRegions.add(new Cuboid(world, x1, y1, z1, x2, y2, z2));
             }
           }
         } catch (Exception e) {
           Bukkit.getLogger()
-              .warning("[StoryBlitz] Failed to clear spawnRegion" + i + ": " + regionObj);
+              .warning("[StoryBlitz] Failed to parse spawnRegion" + i + ": " + regionObj);
         }
       }
     }
-
-    players.clear();
-    lives.clear();
-    challenges.clear();
-    currentChallenge = null;
-    gameInProgress = false;
+    return spawnRegions;
   }
 
   /**
@@ -6,20 +6,13 @@ import java.util.UUID;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
-import org.bukkit.NamespacedKey;
-import org.bukkit.Sound;
 import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
-import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryView;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 
 /**
@@ -34,13 +27,32 @@ public class BiomeNotifier implements Listener {
     int taskId = -1;
   }
 
+  /**
+   * The world and biome cell a player was last sampled in and when they were last seen in each
+   * biome. Biomes are stored per 4x4x4 cell, so the biome only needs sampling when the cell
+   * changes.
+   */
+  private static class BiomeSampleState {
+    UUID worldId;
+    int cellX;
+    int cellY = Integer.MIN_VALUE;
+    int cellZ;
+    int ordinal = -1;
+    final long[] lastSeen;
+
+    BiomeSampleState(int biomeCount) {
+      lastSeen = new long[biomeCount];
+    }
+  }
+
   /** Tracks the last known biome for each player by their UUID. */
   private final Plugin plugin;
 
   private final BiomeTrackerManager biomeTrackerManager;
   private final HashMap<UUID, BiomeMessageState> biomeMessages = new HashMap<>();
-  private final HashMap<UUID, HashMap<String, Long>> recentBiomes = new HashMap<>();
+  private final HashMap<UUID, BiomeSampleState> recentBiomes = new HashMap<>();
   private static final long BIOME_CACHE_LIFETIME_MILLIS = 5 * 60 * 1000; // 5 minutes
+  private static final long SWEEP_INTERVAL_TICKS = 20L * 60;
 
   /**
    * Constructs a new BiomeNotifier with a reference to the main plugin instance.
@@ -51,59 +63,29 @@ public class BiomeNotifier implements Listener {
   public BiomeNotifier(Plugin plugin, BiomeTrackerManager biomeTrackerManager) {
     this.plugin = plugin;
     this.biomeTrackerManager = biomeTrackerManager;
+
+    Bukkit.getScheduler()
+        .runTaskTimer(plugin, this::sweepExpired, SWEEP_INTERVAL_TICKS, SWEEP_INTERVAL_TICKS);
   }
 
   /**
-   * Handles the inventory click event for pagination in the Biome Tracker GUI. When a player clicks
-   * on a navigation button (Next/Previous), this method reads the stored page number from the
-   * item's persistent data and triggers the command to navigate to the correct page.
+   * Starts loading the joining player's discovered biomes in the background.
    *
-   * @param event The InventoryClickEvent triggered when a player clicks an item in the inventory.
+   * @param event The PlayerJoinEvent triggered when a player joins.
    */
   @EventHandler
-  public void onInventoryClick(InventoryClickEvent event) {
-    if (!(event.getWhoClicked() instanceof Player player)) {
-      return;
-    }
-
-    Inventory clickedInventory = event.getClickedInventory();
-    if (clickedInventory == null) {
-      return;
-    }
-
-    ItemStack clickedItem = event.getCurrentItem();
-    if (clickedItem == null || !clickedItem.hasItemMeta()) {
-      return;
-    }
-
-    // Check if this is our custom "BiomeTracker" inventory
-    InventoryView view = player.getOpenInventory();
-    String title = view.title().toString();
-
-    if (!title.contains("Biome Tracker")) {
-      return;
-    }
-
-    if (event.getAction().toString().contains("PLACE")) {
-      event.setCancelled(true);
-      return;
-    }
-
-    ItemMeta meta = clickedItem.getItemMeta();
-    PersistentDataContainer data = meta.getPersistentDataContainer();
-
-    // Check if the clicked item is a navigation button (Previous or Next)
-    if (data.has(new NamespacedKey("stweaks", "page"), PersistentDataType.INTEGER)) {
-      int clickedPage = data.get(new NamespacedKey("stweaks", "page"), PersistentDataType.INTEGER);
-      if (clickedPage > 0) {
-        player.playSound(player.getLocation(), Sound.ITEM_BOOK_PAGE_TURN, 1.0f, 1.0f);
-
-        String command = "biometracker " + clickedPage;
-        player.performCommand(command);
-      }
-    }
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    biomeTrackerManager.load(event.getPlayer().getUniqueId());
+  }
 
-    event.setCancelled(true);
+  /**
+   * Forgets the quitting player's discovered biomes.
+   *
+   * @param event The PlayerQuitEvent triggered when a player quits.
+   */
+  @EventHandler
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    biomeTrackerManager.unload(event.getPlayer().getUniqueId());
   }
 
   /**
@@ -130,27 +112,69 @@ public class BiomeNotifier implements Listener {
       return;
     }
 
-    Location loc = player.getLocation();
-    Biome currentBiome = loc.getBlock().getBiome();
-    if (!"minecraft".equals(currentBiome.getKey().getNamespace())) {
-      return;
-    }
-    String biomeKey = currentBiome.getKey().toString();
-
     UUID uuid = player.getUniqueId();
-
-    // Clean up expired biomes for this player
-    HashMap<String, Long> playerRecent = recentBiomes.computeIfAbsent(uuid, k -> new HashMap<>());
+    BiomeSampleState state =
+        recentBiomes.computeIfAbsent(
+            uuid, k -> new BiomeSampleState(biomeTrackerManager.getCatalog().size()));
     long now = System.currentTimeMillis();
-    playerRecent.entrySet().removeIf(e -> now - e.getValue() > BIOME_CACHE_LIFETIME_MILLIS);
 
-    // If biome is not in the set or expired, show action bar and add/update
-    if (!playerRecent.containsKey(biomeKey)) {
+    // Still in the same biome cell of the same world, so still in the same biome
+    UUID worldId = to.getWorld().getUID();
+    int cellX = to.getBlockX() >> 2;
+    int cellY = to.getBlockY() >> 2;
+    int cellZ = to.getBlockZ() >> 2;
+    if (worldId.equals(state.worldId)
+        && cellX == state.cellX
+        && cellY == state.cellY
+        && cellZ == state.cellZ) {
+      if (state.ordinal >= 0) {
+        state.lastSeen[state.ordinal] = now;
+      }
+      return;
+    }
+    state.worldId = worldId;
+    state.cellX = cellX;
+    state.cellY = cellY;
+    state.cellZ = cellZ;
+
+    Biome currentBiome = to.getWorld().getBiome(to.getBlockX(), to.getBlockY(), to.getBlockZ());
+    // Only vanilla biomes have an ordinal
+    state.ordinal = biomeTrackerManager.getCatalog().getOrdinal(currentBiome);
+    if (state.ordinal < 0) {
+      return;
+    }
+
+    // If the biome was not seen recently, show action bar
+    if (now - state.lastSeen[state.ordinal] > BIOME_CACHE_LIFETIME_MILLIS) {
       sendBiomeActionBar(player, currentBiome);
-      biomeTrackerManager.markBiomeDiscovered(uuid, biomeKey);
+      biomeTrackerManager.markBiomeDiscovered(uuid, currentBiome);
     }
-    // Update or add the biome with new expiration
-    playerRecent.put(biomeKey, now);
+    state.lastSeen[state.ordinal] = now;
+  }
+
+  /**
+   * Forgets biomes that have not been seen for the cache lifetime, and drops players who have no
+   * recent biomes left.
+   */
+  private void sweepExpired() {
+    long now = System.currentTimeMillis();
+    recentBiomes
+        .values()
+        .removeIf(
+            state -> {
+              boolean anyRecent = false;
+              for (int i = 0; i < state.lastSeen.length; i++) {
+                if (state.lastSeen[i] == 0) {
+                  continue;
+                }
+                if (now - state.lastSeen[i] > BIOME_CACHE_LIFETIME_MILLIS) {
+                  state.lastSeen[i] = 0;
+                } else {
+                  anyRecent = true;
+                }
+              }
+              return !anyRecent;
+            });
   }
 
   /**
@@ -161,7 +185,7 @@ public class BiomeNotifier implements Listener {
    * @param biome the biome the player just entered
    */
   private void sendBiomeActionBar(Player player, Biome biome) {
-    String biomeName = formatBiomeName(biome);
+    String biomeName = biomeTrackerManager.getCatalog().getDisplayName(biome);
     String message = "You've entered the " + biomeName;
 
     UUID uuid = player.getUniqueId();
@@ -198,32 +222,4 @@ public class BiomeNotifier implements Listener {
                 20L * 5)
             .getTaskId(); // 3 seconds display time
   }
-
-  private String formatBiomeName(Biome biome) {
-    String rawName = biome.getKey().toString().toLowerCase();
-
-    // Use the part after '/' if present, otherwise after ':'
-    if (rawName.contains("/")) {
-      rawName = rawName.substring(rawName.indexOf("/") + 1);
-    } else if (rawName.contains(":")) {
-      rawName = rawName.substring(rawName.indexOf(":") + 1);
-    }
-
-    // Replace underscores with spaces
-    rawName = rawName.replace('_', ' ');
-
-    // Capitalize each word
-    String[] words = rawName.split(" ");
-    StringBuilder formatted = new StringBuilder();
-    for (String word : words) {
-      if (!word.isEmpty()) {
-        formatted
-            .append(Character.toUpperCase(word.charAt(0)))
-            .append(word.substring(1))
-            .append(" ");
-      }
-    }
-
-    return formatted.toString().trim();
-  }
 }
@@ -57,6 +57,11 @@ import org.bukkit.scheduler.BukkitRunnable;
 /**
  * Manages the lifecycle and player interactions for all minigames. Handles loading games from
  * configuration, player joining, and game state.
+ *
+ * <p>Which game each player joined is kept in an index that is updated on join, leave, quit and
+ * game end, so dispatching an event is a single map lookup rather than a scan of every game's
+ * player list. Games may still drop players on their own (e.g. on elimination), so the index can
+ * name a game a player has already been knocked out of; the game hooks check their own membership.
  */
 public class GameManagerListener implements Listener {
   public static final Map<String, Minigame> activeGames = new HashMap<>();
@@ -64,6 +69,7 @@ public class GameManagerListener implements Listener {
   private static final Map<String, BukkitRunnable> joinTimers = new ConcurrentHashMap<>();
   private static final Map<String, Set<UUID>> joinedPlayers = new ConcurrentHashMap<>();
   private static final Map<String, Boolean> gameActive = new ConcurrentHashMap<>();
+  private static final Map<UUID, Minigame> playerGames = new HashMap<>();
 
   private static JavaPlugin plugin;
 
@@ -111,6 +117,25 @@ public class GameManagerListener implements Listener {
     return activeGames;
   }
 
+  /**
+   * Gets the game a player last joined, if that game has not ended and the player has not left it.
+   *
+   * @param player the player to look up
+   * @return the player's game, or null if they are not in one
+   */
+  public static Minigame getGameOf(Player player) {
+    return playerGames.get(player.getUniqueId());
+  }
+
+  /**
+   * Removes a player from the game index after they left their game outside of this listener.
+   *
+   * @param player the player who left
+   */
+  public static void forgetPlayer(Player player) {
+    playerGames.remove(player.getUniqueId());
+  }
+
   /**
    * Loads games from the provided configuration file. Cancels any running join timers, clears
    * previous state, and initializes new games.
@@ -127,6 +152,7 @@ public class GameManagerListener implements Listener {
       gameActive.put(gameId, false);
     }
     joinedPlayers.clear();
+    playerGames.clear();
 
     for (Minigame minigame : activeGames.values()) {
       minigame.onDestroy();
@@ -209,12 +235,9 @@ public class GameManagerListener implements Listener {
    */
   @EventHandler
   public void onPlayerInteractInGame(PlayerInteractEvent event) {
-    Player player = event.getPlayer();
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.onInteract(event);
-        break;
-      }
+    Minigame minigame = gameInCasino(event.getPlayer());
+    if (minigame != null) {
+      minigame.onInteract(event);
     }
   }
 
@@ -229,11 +252,9 @@ public class GameManagerListener implements Listener {
         || !(event.getEntity() instanceof Player target)) {
       return;
     }
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(damager) && minigame.getPlayers().contains(target)) {
-        minigame.onDamage(event);
-        return;
-      }
+    Minigame minigame = gameInCasino(damager);
+    if (minigame != null && minigame == playerGames.get(target.getUniqueId())) {
+      minigame.onDamage(event);
     }
   }
 
@@ -279,73 +300,74 @@ public class GameManagerListener implements Listener {
   @EventHandler
   public void onPlayerQuit(PlayerQuitEvent event) {
     Player player = event.getPlayer();
-
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.removeItems(player);
-        minigame.leave(player);
-      }
+    Minigame minigame = playerGames.remove(player.getUniqueId());
+    if (minigame != null && minigame.getPlayers().contains(player)) {
+      minigame.removeItems(player);
+      minigame.leave(player);
     }
   }
 
   /**
-   * Dispatches player move events to each minigame the player is in.
+   * Dispatches player move events to the minigame the player is in.
    *
    * @param event the PlayerMoveEvent
    */
   @EventHandler
   public void onPlayerMove(PlayerMoveEvent event) {
-    Player player = event.getPlayer();
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.onMove(event);
-      }
+    Minigame minigame = gameInCasino(event.getPlayer());
+    if (minigame != null) {
+      minigame.onMove(event);
     }
   }
 
   /**
-   * Dispatches player death events to each minigame the player is in.
+   * Dispatches player death events to the minigame the player is in.
    *
    * @param event the PlayerDeathEvent
    */
   @EventHandler
   public void onPlayerDeath(PlayerDeathEvent event) {
-    Player player = event.getEntity();
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.onDeath(event);
-      }
+    Minigame minigame = gameInCasino(event.getEntity());
+    if (minigame != null) {
+      minigame.onDeath(event);
     }
   }
 
   /**
-   * Dispatches sneak toggle events to each minigame the player is in.
+   * Dispatches sneak toggle events to the minigame the player is in.
    *
    * @param event the PlayerToggleSneakEvent
    */
   @EventHandler
   public void onPlayerToggleSneak(PlayerToggleSneakEvent event) {
-    Player player = event.getPlayer();
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.onSneak(event);
-      }
+    Minigame minigame = gameInCasino(event.getPlayer());
+    if (minigame != null) {
+      minigame.onSneak(event);
     }
   }
 
   /**
-   * Dispatches command events to each minigame the player is in.
+   * Dispatches command events to the minigame the player is in.
    *
    * @param event the PlayerCommandPreprocessEvent
    */
   @EventHandler
   public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
-    Player player = event.getPlayer();
-    for (Minigame minigame : activeGames.values()) {
-      if (minigame.getPlayers().contains(player)) {
-        minigame.onCommand(event);
-      }
+    Minigame minigame = gameInCasino(event.getPlayer());
+    if (minigame != null) {
+      minigame.onCommand(event);
+    }
+  }
+
+  /**
+   * Looks up the game a player is in. Every game is played in the casino world, so players anywhere
+   * else are skipped without touching the index.
+   */
+  private static Minigame gameInCasino(Player player) {
+    if (playerGames.isEmpty() || !player.getWorld().getName().equalsIgnoreCase("casino")) {
+      return null;
     }
+    return playerGames.get(player.getUniqueId());
   }
 
   private void tryJoinGame(Minigame minigame, Player player, Location joinLoc) {
@@ -374,6 +396,7 @@ public class GameManagerListener implements Listener {
 
       players.add(player.getUniqueId());
       minigame.join(player);
+      playerGames.put(player.getUniqueId(), minigame);
       player.displayName(Component.text(player.getName(), NamedTextColor.GREEN));
       player.sendMessage(
           Component.text(
@@ -409,6 +432,7 @@ public class GameManagerListener implements Listener {
     consumeTicket(player, minigame.getConfig().getTicketCost());
     players.add(player.getUniqueId());
     minigame.join(player);
+    playerGames.put(player.getUniqueId(), minigame);
     player.displayName(Component.text(player.getName(), NamedTextColor.GREEN));
 
     int currentCount = players.size();
@@ -559,6 +583,7 @@ public class GameManagerListener implements Listener {
               gameActive.put(gameId, false);
               setJoinIndicator(minigame.getConfig().getJoinBlock(), true);
               for (UUID uuid : joinedPlayers.get(gameId)) {
+                playerGames.remove(uuid, minigame);
                 Player p = Bukkit.getPlayer(uuid);
                 if (p != null) {
                   if (minigame.shouldTeleportOnExit()) {
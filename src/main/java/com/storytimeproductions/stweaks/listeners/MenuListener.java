@@ -0,0 +1,68 @@
+package com.storytimeproductions.stweaks.listeners;
+
+import com.storytimeproductions.stweaks.util.MenuHolder;
+import com.storytimeproductions.stweaks.util.MenuRefresher;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+
+/**
+ * Routes clicks in every Stweaks menu to the action of the clicked slot, and tells the {@link
+ * MenuRefresher} when menus with live slots are opened and closed. An inventory that is not a
+ * {@link MenuHolder} is recognised with a single instanceof check and left alone.
+ */
+public class MenuListener implements Listener {
+
+  /**
+   * Passes a click to the menu open in the clicker's view, if any.
+   *
+   * @param event The click event.
+   */
+  @EventHandler
+  public void onInventoryClick(InventoryClickEvent event) {
+    if (event.getView().getTopInventory().getHolder(false) instanceof MenuHolder menu) {
+      menu.handleClick(event);
+    }
+  }
+
+  /**
+   * Starts keeping a menu up to date once it has been opened.
+   *
+   * @param event The open event.
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onInventoryOpen(InventoryOpenEvent event) {
+    if (event.getInventory().getHolder(false) instanceof MenuHolder menu) {
+      MenuRefresher.track(menu);
+    }
+  }
+
+  /**
+   * Stops keeping a menu up to date once it has been closed, including when another menu is opened
+   * in its place.
+   *
+   * @param event The close event.
+   */
+  @EventHandler
+  public void onInventoryClose(InventoryCloseEvent event) {
+    if (event.getInventory().getHolder(false) instanceof MenuHolder menu) {
+      MenuRefresher.untrack(menu);
+    }
+  }
+
+  /**
+   * Stops items being dragged while a menu is open.
+   *
+   * @param event The drag event.
+   */
+  @EventHandler
+  public void onInventoryDrag(InventoryDragEvent event) {
+    if (event.getView().getTopInventory().getHolder(false) instanceof MenuHolder) {
+      event.setCancelled(true);
+    }
+  }
+}
@@ -1,13 +1,17 @@
 package com.storytimeproductions.stweaks.listeners;
 
 import com.storytimeproductions.models.Pet;
+import com.storytimeproductions.stweaks.util.PetActionScheduler;
+import com.storytimeproductions.stweaks.util.PetStateManager;
 import com.storytimeproductions.stweaks.util.PetsManager;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
 import java.util.UUID;
+import java.util.WeakHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
@@ -16,19 +20,26 @@ import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.SoundCategory;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Listener that manages pet activity, hunger, and perks for players.
  *
  * <p>This class tracks which pets are "active" (present in a player's hotbar or offhand with the
  * correct model), manages their hunger, periodically gives rewards or plays ambient effects, and
- * handles feeding events.
+ * handles feeding events. Hunger is kept by the {@link PetStateManager}, so it survives restarts.
  *
  * <ul>
  *   <li>Pets can provide either item or potion effect perks.
@@ -38,170 +49,213 @@ import org.bukkit.scheduler.BukkitRunnable;
  */
 public class PetsListener implements Listener {
 
-  private final Map<UUID, Map<String, Integer>> petHunger = new HashMap<>();
-  private final Map<UUID, Long> nextPetActionTime = new HashMap<>();
+  private final Map<UUID, String> shownMarkers = new HashMap<>();
+  // Weak, so the lines of pets replaced by a reload of pets.yml are dropped
+  private final Map<Pet, Map<HungerState, List<Component>>> loreCache = new WeakHashMap<>();
   private PetsManager petsManager;
+  private final PetStateManager petStateManager;
+  private final NamespacedKey shownHungerKey;
+  private final NamespacedKey loreLinesKey;
 
   // Hunger settings
-  private static final int MAX_HUNGER = 5;
   private static final int HUNGER_COST_PER_ACTION = 1;
 
   /**
-   * Constructs the PetsListener and starts the periodic pet action task.
+   * Constructs the PetsListener, starts the pet action scheduler and registers online players who
+   * already hold a pet.
    *
    * @param plugin The JavaPlugin instance.
    * @param petsManager The PetsManager for looking up pets.
+   * @param petStateManager The PetStateManager keeping each pet's hunger.
    */
-  public PetsListener(JavaPlugin plugin, PetsManager petsManager) {
+  public PetsListener(
+      JavaPlugin plugin, PetsManager petsManager, PetStateManager petStateManager) {
     this.petsManager = petsManager;
+    this.petStateManager = petStateManager;
+    this.shownHungerKey = new NamespacedKey(plugin, "pet_hunger_shown");
+    this.loreLinesKey = new NamespacedKey(plugin, "pet_lore_lines");
+    PetActionScheduler.init(plugin, this::runPetAction);
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      updateRegistration(player, player.getInventory().getItemInOffHand());
+    }
+  }
 
-    // Periodic task for pet actions (runs every 10 seconds, but only acts if
-    // player's timer is up)
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        long now = System.currentTimeMillis();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-          UUID uuid = player.getUniqueId();
-          long nextTime = nextPetActionTime.getOrDefault(uuid, 0L);
-          if (now < nextTime) {
-            continue; // Not time for this player's pet action yet
-          }
-
-          // Schedule next action for this player (random 5-10 min)
-          int minMillis = 1 * 30 * 1000;
-          int maxMillis = 2 * 30 * 1000;
-          int nextDelay = minMillis + new Random().nextInt(maxMillis - minMillis + 1);
-          nextPetActionTime.put(uuid, now + nextDelay);
-
-          ItemStack offhand = player.getInventory().getItemInOffHand();
-          String petId = null;
-          if (offhand != null && isPetItem(offhand)) {
-            Pet pet = petsManager.getPetByItem(offhand);
-            if (pet != null) {
-              petId = pet.getId();
-
-              // Initialize hunger if needed
-              petHunger.computeIfAbsent(uuid, k -> new HashMap<>()).putIfAbsent(petId, MAX_HUNGER);
-
-              int hunger = petHunger.get(uuid).get(petId);
-              if (hunger > 0) {
-                // Randomly decide to give item or play sound/message
-                if (shouldGiveItem()) {
-                  givePetReward(player, pet);
-                  decreaseHunger(player, petId);
-                } else if (shouldPlayAmbient()) {
-                  playAmbientEffect(player, pet);
-                }
-
-                // Ensure hunger is defined before using it
-                if (petId != null) {
-                  hunger = petHunger.get(uuid).getOrDefault(petId, 0);
-                  String hungerState = getHungerState(hunger);
-                  updatePetLore(offhand, hungerState);
-                }
-              } else {
-                player.sendActionBar(
-                    Component.text(
-                        "Your "
-                            + (petId != null
-                                ? petId.replace("_", " ").toLowerCase()
-                                : "unknown pet")
-                            + " is hungry!"));
-              }
-
-              // Try to feed the pet automatically from inventory
-              ItemStack foodStack = findAndConsumeFood(player, pet.getFood());
-              if (foodStack != null) {
-                petHunger.get(uuid).put(petId, MAX_HUNGER);
-                player.sendMessage(
-                    Component.text(
-                        "Your "
-                            + (petId != null
-                                ? petId.replace("_", " ").toLowerCase()
-                                : "unknown pet")
-                            + " ate some "
-                            + pet.getFood().name().toLowerCase()
-                            + "!"));
-              }
-            }
-
-            // Ensure hunger is defined before using it
-            Map<String, Integer> hungerMap = petHunger.get(uuid);
-            int hunger = 0;
-            if (hungerMap != null && petId != null) {
-              hunger = hungerMap.getOrDefault(petId, 0);
-            }
-            String hungerState = getHungerState(hunger);
-            updatePetLore(offhand, hungerState);
-          }
-        }
-      }
-    }.runTaskTimer(plugin, 40L, 200L);
+  /**
+   * Loads a joining player's pets and registers them if their offhand already holds a pet.
+   *
+   * @param event The join event.
+   */
+  @EventHandler
+  public void onPlayerJoin(PlayerJoinEvent event) {
+    Player player = event.getPlayer();
+    petStateManager.load(player.getUniqueId());
+    updateRegistration(player, player.getInventory().getItemInOffHand());
+  }
+
+  /**
+   * Unregisters a player who leaves and forgets their pets.
+   *
+   * @param event The quit event.
+   */
+  @EventHandler
+  public void onPlayerQuit(PlayerQuitEvent event) {
+    PetActionScheduler.unregister(event.getPlayer());
+    shownMarkers.remove(event.getPlayer().getUniqueId());
+    petStateManager.unload(event.getPlayer().getUniqueId());
+  }
+
+  /**
+   * Registers or unregisters a player when they swap a pet into or out of their offhand.
+   *
+   * @param event The swap event.
+   */
+  @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+  public void onSwapHandItems(PlayerSwapHandItemsEvent event) {
+    updateRegistration(event.getPlayer(), event.getOffHandItem());
   }
 
-  private String getHungerState(int hunger) {
-    if (hunger >= 4) {
-      return "Full";
+  /**
+   * Registers or unregisters a player after they close an inventory, in which they may have moved a
+   * pet into or out of their offhand slot.
+   *
+   * @param event The close event.
+   */
+  @EventHandler
+  public void onInventoryClose(InventoryCloseEvent event) {
+    if (event.getPlayer() instanceof Player player) {
+      updateRegistration(player, player.getInventory().getItemInOffHand());
     }
-    if (hunger >= 2) {
-      return "Peckish";
+  }
+
+  /** Puts a player in the pet action wheel if their offhand holds a pet, or takes them out. */
+  private void updateRegistration(Player player, ItemStack offhand) {
+    shownMarkers.remove(player.getUniqueId());
+    if (isPetItem(offhand)) {
+      PetActionScheduler.register(player);
+    } else {
+      PetActionScheduler.unregister(player);
     }
-    if (hunger == 1) {
-      return "Hungry";
+  }
+
+  /**
+   * Runs a pet's action for a player whose pet is due: a reward or ambient effect if the pet is
+   * fed, automatic feeding from the inventory, and a lore update if the hunger state changed. The
+   * player is scheduled again as long as the pet is still in their offhand.
+   *
+   * @param player The player whose pet is due.
+   */
+  private void runPetAction(Player player) {
+    UUID uuid = player.getUniqueId();
+    ItemStack offhand = player.getInventory().getItemInOffHand();
+    Pet pet = petsManager.getPetByItem(offhand);
+    if (pet == null) {
+      // Left out of the wheel until a pet is put back
+      shownMarkers.remove(uuid);
+      return;
+    }
+    PetActionScheduler.schedule(player);
+
+    String petId = pet.getId();
+    PetStateManager.PetState state = petStateManager.getState(uuid, petId);
+
+    if (state.getHunger() > 0) {
+      // Randomly decide to give item or play sound/message
+      if (shouldGiveItem()) {
+        givePetReward(player, pet);
+        petStateManager.recordReward(uuid, petId, HUNGER_COST_PER_ACTION);
+      } else if (shouldPlayAmbient()) {
+        playAmbientEffect(player, pet);
+      }
+    } else {
+      player.sendActionBar(
+          Component.text("Your " + petId.replace("_", " ").toLowerCase() + " is hungry!"));
+    }
+
+    // Try to feed the pet automatically from inventory
+    ItemStack foodStack = findAndConsumeFood(player, pet.getFood());
+    if (foodStack != null) {
+      petStateManager.feed(uuid, petId);
+      player.sendMessage(
+          Component.text(
+              "Your "
+                  + petId.replace("_", " ").toLowerCase()
+                  + " ate some "
+                  + pet.getFood().name().toLowerCase()
+                  + "!"));
+    }
+
+    // Read again, as a pet whose state was still loading only gets a stored state once it changes
+    HungerState hungerState = HungerState.of(petStateManager.getState(uuid, petId).getHunger());
+    String shown = shownMarker(pet, hungerState);
+    if (!shown.equals(shownMarkers.put(uuid, shown))) {
+      updatePetLore(offhand, pet, hungerState, shown);
     }
-    return "Starving";
   }
 
-  private void updatePetLore(ItemStack item, String hungerState) {
+  /**
+   * Shows a pet's hunger state in the lore of its item. The item remembers in its persistent data
+   * which state and food it shows and how many lore lines at the end belong to the pet, so the item
+   * is only written when what it shows is different, e.g. after pets.yml gives the pet a new food,
+   * and the old lines are replaced without reading their text. Items from before the marker existed
+   * are cleaned up by text once.
+   */
+  private void updatePetLore(ItemStack item, Pet pet, HungerState hungerState, String shown) {
     ItemMeta meta = item.getItemMeta();
     if (meta == null) {
       return;
     }
-    List<Component> lore = meta.lore() != null ? meta.lore() : new ArrayList<>();
-    // Remove old hunger line if present
-    lore.removeIf(line -> line.toString().contains("Hunger:"));
-
-    // Determine color based on hunger state
-    TextColor color;
-    switch (hungerState) {
-      case "Full" -> color = NamedTextColor.GREEN;
-      case "Peckish" -> color = NamedTextColor.YELLOW;
-      case "Hungry" -> color = NamedTextColor.GOLD;
-      default -> color = NamedTextColor.RED;
+    PersistentDataContainer data = meta.getPersistentDataContainer();
+    if (shown.equals(data.get(shownHungerKey, PersistentDataType.STRING))) {
+      return;
     }
 
-    // Compose the lore line: "Hunger: " (white) + state (italic, colored)
-    Component hungerComponent =
-        Component.text("Hunger: ", NamedTextColor.WHITE)
-            .append(Component.text(hungerState, color, TextDecoration.ITALIC));
-    lore.add(hungerComponent);
-
-    // Add favorite food line if not present
-    boolean hasFoodLine = lore.stream().anyMatch(line -> line.toString().contains("I eat"));
-    if (!hasFoodLine) {
-      // Try to get the pet's food type from the persistent data or fallback
-      String foodName = "unknown food";
-      if (isPetItem(item)) {
-        Pet pet = null;
-        // Try to get the petId from the item
-        NamespacedKey itemModel = meta.getItemModel();
-        if (itemModel != null && itemModel.getNamespace().equals("hotbar_pets")) {
-          String petId = itemModel.getKey();
-          pet = petsManager.getPetById(petId);
-        }
-        if (pet != null && pet.getFood() != null) {
-          foodName = formatMaterialName(pet.getFood().name());
-        }
-      }
-      lore.add(
-          Component.text("I eat " + foodName + "!", NamedTextColor.GRAY, TextDecoration.ITALIC));
+    List<Component> lore = meta.lore() != null ? meta.lore() : new ArrayList<>();
+    Integer ownLines = data.get(loreLinesKey, PersistentDataType.INTEGER);
+    if (ownLines != null && ownLines <= lore.size()) {
+      lore.subList(lore.size() - ownLines, lore.size()).clear();
+    } else {
+      lore.removeIf(
+          line -> line.toString().contains("Hunger:") || line.toString().contains("I eat"));
     }
 
+    List<Component> petLines = petLoreLines(pet, hungerState);
+    lore.addAll(petLines);
     meta.lore(lore);
+    // The item only carries its pet's id; everything else about the pet is kept by the plugin
+    data.set(petsManager.getPetIdKey(), PersistentDataType.STRING, pet.getId());
+    data.set(shownHungerKey, PersistentDataType.STRING, shown);
+    data.set(loreLinesKey, PersistentDataType.INTEGER, petLines.size());
     item.setItemMeta(meta);
   }
 
+  /** Describes everything a pet's lore lines depend on, e.g. "HUNGRY:WHEAT_SEEDS". */
+  private static String shownMarker(Pet pet, HungerState hungerState) {
+    return hungerState.name() + ":" + (pet.getFood() != null ? pet.getFood().name() : "");
+  }
+
+  /** Gets the lore lines shown for a pet in a hunger state, building them the first time. */
+  private List<Component> petLoreLines(Pet pet, HungerState hungerState) {
+    return loreCache
+        .computeIfAbsent(pet, k -> new EnumMap<>(HungerState.class))
+        .computeIfAbsent(hungerState, k -> buildPetLoreLines(pet, hungerState));
+  }
+
+  private List<Component> buildPetLoreLines(Pet pet, HungerState hungerState) {
+    // "Hunger: " (white) + state (italic, colored)
+    Component hungerLine =
+        Component.text("Hunger: ", NamedTextColor.WHITE)
+            .append(Component.text(hungerState.label, hungerState.color, TextDecoration.ITALIC));
+
+    String foodName = "unknown food";
+    if (pet.getFood() != null) {
+      foodName = formatMaterialName(pet.getFood().name());
+    }
+    Component foodLine =
+        Component.text("I eat " + foodName + "!", NamedTextColor.GRAY, TextDecoration.ITALIC);
+
+    return List.of(hungerLine, foodLine);
+  }
+
   // Helper to format material names nicely
   private String formatMaterialName(String materialName) {
     String formatted = materialName.replace('_', ' ').toLowerCase();
@@ -220,29 +274,14 @@ public class PetsListener implements Listener {
   }
 
   /**
-   * Checks if the item is a pet (has hotbar_pets model).
+   * Checks if the item is a pet, either by the pet id in its persistent data or by its hotbar_pets
+   * model.
    *
    * @param item The ItemStack to check.
    * @return true if the item is a pet, false otherwise.
    */
   private boolean isPetItem(ItemStack item) {
-    if (item == null || !item.hasItemMeta()) {
-      return false;
-    }
-
-    ItemMeta meta = item.getItemMeta();
-    NamespacedKey itemModel = meta.getItemModel();
-
-    if (itemModel == null) {
-      return false;
-    }
-
-    // Also check that the key (pet id) is a valid pet in the petsManager
-    if (!itemModel.getNamespace().equals("hotbar_pets")) {
-      return false;
-    }
-    String petId = itemModel.getKey();
-    return petsManager.getPetById(petId) != null;
+    return petsManager.getPetByItem(item) != null;
   }
 
   /**
@@ -284,7 +323,7 @@ public class PetsListener implements Listener {
   private void playAmbientEffect(Player player, Pet pet) {
     List<String> burps = pet.getBurpSounds();
     if (!burps.isEmpty()) {
-      String burp = burps.get(new Random().nextInt(burps.size()));
+      String burp = burps.get(ThreadLocalRandom.current().nextInt(burps.size()));
       player.playSound(player.getLocation(), burp, SoundCategory.PLAYERS, 1.0f, 1.0f);
     }
   }
@@ -295,7 +334,8 @@ public class PetsListener implements Listener {
    * @return true if the pet should give an item, false otherwise.
    */
   private boolean shouldGiveItem() {
-    return Math.random() < (1.0 / (3 + new Random().nextInt(8))); // ~1 per 3-10 mins
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    return random.nextDouble() < (1.0 / (3 + random.nextInt(8))); // ~1 per 3-10 mins
   }
 
   /**
@@ -304,20 +344,7 @@ public class PetsListener implements Listener {
    * @return true if the pet should play an ambient effect, false otherwise.
    */
   private boolean shouldPlayAmbient() {
-    return Math.random() < 0.1; // 10% chance per tick
-  }
-
-  /**
-   * Decreases the hunger of the specified pet for the player, preventing negative values.
-   *
-   * @param player The player owning the pet.
-   * @param petId The pet's unique identifier.
-   */
-  private void decreaseHunger(Player player, String petId) {
-    Map<String, Integer> hungerMap = petHunger.get(player.getUniqueId());
-    if (hungerMap != null) {
-      hungerMap.put(petId, Math.max(0, hungerMap.get(petId) - HUNGER_COST_PER_ACTION));
-    }
+    return ThreadLocalRandom.current().nextDouble() < 0.1; // 10% chance per action
   }
 
   private ItemStack findAndConsumeFood(Player player, org.bukkit.Material foodType) {
@@ -329,4 +356,33 @@ public class PetsListener implements Listener {
     }
     return null;
   }
+
+  /** How hungry a pet looks, and how that is shown in its lore. */
+  private enum HungerState {
+    FULL("Full", NamedTextColor.GREEN),
+    PECKISH("Peckish", NamedTextColor.YELLOW),
+    HUNGRY("Hungry", NamedTextColor.GOLD),
+    STARVING("Starving", NamedTextColor.RED);
+
+    private final String label;
+    private final TextColor color;
+
+    HungerState(String label, TextColor color) {
+      this.label = label;
+      this.color = color;
+    }
+
+    private static HungerState of(int hunger) {
+      if (hunger >= 4) {
+        return FULL;
+      }
+      if (hunger >= 2) {
+        return PECKISH;
+      }
+      if (hunger == 1) {
+        return HUNGRY;
+      }
+      return STARVING;
+    }
+  }
 }
@@ -1,32 +1,26 @@
 package com.storytimeproductions.stweaks.listeners;
 
-import com.storytimeproductions.stweaks.commands.StStatusCommand;
-import com.storytimeproductions.stweaks.playtime.PlaytimeData;
 import com.storytimeproductions.stweaks.playtime.PlaytimeTracker;
-import com.storytimeproductions.stweaks.util.BossBarManager;
-import com.storytimeproductions.stweaks.util.TablistManager;
+import com.storytimeproductions.stweaks.util.HudRenderer;
+import com.storytimeproductions.stweaks.util.PlayerNameCache;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
-import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
 import net.minecraft.network.protocol.common.ClientboundResourcePackPushPacket;
 import org.bukkit.Bukkit;
-import org.bukkit.Material;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.craftbukkit.entity.CraftPlayer;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.inventory.ItemStack;
-import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Listens for player movement and connection events to track activity and manage UI elements.
@@ -40,42 +34,28 @@ public class PlayerActivityListener implements Listener {
   private static final long AFK_THRESHOLD_MILLIS = 1 * 60 * 1000;
 
   /**
-   * Constructs a new {@code PlayerActivityListener} and starts a repeating task to check AFK
-   * statuses.
-   *
-   * @param plugin The main plugin instance used to schedule tasks.
+   * Constructs a new {@code PlayerActivityListener}. AFK statuses are refreshed by the {@link
+   * HudRenderer} as part of each player's HUD render.
    */
-  public PlayerActivityListener(JavaPlugin plugin) {
+  public PlayerActivityListener() {
     // Remove any leftover BELOW_NAME objective from older plugin versions.
     org.bukkit.scoreboard.Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
     org.bukkit.scoreboard.Objective stale = main.getObjective("timeleft");
     if (stale != null) {
       stale.unregister();
     }
+  }
 
-    // Start the periodic AFK checker
-    new BukkitRunnable() {
-      @Override
-      public void run() {
-        long now = System.currentTimeMillis();
-        for (Player player : Bukkit.getOnlinePlayers()) {
-          UUID uuid = player.getUniqueId();
-          // Skip fake-player NPCs — they have no playtime entry.
-          if (!PlaytimeTracker.playtimeMap.containsKey(uuid)) {
-            continue;
-          }
-          // Multiplier and AFK tracking only apply in game worlds, not lobby.
-          if (!player.getWorld().getName().startsWith("world")) {
-            continue;
-          }
-          TablistManager.updateTablist(player, PlaytimeTracker.getTotalMultiplier());
-          updateTablistTimer(player, PlaytimeTracker.getData(uuid).getAvailableSeconds());
-          long lastActive = lastMovement.getOrDefault(uuid, now);
-          boolean afk = (now - lastActive) > AFK_THRESHOLD_MILLIS;
-          PlaytimeTracker.setAfk(uuid, afk);
-        }
-      }
-    }.runTaskTimer(plugin, 0L, 20); // Check every second
+  /**
+   * Marks a player as AFK if they have not moved for longer than the AFK threshold.
+   *
+   * @param uuid The unique identifier of the player to check.
+   * @param now The current time in milliseconds.
+   */
+  public static void refreshAfk(UUID uuid, long now) {
+    long lastActive = lastMovement.getOrDefault(uuid, now);
+    boolean afk = (now - lastActive) > AFK_THRESHOLD_MILLIS;
+    PlaytimeTracker.setAfk(uuid, afk);
   }
 
   /**
@@ -92,11 +72,32 @@ public class PlayerActivityListener implements Listener {
     PlaytimeTracker.setAfk(uuid, false); // Reset AFK on movement
   }
 
+  /**
+   * Loads the player's playtime off the main thread before they join.
+   *
+   * <p>If the playtime cannot be loaded, the login is refused rather than letting the player start
+   * with a fresh timer that would overwrite their stored one.
+   *
+   * @param event The {@link AsyncPlayerPreLoginEvent} for the player who is logging in.
+   */
+  @EventHandler(priority = EventPriority.HIGHEST)
+  public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+    if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+      return;
+    }
+    if (!PlaytimeTracker.preload(event.getUniqueId())) {
+      event.disallow(
+          AsyncPlayerPreLoginEvent.Result.KICK_OTHER,
+          Component.text("Could not load your playtime. Please try again.", NamedTextColor.RED));
+    }
+  }
+
   /**
    * Handles the player join event.
    *
-   * <p>Initializes the player's movement timestamp, updates the BossBar and tablist UI, and makes
-   * the player execute the /lobby command upon joining the server.
+   * <p>Initializes the player's movement timestamp, applies a daily reset that ran while the
+   * player's playtime was loading, remembers the player's name, updates the BossBar and tablist UI,
+   * and makes the player execute the /lobby command upon joining the server.
    *
    * @param event The {@link PlayerJoinEvent} containing the joining player's information.
    */
@@ -106,9 +107,9 @@ public class PlayerActivityListener implements Listener {
     UUID uuid = player.getUniqueId();
 
     lastMovement.put(uuid, System.currentTimeMillis());
-    BossBarManager.updateBossBar(player);
-    TablistManager.updateTablist(player, PlaytimeTracker.getTotalMultiplier());
-    updateTablistTimer(player, PlaytimeTracker.getSeconds(uuid));
+    PlaytimeTracker.catchUpDailyReset(uuid);
+    PlayerNameCache.remember(uuid, player.getName());
+    HudRenderer.track(player);
     sendResourcePack(player);
 
     Bukkit.getScheduler()
@@ -159,7 +160,8 @@ public class PlayerActivityListener implements Listener {
   /**
    * Handles the player quit event.
    *
-   * <p>Removes the player's last movement entry and cleans up their BossBar UI element.
+   * <p>Removes the player's last movement entry, starts their playtime eviction delay, and cleans
+   * up their BossBar UI element.
    *
    * @param event The {@link PlayerQuitEvent} containing the quitting player's information.
    */
@@ -168,8 +170,9 @@ public class PlayerActivityListener implements Listener {
     Player player = event.getPlayer();
     UUID uuid = player.getUniqueId();
     lastMovement.remove(uuid);
+    PlaytimeTracker.markOffline(uuid);
     player.playerListName(null); // reset tab list name to default
-    BossBarManager.removeBossBar(event.getPlayer());
+    HudRenderer.untrack(event.getPlayer());
     if (!event.getPlayer().getWorld().getName().startsWith("world")) {
       event
           .getPlayer()
@@ -180,149 +183,4 @@ public class PlayerActivityListener implements Listener {
               });
     }
   }
-
-  /**
-   * Prevents users from moving items in the "Your Playtime Status" inventory.
-   *
-   * @param event The {@link InventoryClickEvent} containing inventory click information.
-   */
-  @EventHandler
-  public void onInventoryClick(InventoryClickEvent event) {
-    if (event.getView() == null) {
-      return;
-    }
-    String title = event.getView().title().toString();
-    Player player = (Player) event.getWhoClicked();
-
-    // Admin view: select player
-    if (title.contains("Admin: Player Status")) {
-      event.setCancelled(true);
-      ItemStack clicked = event.getCurrentItem();
-      if (clicked != null && clicked.getType() == Material.PLAYER_HEAD) {
-        String playerName =
-            PlainTextComponentSerializer.plainText().serialize(clicked.getItemMeta().displayName());
-        if (playerName == null || playerName.isEmpty()) {
-          player.sendMessage("Could not determine player name from head.");
-          return;
-        }
-        Player target = Bukkit.getPlayerExact(playerName);
-        if (target != null) {
-          StStatusCommand.openPlayerManageInventory(
-              player, target, Bukkit.getPluginManager().getPlugin("stweaks"));
-        }
-      }
-    }
-
-    // Player manage view: add/remove time, ticket/cash
-    if (title.contains("Manage: ")) {
-      String rawTitle = PlainTextComponentSerializer.plainText().serialize(event.getView().title());
-
-      event.setCancelled(true);
-      ItemStack clicked = event.getCurrentItem();
-      if (clicked == null) {
-        return;
-      }
-      String[] split = rawTitle.split(": ");
-      if (split.length < 2) {
-        return;
-      }
-      String playerName = split[1];
-      Player target = Bukkit.getPlayerExact(playerName);
-      if (target == null) {
-        return;
-      }
-      PlaytimeData data = PlaytimeTracker.getData(target.getUniqueId());
-      switch (event.getSlot()) {
-        case 12: // Add 5 minutes
-          data.addAvailableSeconds(300);
-          player.sendMessage("Added 5 minutes to " + playerName);
-          break;
-        case 10: // Remove 5 minutes
-          data.addAvailableSeconds(-300);
-          player.sendMessage("Removed 5 minutes from " + playerName);
-          break;
-        case 14: // Give ticket
-          player.performCommand("status ticket " + playerName);
-          break;
-        case 16: // Cash ticket
-          player.performCommand("status cash " + playerName);
-          break;
-        default:
-          break;
-      }
-      StStatusCommand.openPlayerManageInventory(
-          player, target, Bukkit.getPluginManager().getPlugin("stweaks"));
-    }
-
-    if (title != null && title.contains("Your Playtime Status")) {
-      event.setCancelled(true);
-
-      // Handle add/remove banked chunk buttons
-      if (event.getCurrentItem() == null || event.getCurrentItem().getItemMeta() == null) {
-        return;
-      }
-      var meta = event.getCurrentItem().getItemMeta();
-      var pdc = meta.getPersistentDataContainer();
-
-      // Add banked chunk
-      if (pdc.has(
-          new org.bukkit.NamespacedKey("stweaks", "add_banked"),
-          org.bukkit.persistence.PersistentDataType.STRING)) {
-        var data = PlaytimeTracker.getData(player.getUniqueId());
-        if (data == null) {
-          return;
-        }
-        double secondsLeft = data.getAvailableSeconds();
-        if (secondsLeft - 300 > 600) {
-          data.setBankedTickets(data.getBankedTickets() + 1);
-          data.addAvailableSeconds(-300);
-          player.sendMessage("Added a 5-minute chunk to your bank!");
-        } else {
-          player.sendMessage(
-              "You cannot bank more chunks (must keep more than 10 minutes remaining).");
-        }
-        player.performCommand("status");
-        return;
-      }
-
-      // Remove banked chunk
-      if (pdc.has(
-          new org.bukkit.NamespacedKey("stweaks", "remove_banked"),
-          org.bukkit.persistence.PersistentDataType.STRING)) {
-        var data =
-            com.storytimeproductions.stweaks.playtime.PlaytimeTracker.getData(player.getUniqueId());
-        if (data == null) {
-          return;
-        }
-        int banked = data.getBankedTickets();
-        if (banked > 0) {
-          if (data.getAvailableSeconds() < 3600 - 300) {
-            data.setBankedTickets(banked - 1);
-            data.addAvailableSeconds(300);
-            player.sendMessage("Removed a 5-minute chunk from your bank!");
-          } else {
-            player.sendMessage("You can only add time if you have less than 55 minutes remaining.");
-          }
-        } else {
-          player.sendMessage("You have no banked chunks to remove.");
-        }
-        player.performCommand("status");
-        return;
-      }
-    }
-  }
-
-  /**
-   * Updates the player's Tab list name to include their remaining time. playerListName() only
-   * affects the Tab list — in-world nametags are unaffected, so named animals never inherit the
-   * timer.
-   *
-   * @param player The player to update.
-   * @param secondsLeft The number of seconds left to display.
-   */
-  public static void updateTablistTimer(Player player, double secondsLeft) {
-    player.playerListName(
-        Component.text(player.getName())
-            .append(Component.text(" " + (int) secondsLeft + "s").color(NamedTextColor.YELLOW)));
-  }
 }
@@ -1,6 +1,7 @@
 package com.storytimeproductions.stweaks.managers;
 
 import com.storytimeproductions.stweaks.Stweaks;
+import com.storytimeproductions.stweaks.util.MenuHolder;
 import java.io.File;
 import java.util.List;
 import net.kyori.adventure.text.Component;
@@ -14,14 +15,10 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.Action;
-import org.bukkit.event.inventory.InventoryClickEvent;
-import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerDropItemEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
-import org.bukkit.inventory.Inventory;
-import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataType;
@@ -42,7 +39,6 @@ public class SurvivalRewardManager implements Listener {
 
   private final Stweaks plugin;
   private final NamespacedKey itemKey;
-  private final NamespacedKey menuActionKey;
 
   /**
    * Constructs a new SurvivalRewardManager.
@@ -52,7 +48,6 @@ public class SurvivalRewardManager implements Listener {
   public SurvivalRewardManager(Stweaks plugin) {
     this.plugin = plugin;
     this.itemKey = new NamespacedKey(plugin, "stweaks_item");
-    this.menuActionKey = new NamespacedKey(plugin, "menu_action");
   }
 
   /**
@@ -149,49 +144,6 @@ public class SurvivalRewardManager implements Listener {
     }
   }
 
-  /**
-   * Handles clicks inside the StoryTime guide menu GUI.
-   *
-   * @param event the click event
-   */
-  @EventHandler
-  public void onInventoryClick(InventoryClickEvent event) {
-    if (!(event.getWhoClicked() instanceof Player player)) {
-      return;
-    }
-    if (!(event.getInventory().getHolder() instanceof GuideMenuHolder)) {
-      return;
-    }
-
-    event.setCancelled(true);
-    ItemStack clicked = event.getCurrentItem();
-    if (clicked == null || !clicked.hasItemMeta()) {
-      return;
-    }
-    String cmd =
-        clicked
-            .getItemMeta()
-            .getPersistentDataContainer()
-            .get(menuActionKey, PersistentDataType.STRING);
-    if (cmd == null) {
-      return;
-    }
-    player.closeInventory();
-    player.performCommand(cmd);
-  }
-
-  /**
-   * Prevents dragging items inside the StoryTime guide menu GUI.
-   *
-   * @param event the drag event
-   */
-  @EventHandler
-  public void onInventoryDrag(InventoryDragEvent event) {
-    if (event.getInventory().getHolder() instanceof GuideMenuHolder) {
-      event.setCancelled(true);
-    }
-  }
-
   private void giveItems(Player player) {
     if (!hasItem(player, VAL_GUIDE)) {
       player.getInventory().setItem(SLOT_GUIDE, createGuideBook());
@@ -217,39 +169,36 @@ public class SurvivalRewardManager implements Listener {
   }
 
   private void openGuideMenu(Player player) {
-    Inventory menu =
-        Bukkit.createInventory(
-            new GuideMenuHolder(),
-            27,
-            Component.text("StoryTime").color(NamedTextColor.DARK_PURPLE));
+    MenuHolder menu =
+        new MenuHolder(27, Component.text("StoryTime").color(NamedTextColor.DARK_PURPLE));
 
     ItemStack pane = pane();
     for (int i = 0; i < 27; i++) {
       menu.setItem(i, pane);
     }
 
-    menu.setItem(
-        10,
-        menuButton(
-            Material.EMERALD, "Quests", "Browse your daily and seasonal quests.", "stquests"));
-    menu.setItem(
-        12, menuButton(Material.BONE, "Pets", "View and manage your pet companions.", "stpets"));
-    menu.setItem(
+    menuButton(
+        menu, 10, Material.EMERALD, "Quests", "Browse your daily and seasonal quests.", "stquests");
+    menuButton(menu, 12, Material.BONE, "Pets", "View and manage your pet companions.", "stpets");
+    menuButton(
+        menu,
         13,
-        menuButton(
-            Material.COMPASS, "Biome Tracker", "Track your biome discoveries.", "biometracker"));
-    menu.setItem(
-        14,
-        menuButton(Material.FEATHER, "Cosmetics", "Browse cosmetics and effects.", "stcosmetics"));
-    menu.setItem(16, menuButton(Material.GOLD_INGOT, "Casino", "Test your luck.", "stcasino"));
-    menu.setItem(
-        22,
-        menuButton(Material.PAPER, "Status", "View your playtime and server status.", "ststatus"));
+        Material.COMPASS,
+        "Biome Tracker",
+        "Track your biome discoveries.",
+        "biometracker");
+    menuButton(
+        menu, 14, Material.FEATHER, "Cosmetics", "Browse cosmetics and effects.", "stcosmetics");
+    menuButton(menu, 16, Material.GOLD_INGOT, "Casino", "Test your luck.", "stcasino");
+    menuButton(
+        menu, 22, Material.PAPER, "Status", "View your playtime and server status.", "ststatus");
 
-    player.openInventory(menu);
+    menu.open(player);
   }
 
-  private ItemStack menuButton(Material mat, String name, String lore, String cmd) {
+  /** Puts a button in the guide menu that closes the menu and runs a command. */
+  private void menuButton(
+      MenuHolder menu, int slot, Material mat, String name, String lore, String cmd) {
     ItemStack stack = new ItemStack(mat);
     ItemMeta meta = stack.getItemMeta();
     meta.displayName(
@@ -259,9 +208,14 @@ public class SurvivalRewardManager implements Listener {
             Component.text(lore)
                 .color(NamedTextColor.GRAY)
                 .decoration(TextDecoration.ITALIC, true)));
-    meta.getPersistentDataContainer().set(menuActionKey, PersistentDataType.STRING, cmd);
     stack.setItemMeta(meta);
-    return stack;
+    menu.setItem(
+        slot,
+        stack,
+        p -> {
+          p.closeInventory();
+          p.performCommand(cmd);
+        });
   }
 
   private ItemStack pane() {
@@ -335,12 +289,4 @@ public class SurvivalRewardManager implements Listener {
     }
     return YamlConfiguration.loadConfiguration(playerFile).getBoolean("portal-unlocked", false);
   }
-
-  /** Internal InventoryHolder used to identify the guide menu inventory. */
-  private static class GuideMenuHolder implements InventoryHolder {
-    @Override
-    public Inventory getInventory() {
-      return null;
-    }
-  }
 }
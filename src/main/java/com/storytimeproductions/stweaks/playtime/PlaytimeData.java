@@ -1,5 +1,8 @@
 package com.storytimeproductions.stweaks.playtime;
 
+import java.time.LocalDate;
+import java.util.Objects;
+
 /**
  * Represents the playtime data for a player. Stores the available seconds a player has and their
  * AFK (away-from-keyboard) status.
@@ -10,8 +13,9 @@ public class PlaytimeData {
   private boolean isAfk;
   private double availableSeconds;
   private int bankedTickets = 0;
-  private Integer lastHourChecked = null;
+  private LocalDate lastResetDay = null;
   private boolean kickOnAfkTimeout = false;
+  private boolean dirty = false;
 
   /**
    * Constructs a PlaytimeData object with a predefined number of available seconds.
@@ -26,11 +30,13 @@ public class PlaytimeData {
   public PlaytimeData() {
     availableSeconds = 10800;
     isAfk = false;
+    dirty = true;
   }
 
   /** Resets the available seconds to zero. */
   public void reset() {
     this.availableSeconds = 0;
+    dirty = true;
   }
 
   /**
@@ -39,10 +45,14 @@ public class PlaytimeData {
    * @param seconds The seconds to add (can be negative).
    */
   public boolean addAvailableSeconds(double seconds) {
+    double previous = this.availableSeconds;
     this.availableSeconds += seconds;
     if (this.availableSeconds < 0) {
       this.availableSeconds = 0;
     }
+    if (this.availableSeconds != previous) {
+      dirty = true;
+    }
     return true;
   }
 
@@ -52,6 +62,9 @@ public class PlaytimeData {
    * @param seconds The new total available seconds.
    */
   public void setAvailableSeconds(double seconds) {
+    if (this.availableSeconds != seconds) {
+      dirty = true;
+    }
     this.availableSeconds = seconds;
   }
 
@@ -116,25 +129,31 @@ public class PlaytimeData {
    * @param tickets The number of tickets to set.
    */
   public void setBankedTickets(int tickets) {
+    if (this.bankedTickets != tickets) {
+      dirty = true;
+    }
     this.bankedTickets = tickets;
   }
 
   /**
-   * Gets the last hour checked for daily playtime reset.
+   * Gets the reset day on which the daily playtime top-up was last applied.
    *
-   * @return the last checked hour, or null if never set
+   * @return the last reset day, or null if never set
    */
-  public Integer getLastHourChecked() {
-    return lastHourChecked;
+  public LocalDate getLastResetDay() {
+    return lastResetDay;
   }
 
   /**
-   * Sets the last hour checked for daily playtime reset.
+   * Sets the reset day on which the daily playtime top-up was last applied.
    *
-   * @param hour the hour to set
+   * @param day the reset day to set
    */
-  public void setLastHourChecked(Integer hour) {
-    this.lastHourChecked = hour;
+  public void setLastResetDay(LocalDate day) {
+    if (!Objects.equals(this.lastResetDay, day)) {
+      dirty = true;
+    }
+    this.lastResetDay = day;
   }
 
   /**
@@ -154,4 +173,23 @@ public class PlaytimeData {
   public void setKickOnAfkTimeout(boolean kick) {
     this.kickOnAfkTimeout = kick;
   }
+
+  /**
+   * Checks if the persisted fields have changed since they were last written to the database.
+   *
+   * @return {@code true} if the data needs to be flushed, {@code false} otherwise.
+   */
+  public boolean isDirty() {
+    return dirty;
+  }
+
+  /**
+   * Sets whether the persisted fields have changed since they were last written to the database.
+   *
+   * @param dirty {@code true} to schedule the data for the next flush, {@code false} once it has
+   *     been handed to the writer.
+   */
+  public void setDirty(boolean dirty) {
+    this.dirty = dirty;
+  }
 }
@@ -0,0 +1,332 @@
+package com.storytimeproductions.stweaks.playtime;
+
+import com.storytimeproductions.stweaks.config.SettingsManager;
+import com.storytimeproductions.stweaks.util.DbManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Write-behind persistence for {@link PlaytimeData}.
+ *
+ * <p>Every flush interval, the main thread collects the entries of {@link
+ * PlaytimeTracker#playtimeMap} that changed since they were last written, copies their persisted
+ * fields into immutable rows, and hands those rows to a dedicated writer thread that upserts them
+ * in a single batched transaction. Rows that fail to write stay queued and are retried on the next
+ * flush; a newer row for the same player replaces an older pending one.
+ *
+ * <p>Loads run on the same writer thread, so a player who rejoins before their last row was written
+ * is loaded from the pending queue rather than from the stale database row.
+ */
+public class PlaytimePersistence {
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO playtime (uuid, available_seconds, banked_tickets, last_reset)
+      VALUES (?, ?, ?, ?)
+      ON CONFLICT(uuid) DO UPDATE SET
+        available_seconds = excluded.available_seconds,
+        banked_tickets = excluded.banked_tickets,
+        last_reset = excluded.last_reset
+      """;
+  private static final String SELECT_SQL =
+      "SELECT available_seconds, banked_tickets, last_reset FROM playtime WHERE uuid = ?";
+  private static final long LOAD_TIMEOUT_SECONDS = 10;
+
+  private static final Map<UUID, PlaytimeRow> pending = new ConcurrentHashMap<>();
+  private static final AtomicBoolean flushQueued = new AtomicBoolean(false);
+  private static final AtomicLong totalRowsFlushed = new AtomicLong();
+  private static final AtomicLong failedFlushes = new AtomicLong();
+
+  private static JavaPlugin plugin;
+  private static DbManager dbManager;
+  private static ExecutorService writer;
+  private static Connection connection;
+
+  private static volatile long lastFlushMillis = 0L;
+  private static volatile int lastBatchSize = 0;
+
+  /**
+   * Initializes the writer thread and starts the periodic dirty-entry flush.
+   *
+   * @param pl The plugin instance.
+   * @param db The database manager used to open the writer's connection.
+   */
+  public static void init(JavaPlugin pl, DbManager db) {
+    plugin = pl;
+    dbManager = db;
+    writer =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "Stweaks-PlaytimeWriter");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    long intervalTicks = Math.max(1, SettingsManager.getPlaytimeFlushIntervalSeconds()) * 20L;
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        collectDirty();
+        if (!pending.isEmpty() && flushQueued.compareAndSet(false, true)) {
+          writer.execute(
+              () -> {
+                flushQueued.set(false);
+                writePending();
+              });
+        }
+      }
+    }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+  }
+
+  /**
+   * Stops the writer thread and synchronously writes every remaining dirty entry. Must be called
+   * from the main thread when the plugin is disabled.
+   */
+  public static void shutdown() {
+    if (writer != null) {
+      writer.shutdown();
+      try {
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+          plugin.getLogger().warning("Playtime writer did not finish in time, draining anyway.");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    collectDirty();
+    writePending();
+
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        e.printStackTrace();
+      }
+      connection = null;
+    }
+  }
+
+  /**
+   * Copies every dirty entry into the pending queue and clears its dirty flag. Must be called from
+   * the main thread, which owns {@link PlaytimeData}.
+   */
+  static void collectDirty() {
+    for (Map.Entry<UUID, PlaytimeData> entry : PlaytimeTracker.playtimeMap.entrySet()) {
+      PlaytimeData data = entry.getValue();
+      if (data.isDirty()) {
+        pending.put(
+            entry.getKey(),
+            new PlaytimeRow(
+                entry.getKey(),
+                data.getAvailableSeconds(),
+                data.getBankedTickets(),
+                data.getLastResetDay()));
+        data.setDirty(false);
+      }
+    }
+  }
+
+  /**
+   * Loads a player's playtime on the writer thread, blocking the caller until it is available. Must
+   * not be called from the main thread while the writer is busy with a large batch.
+   *
+   * @param uuid The unique identifier of the player.
+   * @return The player's playtime data, or {@code null} if they have no stored row.
+   * @throws SQLException If the row could not be read.
+   */
+  public static PlaytimeData load(UUID uuid) throws SQLException {
+    Future<PlaytimeData> future;
+    try {
+      future = writer.submit(() -> readData(uuid));
+    } catch (RejectedExecutionException e) {
+      // The writer has been shut down, so nothing else is using the connection
+      return readData(uuid);
+    }
+
+    try {
+      return future.get(LOAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SQLException("Interrupted while loading playtime for " + uuid, e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof SQLException sqlException) {
+        throw sqlException;
+      }
+      throw new SQLException("Failed to load playtime for " + uuid, e.getCause());
+    } catch (TimeoutException e) {
+      future.cancel(false);
+      throw new SQLException("Timed out loading playtime for " + uuid, e);
+    }
+  }
+
+  /**
+   * Checks if a player has a row waiting to be written.
+   *
+   * @param uuid The unique identifier of the player.
+   * @return {@code true} if the player's latest data has not been written yet.
+   */
+  public static boolean isPending(UUID uuid) {
+    return pending.containsKey(uuid);
+  }
+
+  /** Reads a player's row, preferring a pending row that has not been written yet. */
+  private static synchronized PlaytimeData readData(UUID uuid) throws SQLException {
+    PlaytimeRow row = pending.get(uuid);
+    if (row != null) {
+      return row.toData();
+    }
+
+    ensureConnection();
+    try (PreparedStatement ps = connection.prepareStatement(SELECT_SQL)) {
+      ps.setString(1, uuid.toString());
+      try (ResultSet rs = ps.executeQuery()) {
+        if (!rs.next()) {
+          return null;
+        }
+        String lastReset = rs.getString("last_reset");
+        return new PlaytimeRow(
+                uuid,
+                rs.getDouble("available_seconds"),
+                rs.getInt("banked_tickets"),
+                lastReset != null ? LocalDate.parse(lastReset) : null)
+            .toData();
+      }
+    }
+  }
+
+  private static void ensureConnection() throws SQLException {
+    if (connection == null || connection.isClosed()) {
+      connection = dbManager.openConnection();
+    }
+  }
+
+  /** Writes every pending row in a single batched transaction. */
+  private static synchronized void writePending() {
+    List<PlaytimeRow> batch = new ArrayList<>(pending.values());
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    long start = System.nanoTime();
+    try {
+      ensureConnection();
+      connection.setAutoCommit(false);
+      try (PreparedStatement ps = connection.prepareStatement(UPSERT_SQL)) {
+        for (PlaytimeRow row : batch) {
+          ps.setString(1, row.uuid.toString());
+          ps.setDouble(2, row.availableSeconds);
+          ps.setInt(3, row.bankedTickets);
+          ps.setString(4, row.lastResetDay != null ? row.lastResetDay.toString() : null);
+          ps.addBatch();
+        }
+        ps.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      failedFlushes.incrementAndGet();
+      e.printStackTrace();
+      return;
+    }
+
+    // Only drop rows that were not replaced by a newer snapshot while we were writing
+    for (PlaytimeRow row : batch) {
+      pending.remove(row.uuid, row);
+    }
+    lastFlushMillis = (System.nanoTime() - start) / 1_000_000L;
+    lastBatchSize = batch.size();
+    totalRowsFlushed.addAndGet(batch.size());
+  }
+
+  /**
+   * Gets how long the last successful flush took to write.
+   *
+   * @return The flush latency in milliseconds.
+   */
+  public static long getLastFlushMillis() {
+    return lastFlushMillis;
+  }
+
+  /**
+   * Gets the number of rows written by the last successful flush.
+   *
+   * @return The last batch size.
+   */
+  public static int getLastBatchSize() {
+    return lastBatchSize;
+  }
+
+  /**
+   * Gets the number of rows waiting to be written.
+   *
+   * @return The writer queue depth.
+   */
+  public static int getQueueDepth() {
+    return pending.size();
+  }
+
+  /**
+   * Gets the number of rows written since the plugin was enabled.
+   *
+   * @return The total rows flushed.
+   */
+  public static long getTotalRowsFlushed() {
+    return totalRowsFlushed.get();
+  }
+
+  /**
+   * Gets the number of flushes that failed and were left queued for retry.
+   *
+   * @return The failed flush count.
+   */
+  public static long getFailedFlushes() {
+    return failedFlushes.get();
+  }
+
+  /** An immutable copy of the persisted fields of a {@link PlaytimeData}. */
+  private static final class PlaytimeRow {
+    private final UUID uuid;
+    private final double availableSeconds;
+    private final int bankedTickets;
+    private final LocalDate lastResetDay;
+
+    private PlaytimeRow(
+        UUID uuid, double availableSeconds, int bankedTickets, LocalDate lastResetDay) {
+      this.uuid = uuid;
+      this.availableSeconds = availableSeconds;
+      this.bankedTickets = bankedTickets;
+      this.lastResetDay = lastResetDay;
+    }
+
+    private PlaytimeData toData() {
+      PlaytimeData data = new PlaytimeData(availableSeconds);
+      data.setBankedTickets(bankedTickets);
+      data.setLastResetDay(lastResetDay);
+      data.setDirty(false);
+      return data;
+    }
+  }
+}
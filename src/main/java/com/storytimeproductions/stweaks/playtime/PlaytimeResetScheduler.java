@@ -0,0 +1,125 @@
+package com.storytimeproductions.stweaks.playtime;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+/**
+ * Schedules the daily playtime reset and the weekend multiplier transitions.
+ *
+ * <p>Rather than checking the clock every second, the next reset and the next weekend transition
+ * are computed once and each is armed as a single delayed task. When a task fires it re-checks the
+ * wall clock, since a lagging server may run it late, does its work, and arms the next one.
+ */
+public class PlaytimeResetScheduler {
+  /** The time zone in which resets and weekends are defined. */
+  public static final ZoneId EASTERN = ZoneId.of("America/New_York");
+
+  /** The hour of the day at which playtime resets. */
+  public static final int RESET_HOUR = 6;
+
+  private static JavaPlugin plugin;
+  private static BukkitTask resetTask;
+  private static BukkitTask weekendTask;
+  private static volatile boolean weekend;
+
+  /**
+   * Initializes the scheduler and arms the first reset and weekend transition.
+   *
+   * @param pl The plugin instance.
+   */
+  public static void init(JavaPlugin pl) {
+    plugin = pl;
+    weekend = isWeekendDay(ZonedDateTime.now(EASTERN).getDayOfWeek());
+    armReset();
+    armWeekendTransition();
+  }
+
+  /**
+   * Checks if the weekend multiplier is currently active.
+   *
+   * @return {@code true} if it is the weekend in Eastern Time, {@code false} otherwise.
+   */
+  public static boolean isWeekend() {
+    return weekend;
+  }
+
+  /**
+   * Gets the current reset day. The day rolls over at 6 AM Eastern Time rather than at midnight.
+   *
+   * @return The current reset day.
+   */
+  public static LocalDate getCurrentResetDay() {
+    return ZonedDateTime.now(EASTERN).minusHours(RESET_HOUR).toLocalDate();
+  }
+
+  /** Arms a task for the next 6 AM reset. */
+  private static void armReset() {
+    ZonedDateTime now = ZonedDateTime.now(EASTERN);
+    ZonedDateTime next = now.toLocalDate().atTime(RESET_HOUR, 0).atZone(EASTERN);
+    if (!next.isAfter(now)) {
+      next = now.toLocalDate().plusDays(1).atTime(RESET_HOUR, 0).atZone(EASTERN);
+    }
+    resetTask =
+        plugin
+            .getServer()
+            .getScheduler()
+            .runTaskLater(
+                plugin,
+                () -> {
+                  PlaytimeTracker.applyDailyReset(getCurrentResetDay());
+                  armReset();
+                },
+                ticksUntil(now, next));
+  }
+
+  /** Arms a task for the next midnight at which the weekend multiplier turns on or off. */
+  private static void armWeekendTransition() {
+    ZonedDateTime now = ZonedDateTime.now(EASTERN);
+    LocalDate day = now.toLocalDate().plusDays(1);
+    boolean current = isWeekendDay(now.getDayOfWeek());
+    while (isWeekendDay(day.getDayOfWeek()) == current) {
+      day = day.plusDays(1);
+    }
+    ZonedDateTime next = day.atStartOfDay(EASTERN);
+    weekendTask =
+        plugin
+            .getServer()
+            .getScheduler()
+            .runTaskLater(
+                plugin,
+                () -> {
+                  weekend = isWeekendDay(ZonedDateTime.now(EASTERN).getDayOfWeek());
+                  armWeekendTransition();
+                },
+                ticksUntil(now, next));
+  }
+
+  /** Cancels the armed tasks. */
+  public static void shutdown() {
+    if (resetTask != null) {
+      resetTask.cancel();
+    }
+    if (weekendTask != null) {
+      weekendTask.cancel();
+    }
+  }
+
+  private static boolean isWeekendDay(DayOfWeek day) {
+    // Tuesday, Friday, Saturday, Sunday
+    return day == DayOfWeek.TUESDAY
+        || day == DayOfWeek.FRIDAY
+        || day == DayOfWeek.SATURDAY
+        || day == DayOfWeek.SUNDAY;
+  }
+
+  /** Converts the time until an instant into server ticks, rounding up so we never fire early. */
+  private static long ticksUntil(ZonedDateTime now, ZonedDateTime target) {
+    long millis = Duration.between(now, target).toMillis();
+    return Math.max(1L, (millis + 49L) / 50L);
+  }
+}
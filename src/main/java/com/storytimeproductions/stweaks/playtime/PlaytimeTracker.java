@@ -1,19 +1,15 @@
 package com.storytimeproductions.stweaks.playtime;
 
 import com.storytimeproductions.stweaks.config.SettingsManager;
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.time.Duration;
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.HashMap;
-import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.Bukkit;
@@ -25,11 +21,15 @@ import org.bukkit.scheduler.BukkitRunnable;
  * Manages and tracks the playtime of players on the server.
  *
  * <p>This class stores playtime data for each player, handles AFK status, and provides utility
- * methods to query remaining required playtime. It also supports persistence via SQLite, allowing
- * playtime data to survive server restarts and reset automatically if a new day begins.
+ * methods to query remaining required playtime. Players' data is loaded from SQLite when they log
+ * in and evicted some time after they leave, and the daily reset is applied from the last reset day
+ * stored alongside it, so playtime survives server restarts and resets automatically if a new day
+ * begins.
  */
 public class PlaytimeTracker {
-  public static final HashMap<UUID, PlaytimeData> playtimeMap = new HashMap<>();
+  public static final Map<UUID, PlaytimeData> playtimeMap = new ConcurrentHashMap<>();
+  private static final Map<UUID, Long> offlineSince = new HashMap<>();
+  private static final Set<UUID> loading = ConcurrentHashMap.newKeySet();
   private static JavaPlugin plugin;
 
   /**
@@ -43,35 +43,12 @@ public class PlaytimeTracker {
     new BukkitRunnable() {
       @Override
       public void run() {
-        ZoneId easternZone = ZoneId.of("America/New_York");
-        ZonedDateTime nowEastern = ZonedDateTime.now(easternZone);
-        int currentHour = nowEastern.getHour();
-
-        for (UUID uuid : playtimeMap.keySet()) {
-          PlaytimeData data = playtimeMap.get(uuid);
-
-          Integer lastHourChecked = data.getLastHourChecked();
-          if (lastHourChecked == null) {
-            data.setLastHourChecked(currentHour);
-            continue;
-          }
-
-          if (lastHourChecked < 6 && currentHour >= 6) {
-            if (data.getAvailableSeconds() <= 10800) {
-              data.setAvailableSeconds(10800);
-            }
-          }
-
-          data.setLastHourChecked(currentHour);
-        }
-
+        double secondsToRemove = 1.0 / Math.max(1.0, getTotalMultiplier());
         for (Player player : Bukkit.getOnlinePlayers()) {
-          PlaytimeData playerData =
-              playtimeMap.computeIfAbsent(player.getUniqueId(), k -> new PlaytimeData());
           if (!player.getWorld().getName().startsWith("world")) {
             continue;
           }
-          double secondsToRemove = 1.0 / Math.max(1.0, getTotalMultiplier());
+          PlaytimeData playerData = getData(player.getUniqueId());
           if (!playerData.isAfk()) {
             playerData.addAvailableSeconds(-secondsToRemove);
           } else {
@@ -91,6 +68,130 @@ public class PlaytimeTracker {
         }
       }
     }.runTaskTimer(plugin, 0L, 20L);
+
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        evictOfflinePlayers();
+      }
+    }.runTaskTimer(plugin, 1200L, 1200L);
+  }
+
+  /**
+   * Loads a player's playtime into memory ahead of their join. Called from the asynchronous
+   * pre-login event, so the database read never happens on the main thread.
+   *
+   * @param uuid The unique identifier of the player who is logging in.
+   * @return {@code true} if the player's playtime is in memory, {@code false} if it failed to load.
+   */
+  public static boolean preload(UUID uuid) {
+    if (playtimeMap.containsKey(uuid)) {
+      return true;
+    }
+    try {
+      playtimeMap.putIfAbsent(uuid, loadOrCreate(uuid));
+      return true;
+    } catch (SQLException e) {
+      e.printStackTrace();
+      return false;
+    }
+  }
+
+  /**
+   * Applies the current day's reset to a joining player's playtime. Playtime preloaded just before
+   * 6 AM can be stamped with the previous reset day and put in memory after the scheduler's reset
+   * pass has already run, so the day's top-up is applied again here. Must be called from the main
+   * thread.
+   *
+   * @param uuid The unique identifier of the player who joined.
+   */
+  public static void catchUpDailyReset(UUID uuid) {
+    PlaytimeData data = playtimeMap.get(uuid);
+    if (data != null) {
+      applyDailyReset(data, PlaytimeResetScheduler.getCurrentResetDay());
+    }
+  }
+
+  /**
+   * Records that a player has left, so their in-memory playtime can be evicted once it has been
+   * flushed and the eviction delay has passed.
+   *
+   * @param uuid The unique identifier of the player who quit.
+   */
+  public static void markOffline(UUID uuid) {
+    offlineSince.put(uuid, System.currentTimeMillis());
+  }
+
+  /**
+   * Removes offline players' playtime from memory once it has been written to the database and they
+   * have been gone for longer than the configured eviction delay.
+   */
+  private static void evictOfflinePlayers() {
+    long now = System.currentTimeMillis();
+    long evictAfterMillis = SettingsManager.getPlaytimeEvictAfterSeconds() * 1000L;
+    Iterator<Map.Entry<UUID, PlaytimeData>> it = playtimeMap.entrySet().iterator();
+    while (it.hasNext()) {
+      Map.Entry<UUID, PlaytimeData> entry = it.next();
+      UUID uuid = entry.getKey();
+      if (Bukkit.getPlayer(uuid) != null) {
+        offlineSince.remove(uuid);
+        continue;
+      }
+      // Entries loaded for a login that never completed have no quit time yet
+      long since = offlineSince.computeIfAbsent(uuid, k -> now);
+      if (now - since < evictAfterMillis
+          || entry.getValue().isDirty()
+          || PlaytimePersistence.isPending(uuid)) {
+        continue;
+      }
+      it.remove();
+      offlineSince.remove(uuid);
+    }
+  }
+
+  /**
+   * Applies the daily top-up to every player in memory in a single pass. Called by the {@link
+   * PlaytimeResetScheduler} when the reset day rolls over; players who are not in memory get the
+   * top-up when they are next loaded.
+   *
+   * @param today The new reset day.
+   */
+  static void applyDailyReset(LocalDate today) {
+    for (PlaytimeData data : playtimeMap.values()) {
+      applyDailyReset(data, today);
+    }
+  }
+
+  /**
+   * Applies the daily top-up to a player's playtime if it has not been applied for the given reset
+   * day yet. Data that has never been reset is only stamped with the day, so that a restart never
+   * counts as a new day.
+   *
+   * @param data The playtime data to reset.
+   * @param today The current reset day.
+   */
+  static void applyDailyReset(PlaytimeData data, LocalDate today) {
+    LocalDate lastReset = data.getLastResetDay();
+    if (today.equals(lastReset)) {
+      return;
+    }
+    if (lastReset != null && data.getAvailableSeconds() <= 10800) {
+      data.setAvailableSeconds(10800);
+    }
+    data.setLastResetDay(today);
+  }
+
+  /**
+   * Loads a player's playtime from the database, or creates a new entry if they have none, and
+   * applies any daily reset they missed while offline.
+   */
+  private static PlaytimeData loadOrCreate(UUID uuid) throws SQLException {
+    PlaytimeData data = PlaytimePersistence.load(uuid);
+    if (data == null) {
+      data = new PlaytimeData();
+    }
+    applyDailyReset(data, PlaytimeResetScheduler.getCurrentResetDay());
+    return data;
   }
 
   /**
@@ -120,135 +221,131 @@ public class PlaytimeTracker {
   }
 
   /**
-   * Computes the social multiplier as the socialMultiplier times the weighted average of all party
-   * sizes, with more weight attributed to larger parties.
+   * Gets the social multiplier from the latest {@link SocialPartyEngine} snapshot.
+   *
+   * @return The social bonus added on top of the base multiplier.
    */
-  public static double computeGlobalSocialMultiplier() {
-    List<Player> players = new ArrayList<>();
-    for (Player p : Bukkit.getOnlinePlayers()) {
-      String worldName = p.getWorld().getName();
-      if (worldName.startsWith("world")) {
-        players.add(p);
-      }
-    }
-
-    // Union-find to find parties
-    int n = players.size();
-    if (n == 1) {
-      return 0.0;
-    }
-
-    int[] parent = new int[n];
-    for (int i = 0; i < n; i++) {
-      parent[i] = i;
-    }
-
-    double distance = getSocialDistance();
-    for (int i = 0; i < n; i++) {
-      Player p1 = players.get(i);
-      for (int j = i + 1; j < n; j++) {
-        Player p2 = players.get(j);
-        if (p1.getWorld().equals(p2.getWorld())
-            && p1.getLocation().distance(p2.getLocation()) <= distance) {
-          int rootI = find(parent, i);
-          int rootJ = find(parent, j);
-          if (rootI != rootJ) {
-            parent[rootJ] = rootI;
-          }
-        }
-      }
-    }
-
-    // Count party sizes
-    Map<Integer, Integer> partySizes = new HashMap<>();
-    for (int i = 0; i < n; i++) {
-      int root = find(parent, i);
-      partySizes.put(root, partySizes.getOrDefault(root, 0) + 1);
-    }
-
-    // Weighted average: weight = size^2 (larger parties have more influence)
-    double weightedSum = 0.0;
-    double totalWeight = 0.0;
-    for (int size : partySizes.values()) {
-      double weight = size * size;
-      weightedSum += size * weight;
-      totalWeight += weight;
-    }
-
-    double weightedAverage = totalWeight > 0 ? (weightedSum / totalWeight) : 0.0;
-    double socialMultiplier = getSocialMultiplier();
-    double result = socialMultiplier * weightedAverage;
-    if (n >= 5) {
-      result = Math.min(result, SettingsManager.getSocialMultiplierCap());
-    }
-    result = Math.floor(result * 100) / 100.0;
-
-    return result;
+  public static double getGlobalSocialMultiplier() {
+    return SocialPartyEngine.getSnapshot().getSocialMultiplier();
   }
 
-  // Helper for union-find
-  private static int find(int[] parent, int i) {
-    if (parent[i] != i) {
-      parent[i] = find(parent, parent[i]);
-    }
-    return parent[i];
-  }
-
-  /** Computes the total multiplier for a player. Includes base, weekend, and social multipliers. */
+  /**
+   * Gets the total multiplier from the latest {@link SocialPartyEngine} snapshot. Includes base,
+   * weekend, and social multipliers.
+   *
+   * @return The total multiplier.
+   */
   public static double getTotalMultiplier() {
-    double total = getBaseMultiplier();
-    if (isWeekend()) {
-      total *= getWeekendMultiplier();
-    }
-    total += computeGlobalSocialMultiplier();
-    return Math.floor(total * 100) / 100.0;
+    return SocialPartyEngine.getSnapshot().getTotalMultiplier();
   }
 
-  /** Checks if it is currently the weekend in Eastern Time. */
+  /**
+   * Checks if it is currently the weekend in Eastern Time.
+   *
+   * @return {@code true} if the weekend multiplier is active, {@code false} otherwise.
+   */
   public static boolean isWeekend() {
-    ZoneId easternZone = ZoneId.of("America/New_York");
-    ZonedDateTime nowEastern = ZonedDateTime.now(easternZone);
-    int day = nowEastern.getDayOfWeek().getValue();
-    return day == 2 || day == 5 || day == 6 || day == 7; // Tuesday, Friday, Saturday, Sunday
+    return PlaytimeResetScheduler.isWeekend();
   }
 
   /**
-   * Resets the recorded available seconds for a specific player.
-   *
-   * <p>This method retrieves the {@link PlaytimeData} associated with the given player's UUID and,
-   * if available, resets their tracked available seconds back to zero. It has no effect if no
-   * playtime data is currently stored for the player.
+   * Resets the recorded available seconds for a specific player back to zero. Meant for admin
+   * commands, so a player who is not in memory is loaded with {@link #loadForAdmin(UUID)}.
    *
    * @param playerUuid The UUID of the player whose available seconds should be reset.
    */
   public static void resetPlaytime(UUID playerUuid) {
-    PlaytimeData data = getData(playerUuid);
-    if (data != null) {
-      data.reset();
-    }
+    loadForAdmin(playerUuid).reset();
   }
 
   /**
    * Sets the AFK status for a specific player.
    *
    * <p>This method updates the AFK status for a player, marking them as either AFK or not AFK. If
-   * the player does not have playtime data yet, a new entry will be created.
+   * the player's playtime is still loading, the change is dropped.
    *
    * @param uuid The unique identifier of the player.
    * @param isAfk The new AFK status for the player.
    */
   public static void setAfk(UUID uuid, boolean isAfk) {
-    playtimeMap.computeIfAbsent(uuid, k -> new PlaytimeData()).setAfk(isAfk);
+    getData(uuid).setAfk(isAfk);
   }
 
   /**
-   * Retrieves the playtime data for a specific player.
+   * Retrieves the playtime data for a specific player. Never touches the database.
+   *
+   * <p>Online players are loaded during pre-login, so this is normally a map lookup. A player who
+   * is not in memory, e.g. after a reload, is loaded in the background, and until then a
+   * placeholder with a full day's time is returned. The placeholder is never stored, so changes
+   * made to it are dropped rather than written over the player's saved playtime.
    *
    * @param uuid The unique identifier of the player.
-   * @return The playtime data for the player, or a new PlaytimeData if none exists.
+   * @return The playtime data for the player, or a placeholder while it loads.
    */
   public static PlaytimeData getData(UUID uuid) {
-    return playtimeMap.computeIfAbsent(uuid, k -> new PlaytimeData());
+    PlaytimeData data = playtimeMap.get(uuid);
+    if (data != null) {
+      return data;
+    }
+    loadAsync(uuid);
+    return new PlaytimeData(10800);
+  }
+
+  /** Loads a player's playtime in the background and puts it in memory on the main thread. */
+  private static void loadAsync(UUID uuid) {
+    if (plugin == null || !plugin.isEnabled() || !loading.add(uuid)) {
+      return;
+    }
+    Bukkit.getScheduler()
+        .runTaskAsynchronously(
+            plugin,
+            () -> {
+              PlaytimeData loaded;
+              try {
+                loaded = loadOrCreate(uuid);
+              } catch (SQLException e) {
+                e.printStackTrace();
+                loading.remove(uuid);
+                return;
+              }
+              if (!plugin.isEnabled()) {
+                return;
+              }
+              Bukkit.getScheduler()
+                  .runTask(
+                      plugin,
+                      () -> {
+                        loading.remove(uuid);
+                        if (playtimeMap.putIfAbsent(uuid, loaded) == null) {
+                          // The reset day may have rolled over while the load was running
+                          applyDailyReset(loaded, PlaytimeResetScheduler.getCurrentResetDay());
+                        }
+                      });
+            });
+  }
+
+  /**
+   * Retrieves the playtime data for a player who may be offline, for admin commands. A player who
+   * is not in memory is loaded from the database on the calling thread, so this must never be used
+   * on a path that runs for every online player.
+   *
+   * @param uuid The unique identifier of the player.
+   * @return The playtime data for the player, or a new PlaytimeData if none exists.
+   */
+  public static PlaytimeData loadForAdmin(UUID uuid) {
+    PlaytimeData data = playtimeMap.get(uuid);
+    if (data != null) {
+      return data;
+    }
+    try {
+      data = loadOrCreate(uuid);
+    } catch (SQLException e) {
+      e.printStackTrace();
+      data = new PlaytimeData();
+      data.setLastResetDay(PlaytimeResetScheduler.getCurrentResetDay());
+    }
+    PlaytimeData existing = playtimeMap.putIfAbsent(uuid, data);
+    return existing != null ? existing : data;
   }
 
   /**
@@ -312,62 +409,4 @@ public class PlaytimeTracker {
     PlaytimeData data = playtimeMap.get(uuid);
     return data != null ? data.getAvailableSeconds() : 0L;
   }
-
-  /**
-   * Loads player playtime data from the SQLite database into memory.
-   *
-   * @param conn A valid database connection.
-   */
-  public static void loadFromDatabase(Connection conn) {
-    try (Statement stmt = conn.createStatement();
-        ResultSet rs = stmt.executeQuery("SELECT * FROM playtime")) {
-      while (rs.next()) {
-        long availableSeconds = rs.getLong("available_seconds");
-        int bankedTickets = 0;
-        try {
-          bankedTickets = rs.getInt("banked_tickets");
-        } catch (SQLException ex) {
-          ex.printStackTrace();
-        }
-        PlaytimeData data = new PlaytimeData(availableSeconds);
-        data.setBankedTickets(bankedTickets);
-
-        UUID uuid = UUID.fromString(rs.getString("uuid"));
-        playtimeMap.put(uuid, data);
-      }
-    } catch (SQLException e) {
-      e.printStackTrace();
-    }
-  }
-
-  /**
-   * Saves the in-memory playtime data to the SQLite database.
-   *
-   * <p>Uses upsert logic: if the player's UUID already exists, the record is updated; otherwise, a
-   * new row is inserted.
-   *
-   * @param conn A valid database connection.
-   */
-  public static void saveToDatabase(Connection conn) {
-    String sql =
-        """
-        INSERT INTO playtime (uuid, available_seconds, banked_tickets)
-        VALUES (?, ?, ?)
-        ON CONFLICT(uuid) DO UPDATE SET
-          available_seconds = excluded.available_seconds,
-          banked_tickets = excluded.banked_tickets
-        """;
-
-    try (PreparedStatement ps = conn.prepareStatement(sql)) {
-      for (var entry : playtimeMap.entrySet()) {
-        ps.setString(1, entry.getKey().toString());
-        ps.setDouble(2, entry.getValue().getAvailableSeconds());
-        ps.setInt(3, entry.getValue().getBankedTickets()); // <-- fix index from 4 to 3
-        ps.addBatch();
-      }
-      ps.executeBatch();
-    } catch (SQLException e) {
-      e.printStackTrace();
-    }
-  }
 }
@@ -0,0 +1,196 @@
+package com.storytimeproductions.stweaks.playtime;
+
+import com.storytimeproductions.stweaks.config.SettingsManager;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Groups in-world players into social parties and publishes the resulting playtime multipliers.
+ *
+ * <p>Players are bucketed into a per-world spatial hash grid whose cells are as wide as the
+ * configured social distance, so a player only needs to be compared against players in the 27
+ * neighbouring cells instead of against everyone online. The multipliers are computed once per
+ * playtime tick and published as an immutable {@link SocialSnapshot} that every reader shares.
+ */
+public class SocialPartyEngine {
+  private static JavaPlugin plugin;
+  private static volatile SocialSnapshot snapshot = SocialSnapshot.EMPTY;
+
+  /**
+   * Initializes the SocialPartyEngine and starts recomputing the snapshot every second. This must
+   * be called before {@link PlaytimeTracker#init(JavaPlugin)} so that the snapshot is refreshed
+   * ahead of the playtime countdown on each tick.
+   *
+   * @param pl The plugin instance.
+   */
+  public static void init(JavaPlugin pl) {
+    plugin = pl;
+    snapshot = compute();
+
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        snapshot = compute();
+      }
+    }.runTaskTimer(plugin, 0L, 20L);
+  }
+
+  /**
+   * Gets the most recently published multiplier snapshot.
+   *
+   * @return The current snapshot, never {@code null}.
+   */
+  public static SocialSnapshot getSnapshot() {
+    return snapshot;
+  }
+
+  /**
+   * Computes a fresh snapshot from the current player positions.
+   *
+   * <p>The social multiplier is the configured social multiplier times the weighted average of all
+   * party sizes, with more weight attributed to larger parties.
+   *
+   * @return The computed snapshot.
+   */
+  static SocialSnapshot compute() {
+    List<Player> players = new ArrayList<>();
+    for (Player p : Bukkit.getOnlinePlayers()) {
+      if (p.getWorld().getName().startsWith("world")) {
+        players.add(p);
+      }
+    }
+
+    int n = players.size();
+    double distance = SettingsManager.getSocialDistance();
+    double distanceSquared = distance * distance;
+    double cellSize = Math.max(1.0, distance);
+
+    World[] worlds = new World[n];
+    double[] xs = new double[n];
+    double[] ys = new double[n];
+    double[] zs = new double[n];
+    int[] cellX = new int[n];
+    int[] cellY = new int[n];
+    int[] cellZ = new int[n];
+
+    // Each grid cell maps to the first player in it; next[] chains the rest of the cell's players
+    Map<World, Map<Long, Integer>> grids = new HashMap<>();
+    int[] next = new int[n];
+    Location scratch = new Location(null, 0, 0, 0);
+    for (int i = 0; i < n; i++) {
+      Player p = players.get(i);
+      p.getLocation(scratch);
+      worlds[i] = scratch.getWorld();
+      xs[i] = scratch.getX();
+      ys[i] = scratch.getY();
+      zs[i] = scratch.getZ();
+      cellX[i] = (int) Math.floor(xs[i] / cellSize);
+      cellY[i] = (int) Math.floor(ys[i] / cellSize);
+      cellZ[i] = (int) Math.floor(zs[i] / cellSize);
+
+      Map<Long, Integer> grid = grids.computeIfAbsent(worlds[i], k -> new HashMap<>());
+      Integer head = grid.put(cellKey(cellX[i], cellY[i], cellZ[i]), i);
+      next[i] = head == null ? -1 : head;
+    }
+
+    // Union-find to find parties, only comparing players in neighbouring cells
+    int[] parent = new int[n];
+    for (int i = 0; i < n; i++) {
+      parent[i] = i;
+    }
+
+    for (int i = 0; i < n; i++) {
+      Map<Long, Integer> grid = grids.get(worlds[i]);
+      for (int dx = -1; dx <= 1; dx++) {
+        for (int dy = -1; dy <= 1; dy++) {
+          for (int dz = -1; dz <= 1; dz++) {
+            Integer head = grid.get(cellKey(cellX[i] + dx, cellY[i] + dy, cellZ[i] + dz));
+            for (int j = head == null ? -1 : head; j != -1; j = next[j]) {
+              if (j <= i) {
+                continue;
+              }
+              double ox = xs[i] - xs[j];
+              double oy = ys[i] - ys[j];
+              double oz = zs[i] - zs[j];
+              if (ox * ox + oy * oy + oz * oz <= distanceSquared) {
+                int rootI = find(parent, i);
+                int rootJ = find(parent, j);
+                if (rootI != rootJ) {
+                  parent[rootJ] = rootI;
+                }
+              }
+            }
+          }
+        }
+      }
+    }
+
+    // Count party sizes
+    int[] partySizes = new int[n];
+    for (int i = 0; i < n; i++) {
+      partySizes[find(parent, i)]++;
+    }
+
+    // Weighted average: weight = size^2 (larger parties have more influence)
+    double weightedSum = 0.0;
+    double totalWeight = 0.0;
+    int partyCount = 0;
+    int largestParty = 0;
+    for (int size : partySizes) {
+      if (size == 0) {
+        continue;
+      }
+      double weight = size * size;
+      weightedSum += size * weight;
+      totalWeight += weight;
+      partyCount++;
+      largestParty = Math.max(largestParty, size);
+    }
+
+    double social = 0.0;
+    if (n != 1) {
+      double weightedAverage = totalWeight > 0 ? (weightedSum / totalWeight) : 0.0;
+      social = PlaytimeTracker.getSocialMultiplier() * weightedAverage;
+      if (n >= 5) {
+        social = Math.min(social, SettingsManager.getSocialMultiplierCap());
+      }
+      social = Math.floor(social * 100) / 100.0;
+    }
+
+    boolean weekend = PlaytimeTracker.isWeekend();
+    double total = PlaytimeTracker.getBaseMultiplier();
+    if (weekend) {
+      total *= PlaytimeTracker.getWeekendMultiplier();
+    }
+    total += social;
+    total = Math.floor(total * 100) / 100.0;
+
+    return new SocialSnapshot(
+        social, total, weekend, n, partyCount, largestParty, System.currentTimeMillis());
+  }
+
+  /**
+   * Packs a cell coordinate into a single grid key. Coordinates are truncated to 21 bits each, so
+   * very distant cells may share a key; that only adds candidates, since every candidate pair is
+   * still checked against the real distance.
+   */
+  private static long cellKey(int x, int y, int z) {
+    return ((long) (x & 0x1FFFFF) << 42) | ((long) (y & 0x1FFFFF) << 21) | (z & 0x1FFFFF);
+  }
+
+  // Helper for union-find
+  private static int find(int[] parent, int i) {
+    if (parent[i] != i) {
+      parent[i] = find(parent, parent[i]);
+    }
+    return parent[i];
+  }
+}
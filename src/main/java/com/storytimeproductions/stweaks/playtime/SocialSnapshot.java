@@ -0,0 +1,113 @@
+package com.storytimeproductions.stweaks.playtime;
+
+/**
+ * An immutable view of the server-wide playtime multipliers, as computed by the {@link
+ * SocialPartyEngine} on its last run.
+ *
+ * <p>Readers should grab a snapshot once and read all of the values they need from it, so that the
+ * social, weekend and total multipliers they display always agree with each other.
+ */
+public final class SocialSnapshot {
+
+  /** The snapshot published before the engine has run for the first time. */
+  public static final SocialSnapshot EMPTY = new SocialSnapshot(0.0, 1.0, false, 0, 0, 0, 0L);
+
+  private final double socialMultiplier;
+  private final double totalMultiplier;
+  private final boolean weekend;
+  private final int trackedPlayers;
+  private final int partyCount;
+  private final int largestParty;
+  private final long computedAt;
+
+  /**
+   * Constructs a new snapshot.
+   *
+   * @param socialMultiplier The social bonus added on top of the base multiplier.
+   * @param totalMultiplier The total multiplier applied to the playtime countdown.
+   * @param weekend Whether the weekend multiplier was active.
+   * @param trackedPlayers The number of in-world players considered.
+   * @param partyCount The number of parties those players were grouped into.
+   * @param largestParty The size of the largest party.
+   * @param computedAt The epoch millisecond at which the snapshot was computed.
+   */
+  public SocialSnapshot(
+      double socialMultiplier,
+      double totalMultiplier,
+      boolean weekend,
+      int trackedPlayers,
+      int partyCount,
+      int largestParty,
+      long computedAt) {
+    this.socialMultiplier = socialMultiplier;
+    this.totalMultiplier = totalMultiplier;
+    this.weekend = weekend;
+    this.trackedPlayers = trackedPlayers;
+    this.partyCount = partyCount;
+    this.largestParty = largestParty;
+    this.computedAt = computedAt;
+  }
+
+  /**
+   * Gets the social bonus added on top of the base multiplier.
+   *
+   * @return The social multiplier.
+   */
+  public double getSocialMultiplier() {
+    return socialMultiplier;
+  }
+
+  /**
+   * Gets the total multiplier, including base, weekend and social multipliers.
+   *
+   * @return The total multiplier.
+   */
+  public double getTotalMultiplier() {
+    return totalMultiplier;
+  }
+
+  /**
+   * Checks whether the weekend multiplier was active when this snapshot was computed.
+   *
+   * @return {@code true} if it was the weekend, {@code false} otherwise.
+   */
+  public boolean isWeekend() {
+    return weekend;
+  }
+
+  /**
+   * Gets the number of in-world players considered when computing parties.
+   *
+   * @return The number of tracked players.
+   */
+  public int getTrackedPlayers() {
+    return trackedPlayers;
+  }
+
+  /**
+   * Gets the number of parties the tracked players were grouped into.
+   *
+   * @return The number of parties.
+   */
+  public int getPartyCount() {
+    return partyCount;
+  }
+
+  /**
+   * Gets the size of the largest party.
+   *
+   * @return The largest party size.
+   */
+  public int getLargestParty() {
+    return largestParty;
+  }
+
+  /**
+   * Gets the time at which this snapshot was computed.
+   *
+   * @return The epoch millisecond of computation.
+   */
+  public long getComputedAt() {
+    return computedAt;
+  }
+}
@@ -0,0 +1,179 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.block.Biome;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * An immutable catalog of every vanilla biome, built once when the plugin is enabled.
+ *
+ * <p>Each biome has an ordinal, its position in the catalog, which indexes every per-biome array
+ * here and in player discovery bitsets. For each ordinal the catalog holds the biome's display name
+ * and a prebuilt Biome Tracker icon for both the found and not found state. It also holds the order
+ * the Biome Tracker lists biomes in, so nothing has to be formatted, sorted or parsed while players
+ * play.
+ */
+public final class BiomeCatalog {
+  private static volatile BiomeCatalog current;
+
+  private final List<Biome> biomes;
+  private final Map<NamespacedKey, Integer> ordinals = new HashMap<>();
+  private final String[] displayNames;
+  private final int[] sortedOrdinals;
+  private final ItemStack[] foundIcons;
+  private final ItemStack[] notFoundIcons;
+
+  private BiomeCatalog(List<Biome> biomes, Map<String, Material> iconMaterials) {
+    this.biomes = Collections.unmodifiableList(new ArrayList<>(biomes));
+    int count = biomes.size();
+    displayNames = new String[count];
+    foundIcons = new ItemStack[count];
+    notFoundIcons = new ItemStack[count];
+
+    List<Integer> order = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Biome biome = biomes.get(i);
+      String name = BiomeTrackerManager.formatBiomeName(biome.getKey().toString());
+      ordinals.put(biome.getKey(), i);
+      displayNames[i] = name;
+      Material material = iconMaterials.getOrDefault(name, Material.PAPER);
+      foundIcons[i] = createIcon(material, name + " - FOUND");
+      notFoundIcons[i] = createIcon(Material.BARRIER, name + " - NOT FOUND");
+      order.add(i);
+    }
+
+    order.sort(Comparator.comparing(i -> displayNames[i], String.CASE_INSENSITIVE_ORDER));
+    sortedOrdinals = order.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Builds a catalog.
+   *
+   * @param biomes The biomes to include, in ordinal order.
+   * @param iconMaterials The Biome Tracker icon material for each biome display name. Biomes
+   *     without one use paper.
+   * @return The catalog.
+   */
+  public static BiomeCatalog build(List<Biome> biomes, Map<String, Material> iconMaterials) {
+    return new BiomeCatalog(biomes, iconMaterials);
+  }
+
+  /**
+   * Gets the catalog in use, or null before the biome tracker has been set up.
+   *
+   * @return The current catalog.
+   */
+  public static BiomeCatalog getCurrent() {
+    return current;
+  }
+
+  /**
+   * Sets the catalog in use.
+   *
+   * @param catalog The catalog to use.
+   */
+  public static void setCurrent(BiomeCatalog catalog) {
+    current = catalog;
+  }
+
+  /**
+   * Gets the number of biomes in the catalog.
+   *
+   * @return The number of biomes.
+   */
+  public int size() {
+    return biomes.size();
+  }
+
+  /**
+   * Gets every biome, in ordinal order.
+   *
+   * @return An unmodifiable list of biomes.
+   */
+  public List<Biome> getBiomes() {
+    return biomes;
+  }
+
+  /**
+   * Gets the ordinal of a biome.
+   *
+   * @param biome The biome.
+   * @return The biome's ordinal, or -1 if it is not in the catalog.
+   */
+  public int getOrdinal(Biome biome) {
+    return getOrdinal(biome.getKey());
+  }
+
+  /**
+   * Gets the ordinal of the biome with a key.
+   *
+   * @param key The biome's key.
+   * @return The biome's ordinal, or -1 if it is not in the catalog.
+   */
+  public int getOrdinal(NamespacedKey key) {
+    Integer ordinal = ordinals.get(key);
+    return ordinal != null ? ordinal : -1;
+  }
+
+  /**
+   * Gets the ordinal of the biome at a position in the Biome Tracker's alphabetical order.
+   *
+   * @param position The position, from 0 to {@link #size()} - 1.
+   * @return The ordinal of the biome at that position.
+   */
+  public int getSortedOrdinal(int position) {
+    return sortedOrdinals[position];
+  }
+
+  /**
+   * Gets the display name of a biome, e.g. "Dark Forest".
+   *
+   * @param ordinal The biome's ordinal.
+   * @return The display name.
+   */
+  public String getDisplayName(int ordinal) {
+    return displayNames[ordinal];
+  }
+
+  /**
+   * Gets the display name of a biome. Biomes not in the catalog, such as those added by data packs,
+   * are formatted from their key.
+   *
+   * @param biome The biome.
+   * @return The display name.
+   */
+  public String getDisplayName(Biome biome) {
+    int ordinal = getOrdinal(biome);
+    return ordinal >= 0
+        ? displayNames[ordinal]
+        : BiomeTrackerManager.formatBiomeName(biome.getKey().toString());
+  }
+
+  /**
+   * Creates a biome's Biome Tracker icon by copying its prebuilt template.
+   *
+   * @param ordinal The biome's ordinal.
+   * @param found Whether the player has discovered the biome.
+   * @return A new icon item.
+   */
+  public ItemStack createIcon(int ordinal, boolean found) {
+    return (found ? foundIcons[ordinal] : notFoundIcons[ordinal]).clone();
+  }
+
+  private static ItemStack createIcon(Material material, String name) {
+    ItemStack icon = new ItemStack(material);
+    ItemMeta meta = icon.getItemMeta();
+    meta.displayName(Component.text(name));
+    icon.setItemMeta(meta);
+    return icon;
+  }
+}
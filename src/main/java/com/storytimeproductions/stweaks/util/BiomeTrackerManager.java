@@ -1,93 +1,313 @@
 package com.storytimeproductions.stweaks.util;
 
+import com.storytimeproductions.stweaks.config.SettingsManager;
+import io.papermc.paper.registry.RegistryAccess;
+import io.papermc.paper.registry.RegistryKey;
 import java.io.File;
 import java.io.IOException;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.block.Biome;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
 
 /**
- * Manages tracking of biomes discovered by players. The class interacts with the database to
- * persist and retrieve biome discovery data.
+ * Manages tracking of biomes discovered by players.
+ *
+ * <p>Every vanilla biome is given a stable ordinal, and each online player's discoveries are held
+ * in memory as a bitset indexed by that ordinal, so checking or counting discoveries never touches
+ * the database. A player's bitset is loaded on a background thread when they join. New discoveries
+ * are queued and written to the database by the same background thread in batches.
  */
 public class BiomeTrackerManager {
+  private static final String SELECT_SQL = "SELECT biome_key FROM discovered_biomes WHERE uuid = ?";
+  private static final String INSERT_SQL =
+      "INSERT OR IGNORE INTO discovered_biomes(uuid, biome_key) VALUES (?, ?)";
 
   private final DbManager dbManager;
   private final JavaPlugin plugin;
   private final Map<String, Material> biomeItemMap = new HashMap<>();
 
+  private final BiomeCatalog catalog;
+  private final Map<UUID, BitSet> discovered = new HashMap<>();
+
+  private final ConcurrentLinkedQueue<Discovery> unwritten = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+  private final ExecutorService writer;
+  private Connection connection;
+
   /**
-   * Constructs a new BiomeTrackerManager instance.
+   * Constructs a new BiomeTrackerManager instance, builds the biome catalog, starts the background
+   * writer and loads the discoveries of every player already online.
    *
    * @param dbManager The DbManager instance used to interact with the SQLite database.
+   * @param plugin The plugin instance.
    */
   public BiomeTrackerManager(DbManager dbManager, JavaPlugin plugin) {
     this.dbManager = dbManager;
     this.plugin = plugin;
+
+    // Vanilla biomes sorted by key, so a biome keeps its ordinal for as long as the plugin runs
+    List<Biome> biomes = new ArrayList<>();
+    RegistryAccess.registryAccess()
+        .getRegistry(RegistryKey.BIOME)
+        .iterator()
+        .forEachRemaining(
+            b -> {
+              if ("minecraft".equals(b.getKey().getNamespace())) {
+                biomes.add(b);
+              }
+            });
+    biomes.sort(Comparator.comparing((Biome b) -> b.getKey().toString()));
+
+    if (!new File(plugin.getDataFolder(), "biome_item.yml").exists()) {
+      plugin.saveResource("biome_item.yml", false); // If it doesn't exist, save the default
+    }
+    syncAndLoadBiomeItems(new HashSet<>(biomes));
+    catalog = BiomeCatalog.build(biomes, biomeItemMap);
+    BiomeCatalog.setCurrent(catalog);
+
+    writer =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "Stweaks-BiomeWriter");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    long intervalTicks = Math.max(1, SettingsManager.getBiomeFlushIntervalSeconds()) * 20L;
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        if (!unwritten.isEmpty() && flushQueued.compareAndSet(false, true)) {
+          writer.execute(
+              () -> {
+                flushQueued.set(false);
+                writeUnwritten();
+              });
+        }
+      }
+    }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      load(player.getUniqueId());
+    }
+  }
+
+  /**
+   * Starts loading a player's discoveries in the background. Discoveries made before the load
+   * finishes are kept and merged with the stored ones. Must be called from the main thread.
+   *
+   * @param uuid The UUID of the player.
+   */
+  public void load(UUID uuid) {
+    discovered.computeIfAbsent(uuid, k -> new BitSet(catalog.size()));
+    try {
+      writer.execute(
+          () -> {
+            // Write anything still queued first, so a quick rejoin never reads stale rows
+            writeUnwritten();
+            BitSet stored = readDiscovered(uuid);
+            Bukkit.getScheduler()
+                .runTask(
+                    plugin,
+                    () -> {
+                      BitSet bits = discovered.get(uuid);
+                      if (bits != null) {
+                        bits.or(stored);
+                      }
+                    });
+          });
+    } catch (RejectedExecutionException e) {
+      plugin.getLogger().warning("Biome writer is shut down, not loading biomes for " + uuid);
+    }
   }
 
   /**
-   * Retrieves a set of biomes that the player with the given UUID has discovered.
+   * Forgets a player's discoveries (e.g., on logout). Discoveries still waiting to be written are
+   * written as usual.
    *
    * @param uuid The UUID of the player.
-   * @return A set of biome keys that the player has discovered.
    */
-  public Set<String> getDiscoveredBiomes(UUID uuid) {
-    Set<String> biomes = new HashSet<>();
-    String query = "SELECT biome_key FROM discovered_biomes WHERE uuid = ?";
-    try (PreparedStatement stmt = dbManager.getConnection().prepareStatement(query)) {
-      stmt.setString(1, uuid.toString());
-      ResultSet rs = stmt.executeQuery();
-      while (rs.next()) {
-        biomes.add(rs.getString("biome_key"));
+  public void unload(UUID uuid) {
+    discovered.remove(uuid);
+  }
+
+  /**
+   * Stops the background writer and synchronously writes every queued discovery. Must be called
+   * from the main thread when the plugin is disabled.
+   */
+  public void shutdown() {
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+        plugin.getLogger().warning("Biome writer did not finish in time, draining anyway.");
       }
-    } catch (SQLException e) {
-      e.printStackTrace();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    writeUnwritten();
+
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        e.printStackTrace();
+      }
+      connection = null;
     }
-    return biomes;
+  }
+
+  /**
+   * Gets the catalog of every vanilla biome.
+   *
+   * @return The biome catalog.
+   */
+  public BiomeCatalog getCatalog() {
+    return catalog;
+  }
+
+  /**
+   * Checks if the player with the given UUID has discovered a biome.
+   *
+   * @param uuid The UUID of the player.
+   * @param biome The biome to check.
+   * @return true if the player has discovered the biome, false otherwise.
+   */
+  public boolean isDiscovered(UUID uuid, Biome biome) {
+    return isDiscovered(uuid, catalog.getOrdinal(biome));
+  }
+
+  /**
+   * Checks if the player with the given UUID has discovered a biome.
+   *
+   * @param uuid The UUID of the player.
+   * @param ordinal The biome's ordinal in the catalog.
+   * @return true if the player has discovered the biome, false otherwise.
+   */
+  public boolean isDiscovered(UUID uuid, int ordinal) {
+    BitSet bits = discovered.get(uuid);
+    return bits != null && ordinal >= 0 && bits.get(ordinal);
+  }
+
+  /**
+   * Gets the number of biomes the player with the given UUID has discovered.
+   *
+   * @param uuid The UUID of the player.
+   * @return The number of discovered biomes.
+   */
+  public int getDiscoveredCount(UUID uuid) {
+    BitSet bits = discovered.get(uuid);
+    return bits != null ? bits.cardinality() : 0;
   }
 
   /**
    * Marks a biome as discovered for the player with the given UUID. If the biome is not already
-   * marked as discovered, it will be inserted into the database.
+   * marked as discovered, it is queued to be written to the database.
    *
    * @param uuid The UUID of the player.
-   * @param biomeKey The biome key to mark as discovered.
+   * @param biome The biome to mark as discovered.
    * @return true if this is the first time the player has discovered this biome, false otherwise.
    */
-  public boolean markBiomeDiscovered(UUID uuid, String biomeKey) {
-    boolean isFirstDiscovery = false;
-    String checkQuery = "SELECT 1 FROM discovered_biomes WHERE uuid = ? AND biome_key = ?";
-    try (PreparedStatement checkStmt = dbManager.getConnection().prepareStatement(checkQuery)) {
-      checkStmt.setString(1, uuid.toString());
-      checkStmt.setString(2, biomeKey);
-      ResultSet rs = checkStmt.executeQuery();
-      if (!rs.next()) {
-        isFirstDiscovery = true;
+  public boolean markBiomeDiscovered(UUID uuid, Biome biome) {
+    int ordinal = catalog.getOrdinal(biome);
+    if (ordinal < 0) {
+      return false;
+    }
+    BitSet bits = discovered.computeIfAbsent(uuid, k -> new BitSet(catalog.size()));
+    if (bits.get(ordinal)) {
+      return false;
+    }
+    bits.set(ordinal);
+    unwritten.add(new Discovery(uuid, biome.getKey().toString()));
+    return true;
+  }
+
+  /** Reads a player's stored discoveries. Runs on the writer thread. */
+  private BitSet readDiscovered(UUID uuid) {
+    BitSet bits = new BitSet(catalog.size());
+    try {
+      ensureConnection();
+      try (PreparedStatement stmt = connection.prepareStatement(SELECT_SQL)) {
+        stmt.setString(1, uuid.toString());
+        try (ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            NamespacedKey key = NamespacedKey.fromString(rs.getString("biome_key"));
+            int ordinal = key != null ? catalog.getOrdinal(key) : -1;
+            if (ordinal >= 0) {
+              bits.set(ordinal);
+            }
+          }
+        }
       }
     } catch (SQLException e) {
       e.printStackTrace();
     }
+    return bits;
+  }
 
-    String query = "INSERT OR IGNORE INTO discovered_biomes(uuid, biome_key) VALUES (?, ?)";
-    try (PreparedStatement stmt = dbManager.getConnection().prepareStatement(query)) {
-      stmt.setString(1, uuid.toString());
-      stmt.setString(2, biomeKey);
-      stmt.executeUpdate();
+  /** Writes every queued discovery in a single batched transaction, requeueing them on failure. */
+  private synchronized void writeUnwritten() {
+    List<Discovery> batch = new ArrayList<>();
+    Discovery next;
+    while ((next = unwritten.poll()) != null) {
+      batch.add(next);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      ensureConnection();
+      connection.setAutoCommit(false);
+      try (PreparedStatement stmt = connection.prepareStatement(INSERT_SQL)) {
+        for (Discovery discovery : batch) {
+          stmt.setString(1, discovery.uuid.toString());
+          stmt.setString(2, discovery.biomeKey);
+          stmt.addBatch();
+        }
+        stmt.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
     } catch (SQLException e) {
       e.printStackTrace();
+      unwritten.addAll(batch);
+    }
+  }
+
+  private void ensureConnection() throws SQLException {
+    if (connection == null || connection.isClosed()) {
+      connection = dbManager.openConnection();
     }
-    return isFirstDiscovery;
   }
 
   /**
@@ -181,4 +401,15 @@ public class BiomeTrackerManager {
 
     return formatted.toString().trim();
   }
+
+  /** A discovery waiting to be written. */
+  private static final class Discovery {
+    private final UUID uuid;
+    private final String biomeKey;
+
+    private Discovery(UUID uuid, String biomeKey) {
+      this.uuid = uuid;
+      this.biomeKey = biomeKey;
+    }
+  }
 }
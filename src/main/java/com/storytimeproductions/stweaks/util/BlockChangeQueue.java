@@ -0,0 +1,178 @@
+package com.storytimeproductions.stweaks.util;
+
+import com.storytimeproductions.models.stgames.BlockChangeSet;
+import com.storytimeproductions.stweaks.config.SettingsManager;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Applies queued {@link BlockChangeSet}s a slice at a time, spending at most a fixed time budget
+ * per tick, so resetting a large arena never stalls the server for a whole tick.
+ *
+ * <p>Change sets are applied strictly in the order they were submitted, so a game may queue a clear
+ * followed by a rebuild of the same region and rely on the rebuild landing last. A set's completion
+ * callback runs on the main thread once every one of its changes has been applied.
+ *
+ * <p>A small set, such as a round's floor change, is applied immediately while submitting it, and
+ * its callback runs before {@link #submit} returns, unless it overlaps a set that is still queued.
+ * Round logic therefore never waits behind an unrelated bulk arena reset, and a change to a region
+ * that is still being reset still lands after the reset.
+ */
+public class BlockChangeQueue {
+  private static final int IMMEDIATE_MAX_BLOCKS = 4096;
+
+  private static final Deque<Job> jobs = new ArrayDeque<>();
+
+  private static JavaPlugin plugin;
+  private static long budgetNanos;
+  private static int pendingBlocks = 0;
+  private static int tickCounter = 0;
+  private static int appliedThisSecond = 0;
+  private static int appliedPerSecond = 0;
+
+  /**
+   * Initializes the queue and starts draining it every tick.
+   *
+   * @param pl The plugin instance.
+   */
+  public static void init(JavaPlugin pl) {
+    plugin = pl;
+    budgetNanos = Math.max(1, SettingsManager.getArenaRestoreBudgetMicros()) * 1000L;
+
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        drain(System.nanoTime() + budgetNanos);
+        if (++tickCounter == 20) {
+          tickCounter = 0;
+          appliedPerSecond = appliedThisSecond;
+          appliedThisSecond = 0;
+        }
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+  }
+
+  /**
+   * Queues a change set to be applied over the next ticks.
+   *
+   * @param changes The changes to apply.
+   */
+  public static void submit(BlockChangeSet changes) {
+    submit(changes, null);
+  }
+
+  /**
+   * Queues a change set to be applied over the next ticks, then runs a callback. Small sets that do
+   * not overlap anything still queued are applied right away instead.
+   *
+   * @param changes The changes to apply.
+   * @param onComplete Run once every change has been applied, or null.
+   */
+  public static void submit(BlockChangeSet changes, Runnable onComplete) {
+    // Without the plugin (or before it is enabled) there is no tick to spread over
+    if (plugin == null || (changes.size() <= IMMEDIATE_MAX_BLOCKS && !overlapsQueued(changes))) {
+      changes.applyAll();
+      appliedThisSecond += changes.size();
+      if (onComplete != null) {
+        onComplete.run();
+      }
+      return;
+    }
+    jobs.addLast(new Job(changes, onComplete));
+    pendingBlocks += changes.size();
+  }
+
+  /**
+   * Applies everything still queued immediately. Called when the plugin is disabled so no arena is
+   * left half reset.
+   */
+  public static void shutdown() {
+    drain(Long.MAX_VALUE);
+  }
+
+  /**
+   * Gets the number of block changes waiting to be applied.
+   *
+   * @return The pending block count.
+   */
+  public static int getPendingBlocks() {
+    return pendingBlocks;
+  }
+
+  /**
+   * Gets the number of change sets waiting to be applied.
+   *
+   * @return The pending change set count.
+   */
+  public static int getPendingJobs() {
+    return jobs.size();
+  }
+
+  /**
+   * Gets the number of block changes applied during the last full second.
+   *
+   * @return The blocks applied per second.
+   */
+  public static int getBlocksAppliedPerSecond() {
+    return appliedPerSecond;
+  }
+
+  /**
+   * Gets the time the queue may spend applying changes each tick.
+   *
+   * @return The per-tick budget in microseconds.
+   */
+  public static long getBudgetMicros() {
+    return budgetNanos / 1000L;
+  }
+
+  /** Checks if a change set touches the region of any set that is still queued. */
+  private static boolean overlapsQueued(BlockChangeSet changes) {
+    for (Job job : jobs) {
+      if (job.changes.overlaps(changes)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Applies queued changes in order until the queue is empty or the deadline has passed. */
+  private static void drain(long deadlineNanos) {
+    while (!jobs.isEmpty()) {
+      Job job = jobs.peekFirst();
+      int next = job.changes.applyUntil(job.next, deadlineNanos);
+      appliedThisSecond += next - job.next;
+      pendingBlocks -= next - job.next;
+      job.next = next;
+      if (next < job.changes.size()) {
+        return;
+      }
+
+      jobs.pollFirst();
+      if (job.onComplete != null) {
+        try {
+          job.onComplete.run();
+        } catch (RuntimeException e) {
+          e.printStackTrace();
+        }
+      }
+      if (System.nanoTime() >= deadlineNanos) {
+        return;
+      }
+    }
+  }
+
+  /** A queued change set and how far into it we have got. */
+  private static final class Job {
+    private final BlockChangeSet changes;
+    private final Runnable onComplete;
+    private int next = 0;
+
+    private Job(BlockChangeSet changes, Runnable onComplete) {
+      this.changes = changes;
+      this.onComplete = onComplete;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package com.storytimeproductions.stweaks.util;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -28,7 +29,8 @@ public class DbManager {
   /**
    * Creates the playtime and biome tracking tables if they do not exist. The playtime table stores
    * UUIDs, seconds played, and last update timestamp. The discovered_biomes table tracks which
-   * biomes each player has visited.
+   * biomes each player has visited. The player_names table caches each player's last known name.
+   * The pet_state table stores the hunger, last feeding and reward count of each player's pets.
    */
   private void createTableIfNotExists() {
     String playtimeSql =
@@ -36,7 +38,8 @@ public class DbManager {
         CREATE TABLE IF NOT EXISTS playtime (
             uuid TEXT PRIMARY KEY,
             available_seconds INTEGER DEFAULT 0,
-            banked_tickets INTEGER DEFAULT 0
+            banked_tickets INTEGER DEFAULT 0,
+            last_reset TEXT
         );
         """;
 
@@ -59,15 +62,60 @@ public class DbManager {
         );
         """;
 
+    String playerNamesSql =
+        """
+        CREATE TABLE IF NOT EXISTS player_names (
+            uuid TEXT PRIMARY KEY,
+            name TEXT NOT NULL,
+            last_seen INTEGER NOT NULL
+        );
+        """;
+
+    String petStateSql =
+        """
+        CREATE TABLE IF NOT EXISTS pet_state (
+            uuid TEXT NOT NULL,
+            pet_id TEXT NOT NULL,
+            hunger INTEGER NOT NULL,
+            last_fed INTEGER DEFAULT 0,
+            rewards INTEGER DEFAULT 0,
+            PRIMARY KEY (uuid, pet_id)
+        );
+        """;
+
     try (Statement stmt = connection.createStatement()) {
       stmt.execute(playtimeSql);
       stmt.execute(biomeSql);
       stmt.execute(questCompletionSql);
+      stmt.execute(playerNamesSql);
+      stmt.execute(petStateSql);
+      addColumnIfMissing(stmt, "playtime", "last_reset", "TEXT");
     } catch (SQLException e) {
       e.printStackTrace();
     }
   }
 
+  /**
+   * Adds a column to a table created by an older plugin version, if it does not have it yet.
+   *
+   * @param stmt The statement to run the migration with.
+   * @param table The table to migrate.
+   * @param column The name of the column to add.
+   * @param type The SQL type of the column.
+   * @throws SQLException If the table could not be inspected or altered.
+   */
+  private void addColumnIfMissing(Statement stmt, String table, String column, String type)
+      throws SQLException {
+    try (ResultSet rs = stmt.executeQuery("PRAGMA table_info(" + table + ")")) {
+      while (rs.next()) {
+        if (column.equalsIgnoreCase(rs.getString("name"))) {
+          return;
+        }
+      }
+    }
+    stmt.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + type);
+  }
+
   /**
    * Gets the current database connection.
    *
@@ -85,6 +133,24 @@ public class DbManager {
     return connection;
   }
 
+  /**
+   * Opens a new, independent connection to the SQLite database.
+   *
+   * <p>Background writers use their own connection so that they never share transaction state with
+   * the main thread. The connection waits for locks held by other connections instead of failing
+   * immediately. Callers are responsible for closing it.
+   *
+   * @return A new Connection object.
+   * @throws SQLException If the connection could not be opened.
+   */
+  public Connection openConnection() throws SQLException {
+    Connection conn = DriverManager.getConnection(DATABASE_URL);
+    try (Statement stmt = conn.createStatement()) {
+      stmt.execute("PRAGMA busy_timeout = 5000");
+    }
+    return conn;
+  }
+
   /** Closes the database connection if it is open. */
   public void disconnect() {
     try {
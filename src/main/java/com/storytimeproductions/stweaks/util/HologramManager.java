@@ -0,0 +1,249 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import org.bukkit.Location;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.TextDisplay;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Keeps the plugin's own holograms, each a single {@link TextDisplay} entity showing one or more
+ * lines of text.
+ *
+ * <p>Changes are not applied when they are requested. A hologram only records its latest lines and
+ * position and is marked dirty, and every dirty hologram is brought up to date once at the end of
+ * the tick. However many times a hologram is rewritten or moved within a tick, its entity is
+ * updated at most once, so a burst of game events costs one text and one teleport per hologram.
+ */
+public class HologramManager {
+  private static final Map<String, Hologram> holograms = new HashMap<>();
+  private static final Set<Hologram> dirty = new LinkedHashSet<>();
+
+  private static JavaPlugin plugin;
+  private static int tickCounter = 0;
+  private static int requestsThisSecond = 0;
+  private static int appliedThisSecond = 0;
+  private static int requestsPerSecond = 0;
+  private static int appliedPerSecond = 0;
+
+  /**
+   * Initializes the HologramManager and starts applying pending changes every tick.
+   *
+   * @param pl The plugin instance.
+   */
+  public static void init(JavaPlugin pl) {
+    plugin = pl;
+
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        flush();
+        if (++tickCounter == 20) {
+          tickCounter = 0;
+          respawnUnloaded();
+          requestsPerSecond = requestsThisSecond;
+          appliedPerSecond = appliedThisSecond;
+          requestsThisSecond = 0;
+          appliedThisSecond = 0;
+        }
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+  }
+
+  /**
+   * Creates a hologram. If a hologram with the same id already exists it is moved and rewritten
+   * instead, so a game can call this every time it starts.
+   *
+   * @param id The id of the hologram.
+   * @param location Where the bottom line of the hologram is shown.
+   * @param lines The lines to show, top first.
+   */
+  public static void create(String id, Location location, List<Component> lines) {
+    if (holograms.containsKey(id)) {
+      moveTo(id, location);
+      setLines(id, lines);
+      return;
+    }
+    Hologram hologram = new Hologram(location.clone(), new ArrayList<>(lines));
+    holograms.put(id, hologram);
+    markDirty(hologram);
+  }
+
+  /**
+   * Replaces every line of a hologram. Does nothing if there is no hologram with the id.
+   *
+   * @param id The id of the hologram.
+   * @param lines The lines to show, top first.
+   */
+  public static void setLines(String id, List<Component> lines) {
+    Hologram hologram = holograms.get(id);
+    if (hologram == null || hologram.lines.equals(lines)) {
+      return;
+    }
+    hologram.lines = new ArrayList<>(lines);
+    hologram.textChanged = true;
+    markDirty(hologram);
+  }
+
+  /**
+   * Moves a hologram. Does nothing if there is no hologram with the id.
+   *
+   * @param id The id of the hologram.
+   * @param location Where the bottom line of the hologram is shown.
+   */
+  public static void moveTo(String id, Location location) {
+    Hologram hologram = holograms.get(id);
+    if (hologram == null || hologram.location.equals(location)) {
+      return;
+    }
+    hologram.location = location.clone();
+    hologram.moved = true;
+    markDirty(hologram);
+  }
+
+  /**
+   * Removes a hologram and its entity.
+   *
+   * @param id The id of the hologram.
+   */
+  public static void remove(String id) {
+    Hologram hologram = holograms.remove(id);
+    if (hologram == null) {
+      return;
+    }
+    dirty.remove(hologram);
+    if (hologram.display != null && hologram.display.isValid()) {
+      hologram.display.remove();
+    }
+  }
+
+  /** Removes every hologram. Called when the plugin is disabled. */
+  public static void shutdown() {
+    for (String id : new ArrayList<>(holograms.keySet())) {
+      remove(id);
+    }
+  }
+
+  /**
+   * Gets the number of holograms being kept.
+   *
+   * @return The number of holograms.
+   */
+  public static int getHologramCount() {
+    return holograms.size();
+  }
+
+  /**
+   * Gets the number of hologram changes requested during the last full second.
+   *
+   * @return The changes requested per second.
+   */
+  public static int getRequestsPerSecond() {
+    return requestsPerSecond;
+  }
+
+  /**
+   * Gets the number of hologram entity updates applied during the last full second.
+   *
+   * @return The updates applied per second.
+   */
+  public static int getUpdatesAppliedPerSecond() {
+    return appliedPerSecond;
+  }
+
+  private static void markDirty(Hologram hologram) {
+    requestsThisSecond++;
+    if (plugin == null) {
+      // Not running in the plugin (or not yet enabled), so there is no tick to batch into
+      apply(hologram);
+      return;
+    }
+    dirty.add(hologram);
+  }
+
+  /** Brings every hologram changed since the last flush up to date. */
+  private static void flush() {
+    if (dirty.isEmpty()) {
+      return;
+    }
+    List<Hologram> pending = new ArrayList<>(dirty);
+    dirty.clear();
+    for (Hologram hologram : pending) {
+      apply(hologram);
+    }
+  }
+
+  /**
+   * Queues every hologram whose entity has gone, e.g. because its chunk was unloaded, so it is
+   * spawned again once the chunk is back.
+   */
+  private static void respawnUnloaded() {
+    for (Hologram hologram : holograms.values()) {
+      if (hologram.display == null || !hologram.display.isValid()) {
+        dirty.add(hologram);
+      }
+    }
+  }
+
+  /**
+   * Applies a hologram's latest lines and position to its entity, spawning the entity if it has
+   * none or it was unloaded with its chunk.
+   */
+  private static void apply(Hologram hologram) {
+    Component text = Component.join(JoinConfiguration.newlines(), hologram.lines);
+    if (hologram.display == null || !hologram.display.isValid()) {
+      if (hologram.location.getWorld() == null || !hologram.location.isChunkLoaded()) {
+        hologram.display = null;
+        return;
+      }
+      hologram.display =
+          hologram.location
+              .getWorld()
+              .spawn(
+                  hologram.location,
+                  TextDisplay.class,
+                  d -> {
+                    d.setBillboard(Display.Billboard.CENTER);
+                    d.setAlignment(TextDisplay.TextAlignment.CENTER);
+                    d.setDefaultBackground(false);
+                    d.setSeeThrough(false);
+                    d.setPersistent(false);
+                    d.text(text);
+                  });
+      appliedThisSecond++;
+    } else {
+      if (hologram.moved) {
+        hologram.display.teleport(hologram.location);
+        appliedThisSecond++;
+      }
+      if (hologram.textChanged) {
+        hologram.display.text(text);
+        appliedThisSecond++;
+      }
+    }
+    hologram.moved = false;
+    hologram.textChanged = false;
+  }
+
+  /** A hologram's latest lines and position, and the entity showing them. */
+  private static final class Hologram {
+    private Location location;
+    private List<Component> lines;
+    private TextDisplay display;
+    private boolean moved;
+    private boolean textChanged;
+
+    private Hologram(Location location, List<Component> lines) {
+      this.location = location;
+      this.lines = lines;
+    }
+  }
+}
@@ -0,0 +1,379 @@
+package com.storytimeproductions.stweaks.util;
+
+import com.storytimeproductions.stweaks.listeners.PlayerActivityListener;
+import com.storytimeproductions.stweaks.playtime.PlaytimeData;
+import com.storytimeproductions.stweaks.playtime.PlaytimeTracker;
+import com.storytimeproductions.stweaks.playtime.SocialPartyEngine;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import net.kyori.adventure.bossbar.BossBar;
+import net.kyori.adventure.bossbar.BossBar.Color;
+import net.kyori.adventure.bossbar.BossBar.Overlay;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Renders each player's HUD: the playtime boss bar, the tab list footer and the timer next to their
+ * name in the tab list.
+ *
+ * <p>Every tracked player is assigned to one of 20 tick slots and is rendered once per second on
+ * their slot, so the work is spread evenly across ticks instead of spiking on one. Each slot keeps
+ * its own list of players, so a tick only visits the players it renders. Each render reduces the
+ * player's view to a few primitive fields and compares them against what was last sent; a component
+ * is only rebuilt and a packet only sent for the parts that actually changed.
+ */
+public class HudRenderer {
+  private static final int SPREAD_TICKS = 20;
+  private static final double BASELINE_SECONDS = 10800.0;
+  private static final int[] WARNING_SECONDS = {600, 300, 60};
+
+  private static final Map<UUID, HudState> states = new HashMap<>();
+  private static final List<List<Player>> slotPlayers = new ArrayList<>(SPREAD_TICKS);
+  private static final Location scratch = new Location(null, 0, 0, 0);
+
+  private static JavaPlugin plugin;
+  private static int currentSlot = 0;
+  private static int sentThisSecond = 0;
+  private static int skippedThisSecond = 0;
+  private static int sentPerSecond = 0;
+  private static int skippedPerSecond = 0;
+
+  static {
+    for (int i = 0; i < SPREAD_TICKS; i++) {
+      slotPlayers.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * Initializes the HudRenderer, tracks the players already online and starts rendering one slot of
+   * players every tick.
+   *
+   * @param pl The plugin instance.
+   */
+  public static void init(JavaPlugin pl) {
+    plugin = pl;
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      track(player);
+    }
+
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        renderSlot();
+      }
+    }.runTaskTimer(plugin, 1L, 1L);
+  }
+
+  /**
+   * Starts tracking a player and immediately renders their whole HUD, regardless of which world
+   * they are in.
+   *
+   * @param player The player who joined.
+   */
+  public static void track(Player player) {
+    HudState state = states.get(player.getUniqueId());
+    if (state == null) {
+      state = new HudState(assignSlot());
+      states.put(player.getUniqueId(), state);
+      slotPlayers.get(state.slot).add(player);
+    }
+    render(player, state, System.currentTimeMillis(), TablistManager.getTpsHundredths(), true);
+  }
+
+  /**
+   * Stops tracking a player and removes their boss bar (e.g., on logout).
+   *
+   * @param player The player to stop tracking.
+   */
+  public static void untrack(Player player) {
+    HudState state = states.remove(player.getUniqueId());
+    if (state == null) {
+      return;
+    }
+    slotPlayers.get(state.slot).removeIf(p -> p.getUniqueId().equals(player.getUniqueId()));
+    if (state.bar != null) {
+      player.hideBossBar(state.bar);
+    }
+  }
+
+  /**
+   * Gets the number of HUD packets sent during the last full second.
+   *
+   * @return The packets sent per second.
+   */
+  public static int getPacketsSentPerSecond() {
+    return sentPerSecond;
+  }
+
+  /**
+   * Gets the number of HUD packets skipped because nothing changed during the last full second.
+   *
+   * @return The packets skipped per second.
+   */
+  public static int getPacketsSkippedPerSecond() {
+    return skippedPerSecond;
+  }
+
+  /**
+   * Gets the number of players whose HUD is being rendered.
+   *
+   * @return The number of tracked players.
+   */
+  public static int getTrackedPlayers() {
+    return states.size();
+  }
+
+  /** Renders every tracked player assigned to the current tick slot. */
+  private static void renderSlot() {
+    int slot = currentSlot;
+    currentSlot = (currentSlot + 1) % SPREAD_TICKS;
+    if (slot == 0) {
+      sentPerSecond = sentThisSecond;
+      skippedPerSecond = skippedThisSecond;
+      sentThisSecond = 0;
+      skippedThisSecond = 0;
+    }
+
+    long now = System.currentTimeMillis();
+    int tpsHundredths = TablistManager.getTpsHundredths();
+    // Rendering can send a player to the lobby or kick them, which may untrack them and change
+    // the slot's list, so walk a snapshot of it
+    for (Player player : List.copyOf(slotPlayers.get(slot))) {
+      HudState state = states.get(player.getUniqueId());
+      if (state != null) {
+        render(player, state, now, tpsHundredths, false);
+      }
+    }
+  }
+
+  /** Picks the least loaded tick slot for a new player. */
+  private static int assignSlot() {
+    int best = 0;
+    for (int i = 1; i < SPREAD_TICKS; i++) {
+      if (slotPlayers.get(i).size() < slotPlayers.get(best).size()) {
+        best = i;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Renders a player's HUD, sending only the parts that changed since the last render. The tab list
+   * is only kept up to date in the game worlds, except on a forced render.
+   */
+  private static void render(
+      Player player, HudState state, long now, int tpsHundredths, boolean force) {
+    UUID uuid = player.getUniqueId();
+    // Skip fake-player NPCs — they have no playtime entry.
+    PlaytimeData data = PlaytimeTracker.playtimeMap.get(uuid);
+    if (data == null) {
+      return;
+    }
+    boolean inWorld = player.getWorld().getName().startsWith("world");
+    if (inWorld) {
+      PlayerActivityListener.refreshAfk(uuid, now);
+    }
+
+    double secondsLeft = data.getAvailableSeconds();
+    renderBossBar(player, state, data, inWorld);
+    if (inWorld || force) {
+      renderFooter(player, state, tpsHundredths, force);
+      renderListName(player, state, (int) secondsLeft, force);
+    }
+  }
+
+  /** Shows the remaining playtime as a boss bar in the game worlds and hides it elsewhere. */
+  private static void renderBossBar(
+      Player player, HudState state, PlaytimeData data, boolean inWorld) {
+    // In the lobby the timer is paused — hide the bar entirely so it doesn't distract
+    // during puzzle-solving. It reappears automatically once the player enters a game world.
+    if (!inWorld) {
+      if (state.bar != null) {
+        player.hideBossBar(state.bar);
+        state.bar = null;
+        sentThisSecond++;
+      }
+      return;
+    }
+
+    double totalSecondsLeft = Math.max(data.getAvailableSeconds(), 0);
+    if (totalSecondsLeft <= 0) {
+      Bukkit.dispatchCommand(player, "lobby");
+      player.sendMessage(
+          Component.text("Your daily playtime is up! Come back tomorrow.")
+              .color(NamedTextColor.RED)
+              .decorate(TextDecoration.BOLD));
+      return;
+    }
+
+    int wholeSeconds = (int) totalSecondsLeft;
+    if (state.bar != null) {
+      for (int warning : WARNING_SECONDS) {
+        if (state.barSeconds > warning && wholeSeconds <= warning) {
+          TablistManager.sendPlaytimeWarningTitle(player, warning / 60);
+        }
+      }
+    }
+
+    // Progress logic: Only start decreasing when <= the baseline is left
+    float progress =
+        totalSecondsLeft > BASELINE_SECONDS
+            ? 1.0f
+            : (float) Math.max(0.0, Math.min(1.0, totalSecondsLeft / BASELINE_SECONDS));
+    Color color;
+    if (progress >= 1.0f) {
+      color = Color.BLUE;
+    } else if (progress >= 0.5f) {
+      color = Color.YELLOW;
+    } else {
+      color = Color.RED;
+    }
+    boolean afk = data.isAfk();
+
+    if (state.bar == null) {
+      state.bar =
+          BossBar.bossBar(
+              Component.text(formatStatus(wholeSeconds, afk)), progress, color, Overlay.PROGRESS);
+      player.showBossBar(state.bar);
+      sentThisSecond++;
+    } else {
+      if (wholeSeconds != state.barSeconds || afk != state.barAfk) {
+        state.bar.name(Component.text(formatStatus(wholeSeconds, afk)));
+        sentThisSecond++;
+      } else {
+        skippedThisSecond++;
+      }
+      if (progress != state.barProgress) {
+        state.bar.progress(progress);
+        sentThisSecond++;
+      } else {
+        skippedThisSecond++;
+      }
+      if (color != state.barColor) {
+        state.bar.color(color);
+        sentThisSecond++;
+      } else {
+        skippedThisSecond++;
+      }
+    }
+    state.barSeconds = wholeSeconds;
+    state.barAfk = afk;
+    state.barProgress = progress;
+    state.barColor = color;
+  }
+
+  /** Sends the tab list header and footer if anything shown in the footer changed. */
+  private static void renderFooter(
+      Player player, HudState state, int tpsHundredths, boolean force) {
+    player.getLocation(scratch);
+    World world = scratch.getWorld();
+    int x = scratch.getBlockX();
+    int y = scratch.getBlockY();
+    int z = scratch.getBlockZ();
+    Biome biome = world.getBiome(x, y, z);
+    double multiplier = SocialPartyEngine.getSnapshot().getTotalMultiplier();
+
+    if (biome != state.biome || world != state.world) {
+      state.biomeName = TablistManager.getBiomeName(player, biome);
+    }
+    boolean changed =
+        force
+            || multiplier != state.multiplier
+            || x != state.x
+            || y != state.y
+            || z != state.z
+            || tpsHundredths != state.tpsHundredths
+            || biome != state.biome
+            || world != state.world;
+    if (!changed) {
+      skippedThisSecond++;
+      return;
+    }
+
+    player.sendPlayerListHeaderAndFooter(
+        TablistManager.HEADER,
+        TablistManager.buildFooter(multiplier, x, y, z, state.biomeName, tpsHundredths));
+    sentThisSecond++;
+    state.world = world;
+    state.biome = biome;
+    state.multiplier = multiplier;
+    state.x = x;
+    state.y = y;
+    state.z = z;
+    state.tpsHundredths = tpsHundredths;
+  }
+
+  /**
+   * Updates the player's Tab list name to include their remaining time. playerListName() only
+   * affects the Tab list — in-world nametags are unaffected, so named animals never inherit the
+   * timer.
+   */
+  private static void renderListName(
+      Player player, HudState state, int secondsLeft, boolean force) {
+    if (!force && secondsLeft == state.listSeconds) {
+      skippedThisSecond++;
+      return;
+    }
+    player.playerListName(
+        Component.text(player.getName())
+            .append(Component.text(" " + secondsLeft + "s").color(NamedTextColor.YELLOW)));
+    sentThisSecond++;
+    state.listSeconds = secondsLeft;
+  }
+
+  /** Formats the boss bar text as "Your remaining time: hh:mm:ss". */
+  private static String formatStatus(int totalSeconds, boolean afk) {
+    StringBuilder sb = new StringBuilder("Your remaining time: ");
+    appendTwoDigits(sb, totalSeconds / 3600).append(':');
+    appendTwoDigits(sb, (totalSeconds % 3600) / 60).append(':');
+    appendTwoDigits(sb, totalSeconds % 60);
+    if (afk) {
+      sb.append(" (AFK)");
+    }
+    return sb.toString();
+  }
+
+  private static StringBuilder appendTwoDigits(StringBuilder sb, int value) {
+    if (value < 10) {
+      sb.append('0');
+    }
+    return sb.append(value);
+  }
+
+  /** What was last sent to a player, used to decide which parts of their HUD changed. */
+  private static final class HudState {
+    private final int slot;
+
+    private BossBar bar;
+    private int barSeconds = -1;
+    private boolean barAfk;
+    private float barProgress = -1.0f;
+    private Color barColor;
+
+    private World world;
+    private Biome biome;
+    private String biomeName;
+    private double multiplier = Double.NaN;
+    private int x;
+    private int y;
+    private int z;
+    private int tpsHundredths = -1;
+
+    private int listSeconds = Integer.MIN_VALUE;
+
+    private HudState(int slot) {
+      this.slot = slot;
+    }
+  }
+}
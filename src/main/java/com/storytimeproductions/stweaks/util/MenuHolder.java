@@ -0,0 +1,195 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import net.kyori.adventure.text.Component;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * The holder of every Stweaks menu. A menu owns its inventory and a table with one click action per
+ * slot, filled in while the menu is built.
+ *
+ * <p>{@link com.storytimeproductions.stweaks.listeners.MenuListener} recognises a menu by its
+ * holder and looks the clicked slot up in the table, so a menu never has to be identified by its
+ * title and a clicked item never has to carry data saying what it does. Menus can be subclassed to
+ * give each kind of menu its own type.
+ *
+ * <p>A live slot shows data that changes while the menu is open, such as a player's time left.
+ * While a menu with live slots is open, {@link MenuRefresher} checks each slot's data once a second
+ * and only rebuilds the slot's item when the data has changed.
+ */
+public class MenuHolder implements InventoryHolder {
+  private final Inventory inventory;
+  private final MenuAction[] actions;
+  private final List<LiveSlot<?>> liveSlots = new ArrayList<>();
+
+  /**
+   * Creates a menu with an empty inventory.
+   *
+   * @param size The number of slots, a multiple of 9.
+   * @param title The title shown above the inventory.
+   */
+  public MenuHolder(int size, Component title) {
+    this.inventory = Bukkit.createInventory(this, size, title);
+    this.actions = new MenuAction[size];
+  }
+
+  /**
+   * Gets the inventory shown by this menu.
+   *
+   * @return The inventory.
+   */
+  @Override
+  public Inventory getInventory() {
+    return inventory;
+  }
+
+  /**
+   * Puts an item in a slot that does nothing when clicked.
+   *
+   * @param slot The slot.
+   * @param item The item, or null to empty the slot.
+   */
+  public void setItem(int slot, ItemStack item) {
+    setItem(slot, item, null);
+  }
+
+  /**
+   * Puts an item in a slot and sets what happens when it is clicked.
+   *
+   * @param slot The slot.
+   * @param item The item, or null to empty the slot.
+   * @param action Run when the slot is clicked, or null to do nothing.
+   */
+  public void setItem(int slot, ItemStack item, MenuAction action) {
+    inventory.setItem(slot, item);
+    actions[slot] = action;
+  }
+
+  /**
+   * Puts an item in a slot that is kept up to date while the menu is open and does nothing when
+   * clicked.
+   *
+   * @param <T> The type of the data the item shows.
+   * @param slot The slot.
+   * @param data Gets the current data the item shows. Must return equal values while the item would
+   *     not change.
+   * @param render Builds the item for a value of the data.
+   */
+  public <T> void setLiveItem(int slot, Supplier<T> data, Function<T, ItemStack> render) {
+    setLiveItem(slot, data, render, null);
+  }
+
+  /**
+   * Puts an item in a slot that is kept up to date while the menu is open and sets what happens
+   * when it is clicked.
+   *
+   * @param <T> The type of the data the item shows.
+   * @param slot The slot.
+   * @param data Gets the current data the item shows. Must return equal values while the item would
+   *     not change.
+   * @param render Builds the item for a value of the data.
+   * @param action Run when the slot is clicked, or null to do nothing.
+   */
+  public <T> void setLiveItem(
+      int slot, Supplier<T> data, Function<T, ItemStack> render, MenuAction action) {
+    LiveSlot<T> live = new LiveSlot<>(slot, data, render);
+    setItem(slot, render.apply(live.shown), action);
+    liveSlots.add(live);
+  }
+
+  /**
+   * Checks whether the menu has any live slots.
+   *
+   * @return True if the menu has to be refreshed while it is open.
+   */
+  public boolean isLive() {
+    return !liveSlots.isEmpty();
+  }
+
+  /**
+   * Rebuilds every live slot whose data has changed since it was last shown.
+   *
+   * @return The number of slots rebuilt.
+   */
+  int refresh() {
+    int rebuilt = 0;
+    for (LiveSlot<?> live : liveSlots) {
+      if (live.update(inventory)) {
+        rebuilt++;
+      }
+    }
+    return rebuilt;
+  }
+
+  /**
+   * Opens the menu for a player.
+   *
+   * @param player The player.
+   */
+  public void open(Player player) {
+    player.openInventory(inventory);
+  }
+
+  /**
+   * Handles a click anywhere in a view showing this menu. The click is always cancelled, so items
+   * can never be taken out of or put into a menu, and the action of the clicked slot runs if it has
+   * one.
+   *
+   * @param event The click event.
+   */
+  public void handleClick(InventoryClickEvent event) {
+    event.setCancelled(true);
+    int slot = event.getRawSlot();
+    if (slot < 0 || slot >= actions.length || actions[slot] == null) {
+      return;
+    }
+    if (event.getWhoClicked() instanceof Player player) {
+      actions[slot].onClick(player);
+    }
+  }
+
+  /** A slot kept up to date with the data it shows, and the value it currently shows. */
+  private static final class LiveSlot<T> {
+    private final int slot;
+    private final Supplier<T> data;
+    private final Function<T, ItemStack> render;
+    private T shown;
+
+    private LiveSlot(int slot, Supplier<T> data, Function<T, ItemStack> render) {
+      this.slot = slot;
+      this.data = data;
+      this.render = render;
+      this.shown = data.get();
+    }
+
+    private boolean update(Inventory inventory) {
+      T current = data.get();
+      if (Objects.equals(current, shown)) {
+        return false;
+      }
+      shown = current;
+      inventory.setItem(slot, render.apply(current));
+      return true;
+    }
+  }
+
+  /** What happens when a menu slot is clicked. */
+  @FunctionalInterface
+  public interface MenuAction {
+    /**
+     * Runs the action.
+     *
+     * @param player The player who clicked the slot.
+     */
+    void onClick(Player player);
+  }
+}
@@ -0,0 +1,104 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Keeps every open menu with live slots up to date from a single task.
+ *
+ * <p>A menu is tracked from when it is opened until it is closed, so reopening a menu replaces the
+ * old one instead of adding another task. Once a second every tracked menu checks the data behind
+ * its live slots and only rebuilds the items whose data changed.
+ */
+public class MenuRefresher {
+  private static final Set<MenuHolder> liveMenus = new LinkedHashSet<>();
+
+  private static int slotsRebuiltLastRun = 0;
+  private static long lastRunMicros = 0;
+
+  /**
+   * Starts refreshing open menus once a second.
+   *
+   * @param plugin The plugin instance.
+   */
+  public static void init(JavaPlugin plugin) {
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        refreshAll();
+      }
+    }.runTaskTimer(plugin, 20L, 20L);
+  }
+
+  /** Stops tracking every menu. Called when the plugin is disabled. */
+  public static void shutdown() {
+    liveMenus.clear();
+  }
+
+  /**
+   * Starts keeping a menu up to date. Menus without live slots are ignored.
+   *
+   * @param menu The menu that was opened.
+   */
+  public static void track(MenuHolder menu) {
+    if (menu.isLive()) {
+      liveMenus.add(menu);
+    }
+  }
+
+  /**
+   * Stops keeping a menu up to date.
+   *
+   * @param menu The menu that was closed.
+   */
+  public static void untrack(MenuHolder menu) {
+    liveMenus.remove(menu);
+  }
+
+  /**
+   * Gets the number of open menus being kept up to date.
+   *
+   * @return The number of live menus.
+   */
+  public static int getLiveMenuCount() {
+    return liveMenus.size();
+  }
+
+  /**
+   * Gets the number of slots rebuilt by the last refresh, which runs once a second.
+   *
+   * @return The slots rebuilt per second.
+   */
+  public static int getSlotsRebuiltPerSecond() {
+    return slotsRebuiltLastRun;
+  }
+
+  /**
+   * Gets how long the last refresh took.
+   *
+   * @return The duration of the last refresh in microseconds.
+   */
+  public static long getLastRunMicros() {
+    return lastRunMicros;
+  }
+
+  private static void refreshAll() {
+    long start = System.nanoTime();
+    int rebuilt = 0;
+    Iterator<MenuHolder> it = liveMenus.iterator();
+    while (it.hasNext()) {
+      MenuHolder menu = it.next();
+      // Safety net in case the close event was never seen
+      if (menu.getInventory().getViewers().isEmpty()) {
+        it.remove();
+        continue;
+      }
+      rebuilt += menu.refresh();
+    }
+    slotsRebuiltLastRun = rebuilt;
+    lastRunMicros = (System.nanoTime() - start) / 1000;
+  }
+}
@@ -0,0 +1,167 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Decides when each active pet acts next, using a hashed timing wheel.
+ *
+ * <p>The wheel has one bucket per second. A player whose pet should act in n seconds is put in the
+ * bucket n places ahead of the cursor, and once a second the cursor moves on and only the players
+ * in that bucket are handed to the pet action. Players without a pet are never in the wheel, so the
+ * cost of a second does not depend on how many players are online.
+ *
+ * <p>A player is registered when a pet is put in their offhand and removed when it is taken out or
+ * they leave. The pet action reschedules the player if their pet is still there.
+ */
+public class PetActionScheduler {
+  private static final int WHEEL_SECONDS = 64;
+  private static final int MIN_DELAY_SECONDS = 30;
+  private static final int MAX_DELAY_SECONDS = 60;
+
+  private static final List<Set<UUID>> buckets = new ArrayList<>(WHEEL_SECONDS);
+  private static final Map<UUID, Integer> bucketOf = new HashMap<>();
+
+  private static Consumer<Player> action;
+  private static int cursor = 0;
+  private static int dueLastSecond = 0;
+
+  static {
+    for (int i = 0; i < WHEEL_SECONDS; i++) {
+      buckets.add(new LinkedHashSet<>());
+    }
+  }
+
+  /**
+   * Starts moving the wheel once a second.
+   *
+   * @param plugin The plugin instance.
+   * @param petAction Run on the main thread for each player whose pet is due to act.
+   */
+  public static void init(JavaPlugin plugin, Consumer<Player> petAction) {
+    action = petAction;
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        advance();
+      }
+    }.runTaskTimer(plugin, 20L, 20L);
+  }
+
+  /** Removes every player from the wheel. Called when the plugin is disabled. */
+  public static void shutdown() {
+    for (Set<UUID> bucket : buckets) {
+      bucket.clear();
+    }
+    bucketOf.clear();
+  }
+
+  /**
+   * Registers a player whose offhand now holds a pet. Does nothing if they are already waiting for
+   * their pet's next action.
+   *
+   * @param player The player.
+   */
+  public static void register(Player player) {
+    if (!bucketOf.containsKey(player.getUniqueId())) {
+      schedule(player);
+    }
+  }
+
+  /**
+   * Schedules a player's pet to act again after a random delay, replacing any pending action.
+   *
+   * @param player The player.
+   */
+  public static void schedule(Player player) {
+    unregister(player);
+    int delay = ThreadLocalRandom.current().nextInt(MIN_DELAY_SECONDS, MAX_DELAY_SECONDS + 1);
+    int bucket = (cursor + delay) % WHEEL_SECONDS;
+    buckets.get(bucket).add(player.getUniqueId());
+    bucketOf.put(player.getUniqueId(), bucket);
+  }
+
+  /**
+   * Removes a player from the wheel, e.g. because their pet left their offhand.
+   *
+   * @param player The player.
+   */
+  public static void unregister(Player player) {
+    Integer bucket = bucketOf.remove(player.getUniqueId());
+    if (bucket != null) {
+      buckets.get(bucket).remove(player.getUniqueId());
+    }
+  }
+
+  /**
+   * Gets the number of players waiting for their pet's next action.
+   *
+   * @return The number of scheduled players.
+   */
+  public static int getScheduledCount() {
+    return bucketOf.size();
+  }
+
+  /**
+   * Gets the number of players in the fullest bucket of the wheel.
+   *
+   * @return The size of the fullest bucket.
+   */
+  public static int getFullestBucketSize() {
+    int fullest = 0;
+    for (Set<UUID> bucket : buckets) {
+      fullest = Math.max(fullest, bucket.size());
+    }
+    return fullest;
+  }
+
+  /**
+   * Gets the number of players whose pet was due during the last second.
+   *
+   * @return The players handed to the pet action in the last second.
+   */
+  public static int getDueLastSecond() {
+    return dueLastSecond;
+  }
+
+  /**
+   * Gets the number of buckets in the wheel, one per second.
+   *
+   * @return The number of buckets.
+   */
+  public static int getBucketCount() {
+    return WHEEL_SECONDS;
+  }
+
+  /** Moves the cursor on by one second and runs the pet action for every player now due. */
+  private static void advance() {
+    cursor = (cursor + 1) % WHEEL_SECONDS;
+    Set<UUID> bucket = buckets.get(cursor);
+    if (bucket.isEmpty()) {
+      dueLastSecond = 0;
+      return;
+    }
+
+    List<UUID> due = new ArrayList<>(bucket);
+    bucket.clear();
+    dueLastSecond = due.size();
+    for (UUID uuid : due) {
+      bucketOf.remove(uuid);
+      Player player = Bukkit.getPlayer(uuid);
+      if (player != null && action != null) {
+        action.accept(player);
+      }
+    }
+  }
+}
@@ -0,0 +1,295 @@
+package com.storytimeproductions.stweaks.util;
+
+import com.storytimeproductions.models.Pet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.TextDecoration;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemFlag;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * An immutable catalog of every pet in pets.yml, built each time the file is loaded.
+ *
+ * <p>Pets are indexed by id and by the item model of their item, so looking a pet up never scans
+ * the list. For each pet the catalog also holds prebuilt templates of the items shown in the pets
+ * menu. {@link PetsManager} swaps a whole new catalog in when pets.yml is reloaded, so a reader
+ * always sees either the old pets or the new ones, never a mix.
+ */
+public final class PetCatalog {
+  private static final String MODEL_NAMESPACE = "hotbar_pets";
+
+  private final List<Pet> pets;
+  private final Map<String, Pet> byId = new HashMap<>();
+  private final Map<NamespacedKey, Pet> byItemModel = new HashMap<>();
+  private final Map<String, Templates> templates = new HashMap<>();
+
+  private PetCatalog(List<Pet> pets) {
+    this.pets = Collections.unmodifiableList(new ArrayList<>(pets));
+    for (Pet pet : this.pets) {
+      byId.put(pet.getId(), pet);
+      byItemModel.put(new NamespacedKey(MODEL_NAMESPACE, pet.getId()), pet);
+      templates.put(pet.getId(), new Templates(pet));
+    }
+  }
+
+  /**
+   * Builds a catalog.
+   *
+   * @param pets The pets to include, in the order the pets menu lists them.
+   * @return The catalog.
+   */
+  public static PetCatalog build(List<Pet> pets) {
+    return new PetCatalog(pets);
+  }
+
+  /**
+   * Gets every pet, in the order the pets menu lists them.
+   *
+   * @return An unmodifiable list of pets.
+   */
+  public List<Pet> getPets() {
+    return pets;
+  }
+
+  /**
+   * Gets a pet by its id.
+   *
+   * @param petId The pet's id.
+   * @return The pet, or null if it is not in the catalog.
+   */
+  public Pet getById(String petId) {
+    return byId.get(petId);
+  }
+
+  /**
+   * Gets the pet shown by an item model.
+   *
+   * @param itemModel The item model, e.g. hotbar_pets:chicken.
+   * @return The pet, or null if the model does not belong to a pet in the catalog.
+   */
+  public Pet getByItemModel(NamespacedKey itemModel) {
+    return byItemModel.get(itemModel);
+  }
+
+  /**
+   * Gets the title of a pet's view in the pets menu, e.g. "Baby Chicken Pet".
+   *
+   * @param pet The pet.
+   * @return The display name.
+   */
+  public String getDisplayName(Pet pet) {
+    return templates.get(pet.getId()).displayName;
+  }
+
+  /**
+   * Creates a pet's icon in the main pets menu by copying its prebuilt template.
+   *
+   * @param pet The pet.
+   * @return A new icon item.
+   */
+  public ItemStack createMenuIcon(Pet pet) {
+    return templates.get(pet.getId()).menuIcon.clone();
+  }
+
+  /**
+   * Creates the item showing the pet itself in its view by copying its prebuilt template.
+   *
+   * @param pet The pet.
+   * @return A new pet item.
+   */
+  public ItemStack createModelItem(Pet pet) {
+    return templates.get(pet.getId()).modelItem.clone();
+  }
+
+  /**
+   * Creates the item showing a pet's subtitle by copying its prebuilt template.
+   *
+   * @param pet The pet.
+   * @return A new description item.
+   */
+  public ItemStack createDescriptionItem(Pet pet) {
+    return templates.get(pet.getId()).descriptionItem.clone();
+  }
+
+  /**
+   * Creates the item showing what a pet eats by copying its prebuilt template.
+   *
+   * @param pet The pet.
+   * @return A new food item.
+   */
+  public ItemStack createFoodItem(Pet pet) {
+    return templates.get(pet.getId()).foodItem.clone();
+  }
+
+  /**
+   * Creates the item showing a pet's perk by copying its prebuilt template.
+   *
+   * @param pet The pet.
+   * @return A new perk item.
+   */
+  public ItemStack createPerkItem(Pet pet) {
+    return templates.get(pet.getId()).perkItem.clone();
+  }
+
+  /**
+   * Creates the ingredients of a pet's recipe by copying their prebuilt templates.
+   *
+   * @param pet The pet.
+   * @return The nine ingredients row by row, null for empty slots, or null if the pet has no valid
+   *     recipe.
+   */
+  public ItemStack[] createRecipeItems(Pet pet) {
+    ItemStack[] recipe = templates.get(pet.getId()).recipeItems;
+    if (recipe == null) {
+      return null;
+    }
+    ItemStack[] copy = new ItemStack[recipe.length];
+    for (int i = 0; i < recipe.length; i++) {
+      copy[i] = recipe[i] != null ? recipe[i].clone() : null;
+    }
+    return copy;
+  }
+
+  private static ItemStack createItem(Material material, String name, String... lore) {
+    ItemStack item = new ItemStack(material);
+    ItemMeta meta = item.getItemMeta();
+    meta.displayName(Component.text(name).decoration(TextDecoration.ITALIC, false));
+    if (lore.length > 0) {
+      List<Component> lines = new ArrayList<>();
+      for (String line : lore) {
+        lines.add(Component.text(line).decoration(TextDecoration.ITALIC, false));
+      }
+      meta.lore(lines);
+    }
+    item.setItemMeta(meta);
+    return item;
+  }
+
+  /**
+   * Converts a string to title case format (first letter of each word capitalized, rest lowercase).
+   *
+   * @param text the text to convert
+   * @param toLowerCase whether to lowercase the whole result afterwards
+   * @return the text in title case format
+   */
+  private static String formatText(String text, boolean toLowerCase) {
+    if (text == null || text.isEmpty()) {
+      return text;
+    }
+
+    StringBuilder titleCase = new StringBuilder();
+    boolean nextTitleCase = true;
+
+    for (char c : text.toCharArray()) {
+      if (Character.isSpaceChar(c) || c == '_' || c == '-') {
+        nextTitleCase = true;
+        titleCase.append(c == '_' ? ' ' : c); // Replace underscores with spaces
+      } else if (nextTitleCase) {
+        titleCase.append(Character.toUpperCase(c));
+        nextTitleCase = false;
+      } else {
+        titleCase.append(Character.toLowerCase(c));
+      }
+    }
+
+    if (toLowerCase) {
+      return titleCase.toString().toLowerCase();
+    }
+
+    return titleCase.toString();
+  }
+
+  /** The prebuilt pets menu items of one pet. */
+  private static final class Templates {
+    private final String displayName;
+    private final ItemStack menuIcon;
+    private final ItemStack modelItem;
+    private final ItemStack descriptionItem;
+    private final ItemStack foodItem;
+    private final ItemStack perkItem;
+    private final ItemStack[] recipeItems;
+
+    private Templates(Pet pet) {
+      NamespacedKey model = new NamespacedKey(MODEL_NAMESPACE, pet.getId());
+      displayName = formatText(pet.getId() + " Pet", false);
+
+      menuIcon = new ItemStack(Material.PAPER);
+      ItemMeta iconMeta = menuIcon.getItemMeta();
+      iconMeta.displayName(Component.text(displayName));
+      iconMeta.setItemModel(model);
+      menuIcon.setItemMeta(iconMeta);
+
+      modelItem = createItem(Material.PAPER, formatText(pet.getId(), false));
+      ItemMeta modelMeta = modelItem.getItemMeta();
+      modelMeta.setItemModel(model);
+      modelItem.setItemMeta(modelMeta);
+
+      descriptionItem = createItem(Material.WRITTEN_BOOK, "What am I?", pet.getSubtitle());
+      ItemMeta descMeta = descriptionItem.getItemMeta();
+      descMeta.addItemFlags(ItemFlag.HIDE_ADDITIONAL_TOOLTIP);
+      descriptionItem.setItemMeta(descMeta);
+
+      Material food = pet.getFood();
+      foodItem =
+          createItem(
+              food,
+              "What do I eat?",
+              "I really like " + formatText(food.name().replace("_", " "), true));
+
+      perkItem = createPerkTemplate(pet.getPerk());
+      recipeItems = createRecipeTemplates(pet.getRecipe());
+    }
+
+    private static ItemStack createPerkTemplate(String perk) {
+      if (perk.startsWith("effect:")) {
+        String effectName = perk.substring(7);
+        ItemStack item =
+            createItem(
+                Material.POTION,
+                "What do I give you?",
+                "I give " + formatText(effectName, true) + " sometimes!");
+        ItemMeta meta = item.getItemMeta();
+        meta.addItemFlags(ItemFlag.HIDE_ADDITIONAL_TOOLTIP);
+        item.setItemMeta(meta);
+        return item;
+      }
+      if (perk.startsWith("item:")) {
+        String itemName = perk.substring(5);
+        Material itemMat = Material.matchMaterial(itemName);
+        return createItem(
+            itemMat != null ? itemMat : Material.CHEST,
+            "What do I give you?",
+            "I give " + formatText(itemName.replace("_", " "), true) + "s sometimes!");
+      }
+      return createItem(Material.NETHER_STAR, "How I can help you?", "Unknown perk type: " + perk);
+    }
+
+    private static ItemStack[] createRecipeTemplates(List<List<Material>> recipe) {
+      if (recipe == null) {
+        return null;
+      }
+      ItemStack[] items = new ItemStack[9];
+      int index = 0;
+      for (List<Material> row : recipe) {
+        for (Material material : row) {
+          if (index >= items.length) {
+            break;
+          }
+          if (material != null && material != Material.AIR) {
+            String name = formatText(material.name().replace("_", " "), false);
+            items[index] = createItem(material, name);
+          }
+          index++;
+        }
+      }
+      return items;
+    }
+  }
+}
@@ -0,0 +1,334 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitRunnable;
+
+/**
+ * Keeps the state of every pet owned by an online player: its hunger, when it was last fed and how
+ * many rewards it has given. The state is stored in the pet_state table.
+ *
+ * <p>A player's pets are loaded in the background when they join and forgotten when they leave.
+ * Every change is queued and a background writer writes the queue in one batched transaction every
+ * 30 seconds, so the main thread never waits for the database.
+ */
+public class PetStateManager {
+  /** The hunger of a pet that has just been fed. */
+  public static final int MAX_HUNGER = 5;
+
+  private static final int FLUSH_INTERVAL_SECONDS = 30;
+  private static final String SELECT_SQL =
+      "SELECT pet_id, hunger, last_fed, rewards FROM pet_state WHERE uuid = ?";
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO pet_state (uuid, pet_id, hunger, last_fed, rewards) VALUES (?, ?, ?, ?, ?)
+      ON CONFLICT(uuid, pet_id) DO UPDATE SET hunger = excluded.hunger,
+          last_fed = excluded.last_fed, rewards = excluded.rewards
+      """;
+
+  private final DbManager dbManager;
+  private final JavaPlugin plugin;
+  private final Map<UUID, Map<String, PetState>> states = new HashMap<>();
+  private final ConcurrentLinkedQueue<StateRow> unwritten = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+  private final ExecutorService writer;
+  private Connection connection;
+
+  /**
+   * Constructs a new PetStateManager, starts the background writer and loads the pets of every
+   * player already online.
+   *
+   * @param dbManager The DbManager instance used to interact with the SQLite database.
+   * @param plugin The plugin instance.
+   */
+  public PetStateManager(DbManager dbManager, JavaPlugin plugin) {
+    this.dbManager = dbManager;
+    this.plugin = plugin;
+
+    writer =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "Stweaks-PetWriter");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    long intervalTicks = FLUSH_INTERVAL_SECONDS * 20L;
+    new BukkitRunnable() {
+      @Override
+      public void run() {
+        if (!unwritten.isEmpty() && flushQueued.compareAndSet(false, true)) {
+          try {
+            writer.execute(
+                () -> {
+                  flushQueued.set(false);
+                  writeUnwritten();
+                });
+          } catch (RejectedExecutionException e) {
+            // Shutting down; shutdown() writes whatever is left
+            flushQueued.set(false);
+          }
+        }
+      }
+    }.runTaskTimer(plugin, intervalTicks, intervalTicks);
+
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      load(player.getUniqueId());
+    }
+  }
+
+  /**
+   * Starts loading a player's pets in the background. Pets that change before the load finishes
+   * keep their new state. Must be called from the main thread.
+   *
+   * @param uuid The UUID of the player.
+   */
+  public void load(UUID uuid) {
+    states.computeIfAbsent(uuid, k -> new HashMap<>());
+    try {
+      writer.execute(
+          () -> {
+            // Write anything still queued first, so a quick rejoin never reads stale rows
+            writeUnwritten();
+            Map<String, PetState> stored = readStates(uuid);
+            Bukkit.getScheduler()
+                .runTask(
+                    plugin,
+                    () -> {
+                      Map<String, PetState> pets = states.get(uuid);
+                      if (pets != null) {
+                        stored.forEach(pets::putIfAbsent);
+                      }
+                    });
+          });
+    } catch (RejectedExecutionException e) {
+      plugin.getLogger().warning("Pet writer is shut down, not loading pets for " + uuid);
+    }
+  }
+
+  /**
+   * Forgets a player's pets (e.g., on logout). Changes still waiting to be written are written as
+   * usual.
+   *
+   * @param uuid The UUID of the player.
+   */
+  public void unload(UUID uuid) {
+    states.remove(uuid);
+  }
+
+  /**
+   * Stops the background writer and synchronously writes every queued change. Must be called from
+   * the main thread when the plugin is disabled.
+   */
+  public void shutdown() {
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+        plugin.getLogger().warning("Pet writer did not finish in time, draining anyway.");
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    writeUnwritten();
+
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        e.printStackTrace();
+      }
+      connection = null;
+    }
+  }
+
+  /**
+   * Gets the state of one of a player's pets. A pet that has never been seen before, or whose
+   * stored state is still loading, reads as full. Reading never stores anything, so a read before
+   * the load finishes cannot hide the stored state.
+   *
+   * @param uuid The UUID of the player.
+   * @param petId The pet's unique identifier.
+   * @return The pet's state.
+   */
+  public PetState getState(UUID uuid, String petId) {
+    Map<String, PetState> pets = states.get(uuid);
+    PetState state = pets != null ? pets.get(petId) : null;
+    return state != null ? state : new PetState(MAX_HUNGER, 0L, 0);
+  }
+
+  /** Gets the state of a pet that is about to change, keeping it from now on. */
+  private PetState changingState(UUID uuid, String petId) {
+    return states
+        .computeIfAbsent(uuid, k -> new HashMap<>())
+        .computeIfAbsent(petId, k -> new PetState(MAX_HUNGER, 0L, 0));
+  }
+
+  /**
+   * Fills a pet's hunger and remembers when it was fed.
+   *
+   * @param uuid The UUID of the player.
+   * @param petId The pet's unique identifier.
+   */
+  public void feed(UUID uuid, String petId) {
+    PetState state = changingState(uuid, petId);
+    state.hunger = MAX_HUNGER;
+    state.lastFed = System.currentTimeMillis();
+    queue(uuid, petId, state);
+  }
+
+  /**
+   * Counts a reward given by a pet and makes the pet hungrier, never below zero.
+   *
+   * @param uuid The UUID of the player.
+   * @param petId The pet's unique identifier.
+   * @param hungerCost How much hungrier the pet gets.
+   */
+  public void recordReward(UUID uuid, String petId, int hungerCost) {
+    PetState state = changingState(uuid, petId);
+    state.hunger = Math.max(0, state.hunger - hungerCost);
+    state.rewards++;
+    queue(uuid, petId, state);
+  }
+
+  private void queue(UUID uuid, String petId, PetState state) {
+    unwritten.add(new StateRow(uuid, petId, state.hunger, state.lastFed, state.rewards));
+  }
+
+  /** Reads a player's stored pets. Runs on the writer thread. */
+  private Map<String, PetState> readStates(UUID uuid) {
+    Map<String, PetState> stored = new HashMap<>();
+    try {
+      ensureConnection();
+      try (PreparedStatement stmt = connection.prepareStatement(SELECT_SQL)) {
+        stmt.setString(1, uuid.toString());
+        try (ResultSet rs = stmt.executeQuery()) {
+          while (rs.next()) {
+            stored.put(
+                rs.getString("pet_id"),
+                new PetState(rs.getInt("hunger"), rs.getLong("last_fed"), rs.getInt("rewards")));
+          }
+        }
+      }
+    } catch (SQLException e) {
+      e.printStackTrace();
+    }
+    return stored;
+  }
+
+  /** Writes every queued change in a single batched transaction, requeueing them on failure. */
+  private synchronized void writeUnwritten() {
+    List<StateRow> batch = new ArrayList<>();
+    StateRow next;
+    while ((next = unwritten.poll()) != null) {
+      batch.add(next);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      ensureConnection();
+      connection.setAutoCommit(false);
+      try (PreparedStatement stmt = connection.prepareStatement(UPSERT_SQL)) {
+        for (StateRow row : batch) {
+          stmt.setString(1, row.uuid.toString());
+          stmt.setString(2, row.petId);
+          stmt.setInt(3, row.hunger);
+          stmt.setLong(4, row.lastFed);
+          stmt.setInt(5, row.rewards);
+          stmt.addBatch();
+        }
+        stmt.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      e.printStackTrace();
+      unwritten.addAll(batch);
+    }
+  }
+
+  private void ensureConnection() throws SQLException {
+    if (connection == null || connection.isClosed()) {
+      connection = dbManager.openConnection();
+    }
+  }
+
+  /** The state of one pet. Only changed through the manager, on the main thread. */
+  public static final class PetState {
+    private int hunger;
+    private long lastFed;
+    private int rewards;
+
+    private PetState(int hunger, long lastFed, int rewards) {
+      this.hunger = hunger;
+      this.lastFed = lastFed;
+      this.rewards = rewards;
+    }
+
+    /**
+     * Gets how full the pet is, from 0 (starving) to {@link #MAX_HUNGER}.
+     *
+     * @return The pet's hunger.
+     */
+    public int getHunger() {
+      return hunger;
+    }
+
+    /**
+     * Gets when the pet was last fed.
+     *
+     * @return The time in epoch milliseconds, or 0 if it has never been fed.
+     */
+    public long getLastFed() {
+      return lastFed;
+    }
+
+    /**
+     * Gets how many rewards the pet has given.
+     *
+     * @return The number of rewards.
+     */
+    public int getRewards() {
+      return rewards;
+    }
+  }
+
+  /** A pet's state waiting to be written. */
+  private static final class StateRow {
+    private final UUID uuid;
+    private final String petId;
+    private final int hunger;
+    private final long lastFed;
+    private final int rewards;
+
+    private StateRow(UUID uuid, String petId, int hunger, long lastFed, int rewards) {
+      this.uuid = uuid;
+      this.petId = petId;
+      this.hunger = hunger;
+      this.lastFed = lastFed;
+      this.rewards = rewards;
+    }
+  }
+}
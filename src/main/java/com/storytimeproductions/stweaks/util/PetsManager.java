@@ -13,17 +13,22 @@ import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.potion.PotionEffectType;
 
 /**
  * Manages the loading and retrieval of pets from the pets.yml configuration file. This class
  * handles parsing the configuration, validating pet data, and providing access to the loaded pets.
+ *
+ * <p>The loaded pets are held in a {@link PetCatalog}. Reloading builds a new catalog from scratch
+ * and swaps it in with a single write, so lookups never see a half-loaded list.
  */
 public class PetsManager {
-  private final List<Pet> allPets = new ArrayList<>();
   private final JavaPlugin plugin;
+  private final NamespacedKey petIdKey;
   private FileConfiguration petsConfig;
+  private volatile PetCatalog catalog = PetCatalog.build(List.of());
 
   /**
    * Constructs a PetsManager instance.
@@ -32,13 +37,17 @@ public class PetsManager {
    */
   public PetsManager(JavaPlugin plugin) {
     this.plugin = plugin;
+    this.petIdKey = new NamespacedKey(plugin, "pet_id");
     loadPetsConfig();
     loadPets();
   }
 
   /**
-   * Returns the Pet corresponding to the given item if it has a hotbar_pets model, or null
-   * otherwise.
+   * Returns the Pet corresponding to the given item, or null if it is not a pet. The pet id stored
+   * in the item's persistent data is used if present, otherwise the key of its hotbar_pets model.
+   *
+   * @param item The item to check.
+   * @return The pet, or null.
    */
   public Pet getPetByItem(ItemStack item) {
     if (item == null || !item.hasItemMeta()) {
@@ -46,17 +55,22 @@ public class PetsManager {
     }
     ItemMeta meta = item.getItemMeta();
 
-    NamespacedKey itemModel = meta.getItemModel();
-    if (itemModel != null && itemModel.getNamespace().equals("hotbar_pets")) {
-      String petId = itemModel.getKey();
-      Pet pet = getPetById(petId);
-      if (pet != null) {
-      } else {
-      }
-      return pet;
+    String storedId = meta.getPersistentDataContainer().get(petIdKey, PersistentDataType.STRING);
+    if (storedId != null) {
+      return catalog.getById(storedId);
     }
 
-    return null;
+    NamespacedKey itemModel = meta.getItemModel();
+    return itemModel != null ? catalog.getByItemModel(itemModel) : null;
+  }
+
+  /**
+   * Gets the key under which a pet item stores the id of its pet in its persistent data.
+   *
+   * @return The pet id key.
+   */
+  public NamespacedKey getPetIdKey() {
+    return petIdKey;
   }
 
   /** Loads the pets.yml configuration file. */
@@ -68,19 +82,19 @@ public class PetsManager {
     petsConfig = YamlConfiguration.loadConfiguration(petsFile);
   }
 
-  /** Loads pets from the pets.yml configuration file. */
+  /**
+   * Loads pets from the pets.yml configuration file and swaps them in once every pet has been read.
+   */
   public void loadPets() {
     loadPetsConfig();
 
-    allPets.clear();
-
+    List<Pet> pets = new ArrayList<>();
     ConfigurationSection section = petsConfig.getConfigurationSection("pets");
     if (section == null) {
+      catalog = PetCatalog.build(pets);
       return;
     }
 
-    List<List<Material>> recipeMatrix = null;
-
     for (String id : section.getKeys(false)) {
       ConfigurationSection petSec = section.getConfigurationSection(id);
       if (petSec == null) {
@@ -115,6 +129,7 @@ public class PetsManager {
         continue;
       }
 
+      List<List<Material>> recipeMatrix = null;
       if (petSec.isList("recipe")) {
         List<?> recipeList = petSec.getList("recipe");
 
@@ -187,8 +202,10 @@ public class PetsManager {
       }
 
       Pet pet = new Pet(id, subtitle, perk, burps, quotes, foodMat, recipeMatrix);
-      allPets.add(pet);
+      pets.add(pet);
     }
+
+    catalog = PetCatalog.build(pets);
   }
 
   private boolean isValidPerk(String perk) {
@@ -222,15 +239,24 @@ public class PetsManager {
    * @return The Pet object if found, otherwise null.
    */
   public Pet getPetById(String petId) {
-    for (Pet pet : allPets) {
-      if (pet.getId().equals(petId)) {
-        return pet;
-      }
-    }
-    return null;
+    return catalog.getById(petId);
   }
 
+  /**
+   * Gets every loaded pet.
+   *
+   * @return An unmodifiable list of pets.
+   */
   public List<Pet> getAllPets() {
-    return allPets;
+    return catalog.getPets();
+  }
+
+  /**
+   * Gets the catalog of the loaded pets.
+   *
+   * @return The current pet catalog.
+   */
+  public PetCatalog getCatalog() {
+    return catalog;
   }
 }
@@ -0,0 +1,289 @@
+package com.storytimeproductions.stweaks.util;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.plugin.java.JavaPlugin;
+
+/**
+ * A persistent cache of player names and UUIDs, stored in the player_names table.
+ *
+ * <p>Every player who joins is remembered, so resolving a name with {@link #getUuid(String)} is a
+ * map lookup that never blocks, from any thread. At startup the cache is also seeded in the
+ * background with every player the server has seen, so players who last joined before the table
+ * existed resolve too. A name that is still not cached can be looked up in the background with
+ * {@link #lookupAsync(String, Runnable)}; the lookup may ask Mojang for the profile, so it never
+ * runs on the main thread. New and changed names are written to the database by a background
+ * writer.
+ */
+public class PlayerNameCache {
+  private static final String SELECT_SQL = "SELECT uuid, name FROM player_names ORDER BY last_seen";
+  private static final String UPSERT_SQL =
+      """
+      INSERT INTO player_names (uuid, name, last_seen) VALUES (?, ?, ?)
+      ON CONFLICT(uuid) DO UPDATE SET name = excluded.name, last_seen = excluded.last_seen
+      """;
+
+  private static final Map<String, UUID> uuidsByName = new ConcurrentHashMap<>();
+  private static final Map<UUID, String> namesByUuid = new ConcurrentHashMap<>();
+  private static final Set<String> lookedUp = ConcurrentHashMap.newKeySet();
+  private static final ConcurrentLinkedQueue<NameRow> unwritten = new ConcurrentLinkedQueue<>();
+  private static final AtomicBoolean flushQueued = new AtomicBoolean(false);
+  private static final CompletableFuture<Void> seeded = new CompletableFuture<>();
+
+  private static JavaPlugin plugin;
+  private static DbManager dbManager;
+  private static ExecutorService writer;
+  private static Connection connection;
+
+  /**
+   * Loads every cached name from the database, remembers the players already online, starts the
+   * background writer and starts seeding the cache from the server's offline players. Must be
+   * called from the main thread before anything resolves names.
+   *
+   * @param pl The plugin instance.
+   * @param db The database manager.
+   */
+  public static void init(JavaPlugin pl, DbManager db) {
+    plugin = pl;
+    dbManager = db;
+    writer =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "Stweaks-NameWriter");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    // Ordered by last_seen, so the most recent holder of a reused name wins
+    try (PreparedStatement stmt = dbManager.getConnection().prepareStatement(SELECT_SQL);
+        ResultSet rs = stmt.executeQuery()) {
+      while (rs.next()) {
+        put(UUID.fromString(rs.getString("uuid")), rs.getString("name"));
+      }
+    } catch (SQLException e) {
+      e.printStackTrace();
+    }
+
+    for (Player player : Bukkit.getOnlinePlayers()) {
+      remember(player.getUniqueId(), player.getName());
+    }
+
+    // Reading every player's data file is slow on a big server, so seed off the main thread
+    Bukkit.getScheduler().runTaskAsynchronously(plugin, PlayerNameCache::seedFromOfflinePlayers);
+  }
+
+  /**
+   * Adds every player the server has seen to the cache without overriding names it already has,
+   * which are more recent. Seeded names are not written to the database. Runs in the background.
+   */
+  private static void seedFromOfflinePlayers() {
+    try {
+      for (OfflinePlayer player : Bukkit.getOfflinePlayers()) {
+        String name = player.getName();
+        if (name != null && namesByUuid.putIfAbsent(player.getUniqueId(), name) == null) {
+          uuidsByName.putIfAbsent(name.toLowerCase(Locale.ROOT), player.getUniqueId());
+        }
+      }
+    } finally {
+      seeded.complete(null);
+    }
+  }
+
+  /**
+   * Stops the background writer and synchronously writes every queued name. Must be called from the
+   * main thread when the plugin is disabled.
+   */
+  public static void shutdown() {
+    if (writer != null) {
+      writer.shutdown();
+      try {
+        if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+          plugin.getLogger().warning("Name writer did not finish in time, draining anyway.");
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+
+    writeUnwritten();
+
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        e.printStackTrace();
+      }
+      connection = null;
+    }
+  }
+
+  /**
+   * Remembers a player's current name, e.g. when they join. May be called from any thread.
+   *
+   * @param uuid The UUID of the player.
+   * @param name The player's current name.
+   */
+  public static void remember(UUID uuid, String name) {
+    if (name.equals(namesByUuid.get(uuid))
+        && uuid.equals(uuidsByName.get(name.toLowerCase(Locale.ROOT)))) {
+      return;
+    }
+    put(uuid, name);
+    unwritten.add(new NameRow(uuid, name, System.currentTimeMillis()));
+    queueFlush();
+  }
+
+  /**
+   * Gets the UUID of the player with a name, ignoring case. Never blocks.
+   *
+   * @param name The player's name.
+   * @return The player's UUID, or null if the name is not cached.
+   */
+  public static UUID getUuid(String name) {
+    return uuidsByName.get(name.toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Gets the last known name of a player. Never blocks.
+   *
+   * @param uuid The UUID of the player.
+   * @return The player's name, or null if the player is not cached.
+   */
+  public static String getName(UUID uuid) {
+    return namesByUuid.get(uuid);
+  }
+
+  /**
+   * Looks a name that is not cached up in the background. If it belongs to a player who has played
+   * on this server, the player is remembered and a callback runs on the main thread. The lookup
+   * waits for the startup seeding first, so names the server already knows never reach Mojang. Each
+   * name is only looked up once per server run; a player who joins later is remembered then.
+   *
+   * @param name The player's name.
+   * @param whenFound Run on the main thread if the player is found.
+   */
+  public static void lookupAsync(String name, Runnable whenFound) {
+    if (getUuid(name) != null) {
+      // Cached since the caller last checked, e.g. by the startup seeding
+      Bukkit.getScheduler().runTask(plugin, whenFound);
+      return;
+    }
+    if (!lookedUp.add(name.toLowerCase(Locale.ROOT))) {
+      return;
+    }
+    Bukkit.getScheduler()
+        .runTaskAsynchronously(
+            plugin,
+            () -> {
+              seeded.join();
+              UUID seededUuid = getUuid(name);
+              if (seededUuid != null) {
+                remember(seededUuid, getName(seededUuid));
+              } else {
+                OfflinePlayer player = Bukkit.getOfflinePlayer(name);
+                if (!player.hasPlayedBefore() && !player.isOnline()) {
+                  return;
+                }
+                String found = player.getName() != null ? player.getName() : name;
+                remember(player.getUniqueId(), found);
+              }
+              if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, whenFound);
+              }
+            });
+  }
+
+  private static void put(UUID uuid, String name) {
+    String previous = namesByUuid.put(uuid, name);
+    if (previous != null) {
+      uuidsByName.remove(previous.toLowerCase(Locale.ROOT), uuid);
+    }
+    uuidsByName.put(name.toLowerCase(Locale.ROOT), uuid);
+  }
+
+  /** Asks the background writer to write queued names, unless it has already been asked. */
+  private static void queueFlush() {
+    if (writer == null || !flushQueued.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      writer.execute(
+          () -> {
+            flushQueued.set(false);
+            writeUnwritten();
+          });
+    } catch (RejectedExecutionException e) {
+      // Shutting down; shutdown() writes whatever is left
+      flushQueued.set(false);
+    }
+  }
+
+  /** Writes every queued name in a single batched transaction, requeueing them on failure. */
+  private static synchronized void writeUnwritten() {
+    List<NameRow> batch = new ArrayList<>();
+    NameRow next;
+    while ((next = unwritten.poll()) != null) {
+      batch.add(next);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (connection == null || connection.isClosed()) {
+        connection = dbManager.openConnection();
+      }
+      connection.setAutoCommit(false);
+      try (PreparedStatement stmt = connection.prepareStatement(UPSERT_SQL)) {
+        for (NameRow row : batch) {
+          stmt.setString(1, row.uuid.toString());
+          stmt.setString(2, row.name);
+          stmt.setLong(3, row.seenMillis);
+          stmt.addBatch();
+        }
+        stmt.executeBatch();
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
+    } catch (SQLException e) {
+      e.printStackTrace();
+      unwritten.addAll(batch);
+    }
+  }
+
+  /** A name waiting to be written. */
+  private static final class NameRow {
+    private final UUID uuid;
+    private final String name;
+    private final long seenMillis;
+
+    private NameRow(UUID uuid, String name, long seenMillis) {
+      this.uuid = uuid;
+      this.name = name;
+      this.seenMillis = seenMillis;
+    }
+  }
+}
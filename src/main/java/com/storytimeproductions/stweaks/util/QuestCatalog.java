@@ -0,0 +1,83 @@
+package com.storytimeproductions.stweaks.util;
+
+import com.storytimeproductions.models.Quest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of every quest defined in quests.yml.
+ *
+ * <p>A catalog is parsed in full before it is used and never changes afterwards, so a reload can
+ * build a new one off the main thread and swap it in with a single assignment. Each catalog has a
+ * version, which increases with every reload and lets a slow reload be discarded if a newer one has
+ * already been swapped in. Each catalog also carries a {@link QuestNameIndex} for looking quests up
+ * by name.
+ */
+public final class QuestCatalog {
+  /** The catalog in use before any quest has been loaded. */
+  public static final QuestCatalog EMPTY = new QuestCatalog(0, Collections.emptyMap());
+
+  private final long version;
+  private final Map<String, Quest> quests;
+  private final QuestNameIndex nameIndex;
+
+  /**
+   * Constructs a catalog.
+   *
+   * @param version the version of the catalog
+   * @param quests the quests by ID, in the order they are defined in quests.yml
+   */
+  public QuestCatalog(long version, Map<String, Quest> quests) {
+    this.version = version;
+    this.quests = Collections.unmodifiableMap(new LinkedHashMap<>(quests));
+    this.nameIndex = new QuestNameIndex(this.quests.values());
+  }
+
+  /**
+   * Gets the version of the catalog.
+   *
+   * @return the version
+   */
+  public long getVersion() {
+    return version;
+  }
+
+  /**
+   * Gets a quest by its ID.
+   *
+   * @param questId the ID of the quest
+   * @return the quest, or null if the catalog has no quest with that ID
+   */
+  public Quest getQuest(String questId) {
+    return quests.get(questId);
+  }
+
+  /**
+   * Gets every quest, in the order they are defined in quests.yml.
+   *
+   * @return an unmodifiable collection of quests
+   */
+  public Collection<Quest> getQuests() {
+    return quests.values();
+  }
+
+  /**
+   * Gets the fuzzy search index over the names and IDs of the quests in the catalog.
+   *
+   * @return the name index
+   */
+  public QuestNameIndex getNameIndex() {
+    return nameIndex;
+  }
+
+  /**
+   * Gets the number of quests in the catalog.
+   *
+   * @return the number of quests
+   */
+  public int size() {
+    return quests.size();
+  }
+}
@@ -0,0 +1,194 @@
+package com.storytimeproductions.stweaks.util;
+
+import com.storytimeproductions.models.Quest;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A fuzzy search index over quest names and IDs, built once per {@link QuestCatalog}.
+ *
+ * <p>Names and IDs are lower-cased and stored in a BK-tree keyed by Levenshtein distance. A match
+ * must be at least 80% similar to the query, which caps its distance at a quarter of the query's
+ * length, so a search only visits the branches of the tree within that distance instead of
+ * comparing the query against every quest. IDs are also kept sorted for prefix completion.
+ */
+public final class QuestNameIndex {
+  private static final double MIN_SIMILARITY = 0.8;
+
+  private final Node root;
+  private final int longestTerm;
+  private final String[] sortedIds;
+  private final String[] sortedIdsLower;
+
+  /**
+   * Builds an index over the given quests.
+   *
+   * @param quests the quests to index
+   */
+  public QuestNameIndex(Collection<Quest> quests) {
+    Node tree = null;
+    int longest = 0;
+    List<String> ids = new ArrayList<>();
+    for (Quest quest : quests) {
+      ids.add(quest.getId());
+      for (String term : new String[] {quest.getName(), quest.getId()}) {
+        String lower = term.toLowerCase(Locale.ROOT);
+        longest = Math.max(longest, lower.length());
+        if (tree == null) {
+          tree = new Node(lower);
+        }
+        tree.insert(lower, quest.getId());
+      }
+    }
+    root = tree;
+    longestTerm = longest;
+
+    ids.sort(String.CASE_INSENSITIVE_ORDER);
+    sortedIds = ids.toArray(new String[0]);
+    sortedIdsLower = new String[sortedIds.length];
+    for (int i = 0; i < sortedIds.length; i++) {
+      sortedIdsLower[i] = sortedIds[i].toLowerCase(Locale.ROOT);
+    }
+  }
+
+  /**
+   * Finds the quests whose name or ID is most similar to a query, ignoring case.
+   *
+   * @param query the text to search for
+   * @param limit the maximum number of quests to return
+   * @return the IDs of the matching quests, most similar first
+   */
+  public List<String> search(String query, int limit) {
+    if (root == null || limit <= 0) {
+      return new ArrayList<>();
+    }
+
+    String needle = query.toLowerCase(Locale.ROOT);
+    int radius = needle.length() / 4;
+    int[] costs = new int[longestTerm + 1];
+    Map<String, Double> scores = new LinkedHashMap<>();
+
+    Deque<Node> pending = new ArrayDeque<>();
+    pending.push(root);
+    while (!pending.isEmpty()) {
+      Node node = pending.pop();
+      int distance = levenshteinDistance(needle, node.term, costs);
+      if (distance <= radius) {
+        int maxLen = Math.max(needle.length(), node.term.length());
+        double score = maxLen == 0 ? 1.0 : (maxLen - distance) / (double) maxLen;
+        if (score >= MIN_SIMILARITY) {
+          for (String questId : node.questIds) {
+            scores.merge(questId, score, Math::max);
+          }
+        }
+      }
+      for (Map.Entry<Integer, Node> child : node.children.entrySet()) {
+        if (Math.abs(child.getKey() - distance) <= radius) {
+          pending.push(child.getValue());
+        }
+      }
+    }
+
+    List<Map.Entry<String, Double>> ranked = new ArrayList<>(scores.entrySet());
+    ranked.sort(
+        Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+            .thenComparing(Map.Entry.comparingByKey()));
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < ranked.size() && i < limit; i++) {
+      result.add(ranked.get(i).getKey());
+    }
+    return result;
+  }
+
+  /**
+   * Lists the quest IDs that start with a prefix, ignoring case, in alphabetical order.
+   *
+   * @param prefix the prefix typed so far
+   * @param limit the maximum number of IDs to return
+   * @return the matching quest IDs
+   */
+  public List<String> complete(String prefix, int limit) {
+    String lower = prefix.toLowerCase(Locale.ROOT);
+    int index = Arrays.binarySearch(sortedIdsLower, lower);
+    if (index < 0) {
+      index = -index - 1;
+    }
+
+    List<String> result = new ArrayList<>();
+    while (index < sortedIds.length
+        && result.size() < limit
+        && sortedIdsLower[index].startsWith(lower)) {
+      result.add(sortedIds[index]);
+      index++;
+    }
+    return result;
+  }
+
+  /**
+   * Computes the Levenshtein distance between two strings, using a caller-supplied row of costs at
+   * least one longer than {@code b}.
+   */
+  private static int levenshteinDistance(String a, String b, int[] costs) {
+    for (int j = 0; j <= b.length(); j++) {
+      costs[j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      costs[0] = i;
+      int nw = i - 1;
+      for (int j = 1; j <= b.length(); j++) {
+        int cj =
+            Math.min(
+                1 + Math.min(costs[j], costs[j - 1]),
+                a.charAt(i - 1) == b.charAt(j - 1) ? nw : nw + 1);
+        nw = costs[j];
+        costs[j] = cj;
+      }
+    }
+    return costs[b.length()];
+  }
+
+  /** A BK-tree node: a term, the quests it belongs to, and children keyed by distance. */
+  private static final class Node {
+    private final String term;
+    private final List<String> questIds = new ArrayList<>(1);
+    private final Map<Integer, Node> children = new HashMap<>();
+
+    private Node(String term) {
+      this.term = term;
+    }
+
+    private void insert(String newTerm, String questId) {
+      Node node = this;
+      int[] costs = new int[Math.max(newTerm.length(), 1) + 1];
+      while (true) {
+        if (node.term.equals(newTerm)) {
+          if (!node.questIds.contains(questId)) {
+            node.questIds.add(questId);
+          }
+          return;
+        }
+        if (costs.length <= node.term.length()) {
+          costs = new int[node.term.length() + 1];
+        }
+        int distance = levenshteinDistance(newTerm, node.term, costs);
+        Node child = node.children.get(distance);
+        if (child == null) {
+          child = new Node(newTerm);
+          child.questIds.add(questId);
+          node.children.put(distance, child);
+          return;
+        }
+        node = child;
+      }
+    }
+  }
+}
@@ -1,25 +1,42 @@
 package com.storytimeproductions.stweaks.util;
 
+import com.storytimeproductions.models.ItemRequirement;
 import com.storytimeproductions.models.Quest;
+import com.storytimeproductions.models.StatRequirement;
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.bukkit.Bukkit;
 import org.bukkit.Material;
-import org.bukkit.OfflinePlayer;
 import org.bukkit.Statistic;
 import org.bukkit.Statistic.Type;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -31,13 +48,42 @@ import org.bukkit.plugin.java.JavaPlugin;
 /**
  * Manages the lifecycle of quests, including loading from YAML, tracking completed quests per
  * player, and querying quest availability.
+ *
+ * <p>Completions are indexed both ways, player to quests and quest to players, and are read from
+ * the database once at startup. From then on memory is the source of truth: completing or unsetting
+ * a quest updates the index and queues the change for a background thread to write, so building a
+ * quest menu never touches the database. For quests with required players, the number of required
+ * players still to complete each one is kept up to date as completions happen.
+ *
+ * <p>Quest definitions are held in a {@link QuestCatalog}. quests.yml is parsed once at startup and
+ * then only when the file changes on disk or an admin reloads it. A reload parses the file on a
+ * background thread and swaps the new catalog in on the main thread in one step.
  */
 public class QuestsManager {
-  private final Map<String, Quest> allQuests = new HashMap<>();
+  private static final String QUESTS_FILE = "quests.yml";
+  private static final long QUESTS_FILE_SETTLE_MILLIS = 500;
+  private static final long RESOLVED_NAMES_RELOAD_DELAY_TICKS = 40L;
+  private static final String INSERT_SQL =
+      "INSERT OR IGNORE INTO completed_quests (uuid, quest_id) VALUES (?, ?)";
+  private static final String DELETE_SQL =
+      "DELETE FROM completed_quests WHERE uuid = ? AND quest_id = ?";
+
   private final Map<UUID, Set<String>> completedQuests = new HashMap<>();
+  private final Map<String, Set<UUID>> completedPlayers = new HashMap<>();
+  private final Map<String, Integer> requiredPlayersRemaining = new HashMap<>();
   private final DbManager dbManager;
   private final JavaPlugin plugin;
 
+  private QuestCatalog catalog = QuestCatalog.EMPTY;
+  private final AtomicLong catalogVersions = new AtomicLong();
+  private WatchService questFileWatcher;
+  private boolean resolvedNamesReloadQueued;
+
+  private final ConcurrentLinkedQueue<CompletionChange> unwritten = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean flushQueued = new AtomicBoolean(false);
+  private final ExecutorService writer;
+  private Connection connection;
+
   /**
    * Constructs a new QuestsManager with the given database manager and plugin instance.
    *
@@ -47,117 +93,150 @@ public class QuestsManager {
   public QuestsManager(DbManager dbManager, JavaPlugin plugin) {
     this.dbManager = dbManager;
     this.plugin = plugin;
+    this.writer =
+        Executors.newSingleThreadExecutor(
+            r -> {
+              Thread thread = new Thread(r, "Stweaks-QuestWriter");
+              thread.setDaemon(true);
+              return thread;
+            });
     loadCompletedQuestsFromDb();
     loadQuestsFromYaml();
+    watchQuestsFile();
   }
 
   /**
-   * Reloads all quests from the YAML file and refreshes the completed quests mapping from the
-   * database.
+   * Reloads all quests from the YAML file in the background. Completions are kept in memory, so
+   * they are not read from the database again. May be called from any thread.
    */
   public void reloadQuests() {
-    // Clear current quests
-    allQuests.clear();
-
-    // Reload from YAML
-    loadQuestsFromYaml();
+    reloadQuests(null);
+  }
 
-    // Reload from database
-    loadCompletedQuestsFromDb();
+  /**
+   * Reloads all quests from the YAML file in the background, then runs a callback on the main
+   * thread. Completions are kept in memory, so they are not read from the database again. May be
+   * called from any thread.
+   *
+   * @param whenLoaded run on the main thread once the quests are loaded, or null
+   */
+  public void reloadQuests(Runnable whenLoaded) {
+    long version = catalogVersions.incrementAndGet();
+    Bukkit.getScheduler()
+        .runTaskAsynchronously(
+            plugin,
+            () -> {
+              QuestCatalog loaded = parseQuestsFromYaml(version);
+              if (!plugin.isEnabled()) {
+                return;
+              }
+              Bukkit.getScheduler()
+                  .runTask(
+                      plugin,
+                      () -> {
+                        if (swapCatalog(loaded)) {
+                          plugin
+                              .getLogger()
+                              .info("Loaded " + loaded.size() + " quests from " + QUESTS_FILE);
+                        }
+                        if (whenLoaded != null) {
+                          whenLoaded.run();
+                        }
+                      });
+            });
   }
 
-  private double similarity(String s1, String s2) {
-    int maxLen = Math.max(s1.length(), s2.length());
-    if (maxLen == 0) {
-      return 1.0;
+  /**
+   * Reloads the quests shortly after a required player's name resolves. Names often resolve in a
+   * burst, e.g. right after startup, so they share a single reload. Runs on the main thread.
+   */
+  private void queueResolvedNamesReload() {
+    if (resolvedNamesReloadQueued) {
+      return;
     }
-    return (maxLen - levenshteinDistance(s1.toLowerCase(), s2.toLowerCase())) / (double) maxLen;
+    resolvedNamesReloadQueued = true;
+    Bukkit.getScheduler()
+        .runTaskLater(
+            plugin,
+            () -> {
+              resolvedNamesReloadQueued = false;
+              reloadQuests();
+            },
+            RESOLVED_NAMES_RELOAD_DELAY_TICKS);
+  }
+
+  /**
+   * Gets the quest catalog in use. Must be called from the main thread.
+   *
+   * @return the quest catalog
+   */
+  public QuestCatalog getCatalog() {
+    return catalog;
   }
 
-  private int levenshteinDistance(String s1, String s2) {
-    int[] costs = new int[s2.length() + 1];
-    for (int j = 0; j < costs.length; j++) {
-      costs[j] = j;
+  /**
+   * Stops the background writer and synchronously writes every queued completion change. Must be
+   * called from the main thread when the plugin is disabled.
+   */
+  public void shutdown() {
+    if (questFileWatcher != null) {
+      try {
+        questFileWatcher.close();
+      } catch (IOException e) {
+        e.printStackTrace();
+      }
     }
-    for (int i = 1; i <= s1.length(); i++) {
-      costs[0] = i;
-      int nw = i - 1;
-      for (int j = 1; j <= s2.length(); j++) {
-        int cj =
-            Math.min(
-                1 + Math.min(costs[j], costs[j - 1]),
-                s1.charAt(i - 1) == s2.charAt(j - 1) ? nw : nw + 1);
-        nw = costs[j];
-        costs[j] = cj;
+
+    writer.shutdown();
+    try {
+      if (!writer.awaitTermination(10, TimeUnit.SECONDS)) {
+        plugin.getLogger().warning("Quest writer did not finish in time, draining anyway.");
       }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    writeUnwritten();
+
+    if (connection != null) {
+      try {
+        connection.close();
+      } catch (SQLException e) {
+        e.printStackTrace();
+      }
+      connection = null;
     }
-    return costs[s2.length()];
   }
 
   /**
-   * Retrieves a quest by its name.
+   * Retrieves the quest whose name or ID best matches the given text. Matching ignores case and
+   * tolerates small typos.
    *
-   * @param name the name of the quest
-   * @return the Quest object corresponding to the given name, or null if not found
+   * @param name the name or ID of the quest
+   * @return the ID of the best matching quest, or null if no quest is close enough
    */
   public String getQuestByName(String name) {
-    double bestScore = 0.0;
-    String bestMatchId = null;
-
-    for (Quest quest : allQuests.values()) {
-      double score = similarity(quest.getName(), name);
-      if (score > bestScore && score >= 0.8) {
-        bestScore = score;
-        bestMatchId = quest.getId();
-      }
-    }
-
-    return bestMatchId;
+    List<String> matches = catalog.getNameIndex().search(name, 1);
+    return matches.isEmpty() ? null : matches.get(0);
   }
 
   /**
-   * Checks if the player has the required items for a specific quest.
+   * Checks if the player has the required items for a specific quest. The inventory is counted in a
+   * single pass and every requirement is checked against the totals.
    *
    * @param player the player to check
    * @param quest the quest to check against
    * @return true if the player has all required items, false otherwise
    */
   public boolean hasRequiredItems(Player player, Quest quest) {
-    Map<Material, Integer> itemRequirements = new HashMap<>();
-
-    for (String req : quest.getItemRequirements()) {
-      String[] parts = req.split(":");
-      if (parts.length < 3) {
-        Bukkit.getLogger().warning("Invalid item requirement format: " + req);
-        continue;
-      }
-
-      String namespacedKey = parts[0] + ":" + parts[1];
-      Material material = Material.matchMaterial(namespacedKey);
-      if (material == null) {
-        Bukkit.getLogger().warning("Unknown material: " + namespacedKey);
-        continue;
-      }
-
-      int amount;
-      try {
-        amount = Integer.parseInt(parts[2]);
-      } catch (NumberFormatException e) {
-        Bukkit.getLogger()
-            .warning("Invalid quantity for material " + namespacedKey + ": " + parts[2]);
-        continue;
-      }
-
-      itemRequirements.put(material, amount);
+    List<ItemRequirement> requirements = quest.getCompiledItemRequirements();
+    if (requirements.isEmpty()) {
+      return true;
     }
 
-    for (Map.Entry<Material, Integer> entry : itemRequirements.entrySet()) {
-      Material material = entry.getKey();
-      int requiredAmount = entry.getValue();
-
-      int playerAmount = countItems(player, material);
-
-      if (playerAmount < requiredAmount) {
+    Map<Material, Integer> counts = countItems(player);
+    for (ItemRequirement requirement : requirements) {
+      if (counts.getOrDefault(requirement.getMaterial(), 0) < requirement.getAmount()) {
         return false;
       }
     }
@@ -172,74 +251,28 @@ public class QuestsManager {
    * @return true if the player meets all stat requirements, false otherwise
    */
   public boolean hasRequiredStats(Player player, Quest quest) {
-    if (quest.getStatRequirements() == null) {
-      return true;
-    }
-
-    for (String req : quest.getStatRequirements()) {
-
-      String[] parts = req.split(":");
-      if (parts.length != 3) {
-        continue;
-      }
-
-      String statName = parts[0];
-      String key = parts[1]; // Might be empty
-      int requiredAmount;
-
-      try {
-        requiredAmount = Integer.parseInt(parts[2]);
-      } catch (NumberFormatException e) {
-        continue;
-      }
-
-      Statistic statistic;
-      try {
-        statistic = Statistic.valueOf(statName.toUpperCase());
-      } catch (IllegalArgumentException e) {
-        Bukkit.getLogger().warning("Unknown statistic: " + statName);
-        continue;
-      }
-
-      int currentStat;
-
-      // Handle typed statistics
-      if (statistic.getType() == Type.UNTYPED) {
-        currentStat = player.getStatistic(statistic);
-      } else if (statistic.getType() == Type.BLOCK || statistic.getType() == Type.ITEM) {
-        Material material = Material.matchMaterial(key);
-        if (material == null) {
-          Bukkit.getLogger().warning("Invalid material for stat " + statistic + ": " + key);
-          continue;
-        }
-        currentStat = player.getStatistic(statistic, material);
-      } else if (statistic.getType() == Type.ENTITY) {
-        EntityType entityType;
-        try {
-          entityType = EntityType.valueOf(key.toUpperCase().replace("MINECRAFT:", ""));
-        } catch (IllegalArgumentException e) {
-          Bukkit.getLogger().warning("Invalid entity type for stat " + statistic + ": " + key);
-          continue;
-        }
-        currentStat = player.getStatistic(statistic, entityType);
-      } else {
-        Bukkit.getLogger().warning("Unsupported stat type: " + statistic);
-        continue;
-      }
-
-      if (currentStat < requiredAmount) {
+    for (StatRequirement requirement : quest.getCompiledStatRequirements()) {
+      if (!requirement.isMetBy(player)) {
         return false;
       }
     }
-
     return true;
   }
 
-  private int countItems(Player player, Material material) {
-    return Arrays.stream(player.getInventory().getContents())
-        .filter(item -> item != null && item.getType() == material)
-        .mapToInt(ItemStack::getAmount)
-        .sum();
+  /**
+   * Counts every item in the player's inventory by material.
+   *
+   * @param player the player whose inventory to count
+   * @return the number of items of each material the player has
+   */
+  public Map<Material, Integer> countItems(Player player) {
+    Map<Material, Integer> counts = new EnumMap<>(Material.class);
+    for (ItemStack item : player.getInventory().getContents()) {
+      if (item != null) {
+        counts.merge(item.getType(), item.getAmount(), Integer::sum);
+      }
+    }
+    return counts;
   }
 
   /**
@@ -347,33 +380,23 @@ public class QuestsManager {
   }
 
   /**
-   * Unsets the completion status of a quest for a specific player, both in memory and in the
-   * database.
+   * Unsets the completion status of a quest for a specific player. The change is made in memory
+   * immediately and written to the database in the background.
    *
    * @param playerUuid the UUID of the player
    * @param questId the ID of the quest to unset completion for
    */
   public void unsetQuestCompletion(UUID playerUuid, String questId) {
-    // Remove the quest from the player's completed quest list
-    Set<String> playerCompletedQuests = completedQuests.get(playerUuid);
-    if (playerCompletedQuests != null) {
-      playerCompletedQuests.remove(questId);
-      // If the player has no more completed quests, remove their entry from the map
-      if (playerCompletedQuests.isEmpty()) {
-        completedQuests.remove(playerUuid);
+    if (removeCompletion(playerUuid, questId)) {
+      Quest quest = catalog.getQuest(questId);
+      if (quest != null && quest.getRequiredPlayers().contains(playerUuid)) {
+        requiredPlayersRemaining.merge(questId, 1, Integer::sum);
       }
     }
 
-    // Remove the completion from the database
-    String sql = "DELETE FROM completed_quests WHERE uuid = ? AND quest_id = ?";
-    try (Connection conn = dbManager.getConnection();
-        PreparedStatement stmt = conn.prepareStatement(sql)) {
-      stmt.setString(1, playerUuid.toString());
-      stmt.setString(2, questId);
-      stmt.executeUpdate();
-    } catch (SQLException e) {
-      e.printStackTrace();
-    }
+    // Queue the delete even if memory had no row, so a stale row in the database is still removed
+    unwritten.add(new CompletionChange(playerUuid, questId, false));
+    queueFlush();
   }
 
   /**
@@ -383,10 +406,29 @@ public class QuestsManager {
    * @return a list of UUIDs representing players who have completed the quest
    */
   public List<UUID> getCompletedPlayers(Quest quest) {
-    return completedQuests.entrySet().stream()
-        .filter(entry -> entry.getValue().contains(quest.getId()))
-        .map(Map.Entry::getKey)
-        .collect(Collectors.toList());
+    return new ArrayList<>(completedPlayers.getOrDefault(quest.getId(), Collections.emptySet()));
+  }
+
+  /**
+   * Returns the number of players who have completed a specific quest.
+   *
+   * @param questId the ID of the quest
+   * @return the number of players who have completed the quest
+   */
+  public int getCompletionCount(String questId) {
+    Set<UUID> players = completedPlayers.get(questId);
+    return players != null ? players.size() : 0;
+  }
+
+  /**
+   * Checks if every required player of a quest has completed it. Quests without required players
+   * have nobody to wait on, so they are always considered done.
+   *
+   * @param questId the ID of the quest
+   * @return true if no required player still has to complete the quest, false otherwise
+   */
+  public boolean areRequiredPlayersDone(String questId) {
+    return requiredPlayersRemaining.getOrDefault(questId, 0) == 0;
   }
 
   /**
@@ -397,7 +439,7 @@ public class QuestsManager {
    */
   public int getOpenQuestCount(UUID playerUuid) {
     List<String> displayable = getDisplayableQuestIdsFor(playerUuid);
-    Set<String> completed = completedQuests.getOrDefault(playerUuid, new HashSet<>());
+    Set<String> completed = completedQuests.getOrDefault(playerUuid, Collections.emptySet());
     return (int) displayable.stream().filter(id -> !completed.contains(id)).count();
   }
 
@@ -408,7 +450,8 @@ public class QuestsManager {
    * @return the number of completed quests
    */
   public int getCompletedQuestCount(UUID playerUuid) {
-    return completedQuests.getOrDefault(playerUuid, new HashSet<>()).size();
+    Set<String> completed = completedQuests.get(playerUuid);
+    return completed != null ? completed.size() : 0;
   }
 
   /**
@@ -420,13 +463,12 @@ public class QuestsManager {
    */
   public List<String> getDisplayableQuestIdsFor(UUID playerUuid) {
     List<String> displayable = new ArrayList<>();
-    for (Map.Entry<String, Quest> entry : allQuests.entrySet()) {
-      Quest quest = entry.getValue();
+    for (Quest quest : catalog.getQuests()) {
       List<UUID> requiredPlayers = quest.getRequiredPlayers();
       if (requiredPlayers == null
           || requiredPlayers.isEmpty()
           || requiredPlayers.contains(playerUuid)) {
-        displayable.add(entry.getKey());
+        displayable.add(quest.getId());
       }
     }
     return displayable;
@@ -439,7 +481,7 @@ public class QuestsManager {
    * @return the Quest object corresponding to the given ID, or null if not found
    */
   public Quest getQuestById(String questId) {
-    return allQuests.get(questId); // Assuming questDatabase is a Map<String, Quest>
+    return catalog.getQuest(questId);
   }
 
   /**
@@ -451,7 +493,7 @@ public class QuestsManager {
    * @return true if the quest is completed (globally or individually), false otherwise
    */
   public boolean isQuestCompleted(UUID playerId, String questId) {
-    Quest quest = allQuests.get(questId);
+    Quest quest = catalog.getQuest(questId);
     if (quest == null) {
       return false;
     }
@@ -465,12 +507,35 @@ public class QuestsManager {
   }
 
   /**
-   * Loads all quest definitions from the quests.yml configuration file. Existing quest definitions
-   * are cleared before loading.
+   * Loads all quest definitions from the quests.yml configuration file on the calling thread and
+   * replaces the existing ones. Must be called from the main thread.
    */
   public void loadQuestsFromYaml() {
-    allQuests.clear();
-    File file = new File(plugin.getDataFolder(), "quests.yml");
+    swapCatalog(parseQuestsFromYaml(catalogVersions.incrementAndGet()));
+  }
+
+  /**
+   * Swaps in a newly parsed catalog, unless a newer one is already in use. Must be called from the
+   * main thread.
+   *
+   * @return true if the catalog was swapped in
+   */
+  private boolean swapCatalog(QuestCatalog loaded) {
+    if (loaded.getVersion() <= catalog.getVersion()) {
+      return false;
+    }
+    catalog = loaded;
+    rebuildRequiredPlayersRemaining();
+    return true;
+  }
+
+  /**
+   * Parses the quests.yml configuration file into a new catalog. Quests that fail to parse are
+   * logged and left out. Touches no state of this manager, so it may run on any thread.
+   */
+  private QuestCatalog parseQuestsFromYaml(long version) {
+    Map<String, Quest> quests = new LinkedHashMap<>();
+    File file = new File(plugin.getDataFolder(), QUESTS_FILE);
 
     if (!file.exists()) {
       plugin.getLogger().warning("quests.yml not found. Creating default file...");
@@ -483,7 +548,7 @@ public class QuestsManager {
         plugin.saveResource("quests.yml", false);
       } catch (IllegalArgumentException e) {
         plugin.getLogger().severe("Failed to create default quests.yml: " + e.getMessage());
-        return;
+        return new QuestCatalog(version, quests);
       }
     }
 
@@ -511,21 +576,35 @@ public class QuestsManager {
 
         List<UUID> requiredPlayers = new ArrayList<>();
         List<String> requiredPlayerStrings = config.getStringList(questId + ".requiredPlayers");
+        List<String> unresolvedPlayers = new ArrayList<>();
 
         for (String username : requiredPlayerStrings) {
-          OfflinePlayer offlinePlayer = Bukkit.getOfflinePlayer(username);
-          if (offlinePlayer.hasPlayedBefore() || offlinePlayer.isOnline()) {
-            requiredPlayers.add(offlinePlayer.getUniqueId());
+          UUID uuid = PlayerNameCache.getUuid(username);
+          if (uuid != null) {
+            requiredPlayers.add(uuid);
           } else {
-            plugin
-                .getLogger()
-                .warning("Unknown or never-seen player in quest " + questId + ": " + username);
+            unresolvedPlayers.add(username);
+            // Resolve the name in the background and reload once it is known
+            PlayerNameCache.lookupAsync(username, this::queueResolvedNamesReload);
           }
         }
+        // Without all its players the quest would look open to everyone, so hold it back until
+        // every name resolves
+        if (!unresolvedPlayers.isEmpty()) {
+          plugin
+              .getLogger()
+              .warning(
+                  "Hiding quest "
+                      + questId
+                      + " until its required players are known: "
+                      + String.join(", ", unresolvedPlayers));
+          continue;
+        }
 
         // Validate item requirements
         List<String> itemRequirements = config.getStringList(questId + ".itemRequirements");
         List<String> validItemRequirements = new ArrayList<>();
+        Map<Material, Integer> itemAmounts = new LinkedHashMap<>();
         for (String req : itemRequirements) {
           String[] parts = req.split(":");
           if (parts.length < 3) {
@@ -549,7 +628,7 @@ public class QuestsManager {
           }
 
           try {
-            Integer.parseInt(parts[2]); // Validate the amount
+            itemAmounts.put(material, Integer.parseInt(parts[2]));
           } catch (NumberFormatException e) {
             plugin
                 .getLogger()
@@ -559,10 +638,15 @@ public class QuestsManager {
 
           validItemRequirements.add(req);
         }
+        List<ItemRequirement> compiledItemRequirements = new ArrayList<>();
+        itemAmounts.forEach(
+            (material, amount) ->
+                compiledItemRequirements.add(new ItemRequirement(material, amount)));
 
         // Validate stat requirements
         List<String> statRequirements = config.getStringList(questId + ".statRequirements");
         List<String> validStatRequirements = new ArrayList<>();
+        List<StatRequirement> compiledStatRequirements = new ArrayList<>();
         for (String req : statRequirements) {
           String[] parts = req.split(":");
           if (parts.length != 3) {
@@ -573,8 +657,9 @@ public class QuestsManager {
           }
 
           String statName = parts[0];
+          Statistic statistic;
           try {
-            Statistic.valueOf(statName.toUpperCase()); // Validate the statistic
+            statistic = Statistic.valueOf(statName.toUpperCase());
           } catch (IllegalArgumentException e) {
             plugin
                 .getLogger()
@@ -583,8 +668,39 @@ public class QuestsManager {
             throw new IllegalArgumentException("Unknown statistic in stat requirement.");
           }
 
+          String key = parts[1]; // Might be empty
+          Material material = null;
+          EntityType entityType = null;
+          if (statistic.getType() == Type.BLOCK || statistic.getType() == Type.ITEM) {
+            material = Material.matchMaterial(key);
+            if (material == null) {
+              plugin
+                  .getLogger()
+                  .warning(
+                      "Invalid material in stat requirement for quest " + questId + ": " + req);
+              throw new IllegalArgumentException("Invalid material in stat requirement.");
+            }
+          } else if (statistic.getType() == Type.ENTITY) {
+            try {
+              entityType = EntityType.valueOf(key.toUpperCase().replace("MINECRAFT:", ""));
+            } catch (IllegalArgumentException e) {
+              plugin
+                  .getLogger()
+                  .warning(
+                      "Invalid entity type in stat requirement for quest " + questId + ": " + req);
+              throw new IllegalArgumentException("Invalid entity type in stat requirement.");
+            }
+          } else if (statistic.getType() != Type.UNTYPED) {
+            plugin
+                .getLogger()
+                .warning(
+                    "Unsupported statistic in stat requirement for quest " + questId + ": " + req);
+            throw new IllegalArgumentException("Unsupported statistic in stat requirement.");
+          }
+
+          int requiredAmount;
           try {
-            Integer.parseInt(parts[2]); // Validate the required amount
+            requiredAmount = Integer.parseInt(parts[2]);
           } catch (NumberFormatException e) {
             plugin
                 .getLogger()
@@ -593,6 +709,8 @@ public class QuestsManager {
           }
 
           validStatRequirements.add(req);
+          compiledStatRequirements.add(
+              new StatRequirement(statistic, material, entityType, requiredAmount));
         }
 
         List<String> rewards = config.getStringList(questId + ".rewards");
@@ -660,24 +778,96 @@ public class QuestsManager {
                 lore,
                 validItemRequirements,
                 validStatRequirements,
+                compiledItemRequirements,
+                compiledStatRequirements,
                 validRewards,
                 requiredPlayers,
                 deadline,
                 icon);
-        allQuests.put(questId, quest);
+        quests.put(questId, quest);
       } catch (Exception e) {
         plugin.getLogger().severe("Failed to load quest '" + questId + "': " + e.getMessage());
         continue;
       }
     }
+
+    return new QuestCatalog(version, quests);
   }
 
   /**
-   * Loads the mapping of players to completed quests from the database. This populates the {@code
-   * completedQuests} map.
+   * Starts a background thread that reloads the quests whenever quests.yml changes on disk, e.g.
+   * when an admin edits it.
+   */
+  private void watchQuestsFile() {
+    Path folder = plugin.getDataFolder().toPath();
+    try {
+      questFileWatcher = folder.getFileSystem().newWatchService();
+      folder.register(
+          questFileWatcher,
+          StandardWatchEventKinds.ENTRY_CREATE,
+          StandardWatchEventKinds.ENTRY_MODIFY);
+    } catch (IOException e) {
+      e.printStackTrace();
+      return;
+    }
+
+    Thread thread = new Thread(this::awaitQuestsFileChanges, "Stweaks-QuestWatcher");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Waits for changes to quests.yml until the watcher is closed. Runs on the watcher thread. */
+  private void awaitQuestsFileChanges() {
+    try {
+      while (true) {
+        if (!touchesQuestsFile(questFileWatcher.take())) {
+          continue;
+        }
+
+        // Editors often save a file in several writes, so wait until quests.yml has been quiet for
+        // a while before reloading. Other files in the data folder, such as the database and its
+        // journal, change all the time and must not keep the wait going.
+        long settleNanos = TimeUnit.MILLISECONDS.toNanos(QUESTS_FILE_SETTLE_MILLIS);
+        long deadline = System.nanoTime() + settleNanos;
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+          WatchKey more = questFileWatcher.poll(remaining, TimeUnit.NANOSECONDS);
+          if (more != null && touchesQuestsFile(more)) {
+            deadline = System.nanoTime() + settleNanos;
+          }
+        }
+        if (plugin.isEnabled()) {
+          reloadQuests();
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // The plugin is shutting down
+      return;
+    }
+  }
+
+  /** Drains a watch key and resets it, returning whether any of its events were for quests.yml. */
+  private static boolean touchesQuestsFile(WatchKey key) {
+    boolean touched = false;
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (QUESTS_FILE.equals(String.valueOf(event.context()))) {
+        touched = true;
+      }
+    }
+    key.reset();
+    return touched;
+  }
+
+  /**
+   * Loads every completion from the database into the completion index, replacing what is in
+   * memory. Completion changes still waiting to be written are written first, so none are lost.
    */
   public void loadCompletedQuestsFromDb() {
+    writeUnwritten();
     completedQuests.clear();
+    completedPlayers.clear();
     String sql = "SELECT uuid, quest_id FROM completed_quests";
 
     try (Connection conn = dbManager.getConnection();
@@ -687,11 +877,13 @@ public class QuestsManager {
       while (rs.next()) {
         UUID uuid = UUID.fromString(rs.getString("uuid"));
         String questId = rs.getString("quest_id");
-        completedQuests.computeIfAbsent(uuid, k -> new HashSet<>()).add(questId);
+        addCompletion(uuid, questId);
       }
     } catch (SQLException e) {
       e.printStackTrace();
     }
+
+    rebuildRequiredPlayersRemaining();
   }
 
   /**
@@ -702,7 +894,7 @@ public class QuestsManager {
    * @return a list of quests available for the player to complete
    */
   public List<Quest> getAvailableQuestsFor(UUID playerUuid) {
-    return allQuests.values().stream()
+    return catalog.getQuests().stream()
         .filter(
             q -> q.getRequiredPlayers().isEmpty() || q.getRequiredPlayers().contains(playerUuid))
         .filter(
@@ -714,24 +906,156 @@ public class QuestsManager {
   }
 
   /**
-   * Marks a quest as completed for a given player and persists the change in the database.
+   * Marks a quest as completed for a given player. The change is made in memory immediately and
+   * written to the database in the background.
    *
    * @param playerUuid the UUID of the player
    * @param questId the ID of the completed quest
    */
   public void markQuestCompleted(UUID playerUuid, String questId) {
-    completedQuests.computeIfAbsent(playerUuid, k -> new HashSet<>()).add(questId);
-
-    try (PreparedStatement stmt =
-        dbManager
-            .getConnection()
-            .prepareStatement(
-                "INSERT OR IGNORE INTO completed_quests (uuid, quest_id) VALUES (?, ?)")) {
-      stmt.setString(1, playerUuid.toString());
-      stmt.setString(2, questId);
-      stmt.executeUpdate();
+    if (!addCompletion(playerUuid, questId)) {
+      return;
+    }
+
+    Quest quest = catalog.getQuest(questId);
+    if (quest != null && quest.getRequiredPlayers().contains(playerUuid)) {
+      requiredPlayersRemaining.merge(questId, -1, Integer::sum);
+    }
+
+    unwritten.add(new CompletionChange(playerUuid, questId, true));
+    queueFlush();
+  }
+
+  /**
+   * Adds a completion to both directions of the index.
+   *
+   * @return true if the player had not completed the quest yet
+   */
+  private boolean addCompletion(UUID playerUuid, String questId) {
+    if (!completedQuests.computeIfAbsent(playerUuid, k -> new HashSet<>()).add(questId)) {
+      return false;
+    }
+    completedPlayers.computeIfAbsent(questId, k -> new LinkedHashSet<>()).add(playerUuid);
+    return true;
+  }
+
+  /**
+   * Removes a completion from both directions of the index.
+   *
+   * @return true if the player had completed the quest
+   */
+  private boolean removeCompletion(UUID playerUuid, String questId) {
+    Set<String> quests = completedQuests.get(playerUuid);
+    if (quests == null || !quests.remove(questId)) {
+      return false;
+    }
+    // If the player has no more completed quests, remove their entry from the map
+    if (quests.isEmpty()) {
+      completedQuests.remove(playerUuid);
+    }
+    Set<UUID> players = completedPlayers.get(questId);
+    if (players != null) {
+      players.remove(playerUuid);
+      if (players.isEmpty()) {
+        completedPlayers.remove(questId);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Recounts, for every quest with required players, how many of them have not completed it yet.
+   * Called whenever the quests or the completions are loaded.
+   */
+  private void rebuildRequiredPlayersRemaining() {
+    requiredPlayersRemaining.clear();
+    for (Quest quest : catalog.getQuests()) {
+      if (quest.getRequiredPlayers().isEmpty()) {
+        continue;
+      }
+      Set<UUID> done = completedPlayers.getOrDefault(quest.getId(), Collections.emptySet());
+      int remaining = 0;
+      for (UUID uuid : new HashSet<>(quest.getRequiredPlayers())) {
+        if (!done.contains(uuid)) {
+          remaining++;
+        }
+      }
+      requiredPlayersRemaining.put(quest.getId(), remaining);
+    }
+  }
+
+  /** Asks the background writer to write queued changes, unless it has already been asked. */
+  private void queueFlush() {
+    if (!flushQueued.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      writer.execute(
+          () -> {
+            flushQueued.set(false);
+            writeUnwritten();
+          });
+    } catch (RejectedExecutionException e) {
+      // Shutting down; shutdown() writes whatever is left
+      flushQueued.set(false);
+    }
+  }
+
+  /**
+   * Writes every queued completion change, in the order they were made, in a single transaction,
+   * requeueing them on failure.
+   */
+  private synchronized void writeUnwritten() {
+    List<CompletionChange> batch = new ArrayList<>();
+    CompletionChange next;
+    while ((next = unwritten.poll()) != null) {
+      batch.add(next);
+    }
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (connection == null || connection.isClosed()) {
+        connection = dbManager.openConnection();
+      }
+      connection.setAutoCommit(false);
+      try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL);
+          PreparedStatement delete = connection.prepareStatement(DELETE_SQL)) {
+        for (CompletionChange change : batch) {
+          PreparedStatement stmt = change.completed ? insert : delete;
+          stmt.setString(1, change.uuid.toString());
+          stmt.setString(2, change.questId);
+          stmt.executeUpdate();
+        }
+        connection.commit();
+      } catch (SQLException e) {
+        connection.rollback();
+        throw e;
+      } finally {
+        connection.setAutoCommit(true);
+      }
     } catch (SQLException e) {
       e.printStackTrace();
+      // Put the batch back ahead of anything queued since, so changes stay in order
+      List<CompletionChange> retry = new ArrayList<>(batch);
+      while ((next = unwritten.poll()) != null) {
+        retry.add(next);
+      }
+      unwritten.addAll(retry);
+    }
+  }
+
+  /** A completion or un-completion waiting to be written. */
+  private static final class CompletionChange {
+    private final UUID uuid;
+    private final String questId;
+    private final boolean completed;
+
+    private CompletionChange(UUID uuid, String questId, boolean completed) {
+      this.uuid = uuid;
+      this.questId = questId;
+      this.completed = completed;
     }
   }
 }
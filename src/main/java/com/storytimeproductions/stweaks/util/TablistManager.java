@@ -5,73 +5,97 @@ import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.title.Title;
+import org.bukkit.Bukkit;
+import org.bukkit.block.Biome;
 import org.bukkit.entity.Player;
 
 /**
- * Utility class responsible for updating the tab list header and footer for players on the server.
+ * Utility class responsible for building the tab list header and footer for players on the server.
  * The header typically displays the server name, while the footer can be used to show dynamic
- * information like the current multiplier or other server stats.
+ * information like the current multiplier or other server stats. The {@link HudRenderer} decides
+ * when they need to be sent.
  *
  * <p>Uses the Adventure API for styled text formatting.
  */
 public class TablistManager {
 
+  /** The tab list header, which displays the server name and never changes. */
+  public static final Component HEADER =
+      // CHECKSTYLE:OFF: AvoidEscapedUnicodeCharacters
+      Component.text(" \uA000   ")
+          // CHECKSTYLE:ON: AvoidEscapedUnicodeCharacters
+          .append(Component.newline())
+          .append(Component.newline())
+          .append(Component.newline())
+          .append(Component.newline())
+          .append(Component.newline());
+
   /**
-   * Updates the tab list for the given player with a custom header and footer.
+   * Builds the tab list footer.
    *
-   * <p>The header displays the server name with styling. The footer displays the current playtime
-   * multiplier, which may change depending on server events, days of the week, or other conditions.
+   * <p>The footer displays the current playtime multiplier, which may change depending on server
+   * events, days of the week, or other conditions, along with the player's coordinates, biome and
+   * the server TPS.
    *
-   * @param player the player whose tab list should be updated
-   * @param multiplier the current playtime multiplier to display in the tab footer
+   * @param multiplier the current playtime multiplier
+   * @param x the player's block X coordinate
+   * @param y the player's block Y coordinate
+   * @param z the player's block Z coordinate
+   * @param biomeName the display name of the player's biome
+   * @param tpsHundredths the server TPS in hundredths, capped at 2000
+   * @return the footer component
    */
-  public static void updateTablist(Player player, double multiplier) {
-    // Header remains unchanged
-    Component header =
-        // CHECKSTYLE:OFF: AvoidEscapedUnicodeCharacters
-        Component.text(" \uA000   ")
-            // CHECKSTYLE:ON: AvoidEscapedUnicodeCharacters
-            .append(Component.newline())
-            .append(Component.newline())
-            .append(Component.newline())
-            .append(Component.newline())
-            .append(Component.newline());
-
-    // Player coordinates
-    int x = player.getLocation().getBlockX();
-    int y = player.getLocation().getBlockY();
-    int z = player.getLocation().getBlockZ();
-
-    // Biome name
-    String biomeName =
-        player.getWorld().getName().equalsIgnoreCase("lobby")
-            ? "Bababooey"
-            : BiomeTrackerManager.formatBiomeName(
-                player.getLocation().getBlock().getBiome().getKey().toString());
+  public static Component buildFooter(
+      double multiplier, int x, int y, int z, String biomeName, int tpsHundredths) {
+    return Component.newline()
+        .append(
+            Component.text("Timer Multiplier: ", NamedTextColor.GOLD)
+                .append(Component.text("x" + multiplier, NamedTextColor.GREEN)))
+        .append(Component.newline())
+        .append(
+            Component.text("Coords: ", NamedTextColor.GOLD)
+                .append(Component.text(x + ", " + y + ", " + z, NamedTextColor.WHITE)))
+        .append(Component.newline())
+        .append(
+            Component.text("Biome: ", NamedTextColor.GOLD)
+                .append(Component.text(biomeName, NamedTextColor.WHITE)))
+        .append(Component.newline())
+        .append(
+            Component.text("Server TPS: ", NamedTextColor.GOLD)
+                .append(Component.text(formatTps(tpsHundredths), NamedTextColor.WHITE)));
+  }
 
-    // TPS (retrieved via Bukkit server performance metrics)
-    double[] recentTps = org.bukkit.Bukkit.getServer().getTPS();
-    double tps = Math.min(recentTps[0], 20.0); // Limit to max 20.0 for display
+  /**
+   * Gets the biome name to display in the footer for a player.
+   *
+   * @param player the player whose biome is displayed
+   * @param biome the biome the player is standing in
+   * @return the biome display name
+   */
+  public static String getBiomeName(Player player, Biome biome) {
+    if (player.getWorld().getName().equalsIgnoreCase("lobby")) {
+      return "Bababooey";
+    }
+    BiomeCatalog catalog = BiomeCatalog.getCurrent();
+    return catalog != null
+        ? catalog.getDisplayName(biome)
+        : BiomeTrackerManager.formatBiomeName(biome.getKey().toString());
+  }
 
-    Component footer =
-        Component.newline()
-            .append(
-                Component.text("Timer Multiplier: ", NamedTextColor.GOLD)
-                    .append(Component.text("x" + multiplier, NamedTextColor.GREEN)))
-            .append(Component.newline())
-            .append(
-                Component.text("Coords: ", NamedTextColor.GOLD)
-                    .append(Component.text(x + ", " + y + ", " + z, NamedTextColor.WHITE)))
-            .append(Component.newline())
-            .append(
-                Component.text("Biome: ", NamedTextColor.GOLD)
-                    .append(Component.text(biomeName, NamedTextColor.WHITE)))
-            .append(Component.newline())
-            .append(
-                Component.text("Server TPS: ", NamedTextColor.GOLD)
-                    .append(Component.text(String.format("%.2f", tps), NamedTextColor.WHITE)));
+  /**
+   * Gets the server TPS in hundredths, limited to a maximum of 20.00 for display.
+   *
+   * @return the current TPS in hundredths
+   */
+  public static int getTpsHundredths() {
+    double[] recentTps = Bukkit.getServer().getTPS();
+    return (int) Math.round(Math.min(recentTps[0], 20.0) * 100);
+  }
 
-    player.sendPlayerListHeaderAndFooter(header, footer);
+  /** Formats a TPS value in hundredths with two decimal places, without going through format. */
+  private static String formatTps(int tpsHundredths) {
+    int fraction = tpsHundredths % 100;
+    return (tpsHundredths / 100) + (fraction < 10 ? ".0" : ".") + fraction;
   }
 
   /**
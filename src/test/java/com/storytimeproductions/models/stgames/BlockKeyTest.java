@@ -0,0 +1,47 @@
+package com.storytimeproductions.models.stgames;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.bukkit.Location;
+import org.junit.jupiter.api.Test;
+
+/** Tests for BlockKey. */
+public class BlockKeyTest {
+
+  @Test
+  public void packRoundTrips() {
+    int[][] positions = {
+      {0, 0, 0}, {-1, -64, -1}, {29_999_999, 319, -29_999_999}, {-30_000_000, -2048, 123}
+    };
+    for (int[] pos : positions) {
+      long key = BlockKey.pack(pos[0], pos[1], pos[2]);
+      assertEquals(pos[0], BlockKey.unpackX(key));
+      assertEquals(pos[1], BlockKey.unpackY(key));
+      assertEquals(pos[2], BlockKey.unpackZ(key));
+    }
+  }
+
+  @Test
+  public void neighbouringPositionsGiveDistinctKeys() {
+    Set<Long> keys = new HashSet<>();
+    for (int x = -2; x <= 2; x++) {
+      for (int y = -2; y <= 2; y++) {
+        for (int z = -2; z <= 2; z++) {
+          keys.add(BlockKey.pack(x, y, z));
+        }
+      }
+    }
+    assertEquals(125, keys.size());
+    assertNotEquals(BlockKey.pack(1, 0, 0), BlockKey.pack(0, 0, 1));
+    assertNotEquals(BlockKey.pack(0, 1, 0), BlockKey.pack(0, 0, 1));
+  }
+
+  @Test
+  public void locationPacksTheBlockItIsIn() {
+    assertEquals(BlockKey.pack(10, 64, -4), BlockKey.pack(new Location(null, 10.7, 64.2, -3.5)));
+    assertEquals(BlockKey.pack(-1, -1, -1), BlockKey.pack(new Location(null, -0.1, -0.9, -0.5)));
+  }
+}
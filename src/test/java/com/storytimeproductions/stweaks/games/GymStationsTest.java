@@ -0,0 +1,257 @@
+package com.storytimeproductions.stweaks.games;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.storytimeproductions.models.stgames.BlockKey;
+import com.storytimeproductions.models.stgames.Cuboid;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Tests for GymStations, built from station regions written the way the gym's game properties write
+ * them, plus a benchmark of the station index against the geometry scan it replaced.
+ */
+public class GymStationsTest {
+  private static final World WORLD = fakeWorld();
+  private static final World OTHER_WORLD = fakeWorld();
+
+  @Test
+  public void punchingBagCoversEveryBlockOfItsRegion() {
+    GymStations stations = new GymStations();
+    Cuboid bag = region("world,12,66,-3,11,64,-4");
+    Location base = new Location(WORLD, 11, 64, -4);
+    stations.addPunchingBag(bag, base);
+
+    for (int x = 11; x <= 12; x++) {
+      for (int y = 64; y <= 66; y++) {
+        for (int z = -4; z <= -3; z++) {
+          GymStations.Station station = stations.get(new Location(WORLD, x, y, z));
+          assertNotNull(station, x + "," + y + "," + z);
+          assertSame(base, station.punchingBag);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void punchingBagMissesJustOutsideItsRegion() {
+    GymStations stations = new GymStations();
+    stations.addPunchingBag(region("world,12,66,-3,11,64,-4"), new Location(WORLD, 11, 64, -4));
+
+    // Fractional positions inside the edge blocks hit, including negative coordinates
+    assertNotNull(stations.get(new Location(WORLD, 12.999, 66.999, -3.001)));
+    assertNotNull(stations.get(new Location(WORLD, 11.0, 64.0, -4.0)));
+
+    assertNull(stations.get(new Location(WORLD, 10.999, 65, -3.5)));
+    assertNull(stations.get(new Location(WORLD, 13.0, 65, -3.5)));
+    assertNull(stations.get(new Location(WORLD, 11.5, 63.999, -3.5)));
+    assertNull(stations.get(new Location(WORLD, 11.5, 67.0, -3.5)));
+    assertNull(stations.get(new Location(WORLD, 11.5, 65, -4.001)));
+    assertNull(stations.get(new Location(WORLD, 11.5, 65, -2.0)));
+  }
+
+  @Test
+  public void overlappingPunchingBagsKeepTheFirst() {
+    GymStations stations = new GymStations();
+    Location first = new Location(WORLD, 0, 64, 0);
+    Location second = new Location(WORLD, 1, 64, 0);
+    stations.addPunchingBag(region("world,0,64,0,1,65,0"), first);
+    stations.addPunchingBag(region("world,1,64,0,2,65,0"), second);
+
+    assertSame(first, stations.get(new Location(WORLD, 1, 64, 0)).punchingBag);
+    assertSame(second, stations.get(new Location(WORLD, 2, 64, 0)).punchingBag);
+  }
+
+  @Test
+  public void treadmillIsFoundOnlyAtItsFront() {
+    GymStations stations = new GymStations();
+    stations.addTreadmill(3, region("world,21,64,0,20,64,0"), new Location(WORLD, 21, 64, 0));
+
+    GymStations.Station front = stations.get(new Location(WORLD, 21.2, 64.0, 0.8));
+    assertNotNull(front);
+    assertEquals(3, front.treadmill);
+    assertEquals(BlockKey.pack(20, 64, 0), front.treadmillBack);
+    assertEquals(20.5, front.treadmillReturn.getX());
+    assertEquals(64.5, front.treadmillReturn.getY());
+    assertEquals(0.5, front.treadmillReturn.getZ());
+
+    // The back and the block above the front are not stations
+    assertNull(stations.get(new Location(WORLD, 20.9, 64.0, 0.5)));
+    assertNull(stations.get(new Location(WORLD, 21.5, 65.0, 0.5)));
+  }
+
+  @Test
+  public void trampolineIsFoundFromTheBlockAboveIt() {
+    GymStations stations = new GymStations();
+    Location trampoline = new Location(WORLD, 30, 64, -5);
+    stations.addTrampoline(trampoline, true);
+
+    GymStations.Station above = stations.get(new Location(WORLD, 30.5, 65.0, -4.5));
+    assertNotNull(above);
+    assertSame(trampoline, above.trampoline);
+    assertTrue(above.bouncy);
+
+    assertNull(stations.get(new Location(WORLD, 30.5, 64.999, -4.5)));
+    assertNull(stations.get(new Location(WORLD, 30.5, 66.0, -4.5)));
+    assertNull(stations.get(new Location(WORLD, 31.0, 65.0, -4.5)));
+  }
+
+  @Test
+  public void stationsInAnotherWorldAreNotFound() {
+    GymStations stations = new GymStations();
+    stations.addTrampoline(new Location(WORLD, 30, 64, -5), false);
+
+    assertFalse(stations.get(new Location(WORLD, 30, 65, -5)).bouncy);
+    assertNull(stations.get(new Location(OTHER_WORLD, 30, 65, -5)));
+  }
+
+  @Test
+  public void clearForgetsEveryStation() {
+    GymStations stations = new GymStations();
+    stations.addTrampoline(new Location(WORLD, 30, 64, -5), true);
+    stations.clear();
+
+    assertNull(stations.get(new Location(WORLD, 30, 65, -5)));
+  }
+
+  /**
+   * Times how the gym found the station under a moving player before and after the index: the old
+   * path rebuilt every treadmill's block list and scanned every trampoline on each move. Run with
+   * -Dstweaks.benchmarks=true.
+   */
+  @Test
+  @EnabledIfSystemProperty(named = "stweaks.benchmarks", matches = "true")
+  public void indexIsFasterThanTheGeometryScan() {
+    int stationCount = 12;
+    List<Cuboid> treadmills = new ArrayList<>();
+    List<Location> fronts = new ArrayList<>();
+    List<Location> trampolines = new ArrayList<>();
+    GymStations stations = new GymStations();
+    for (int i = 0; i < stationCount; i++) {
+      int x = i * 4;
+      Cuboid treadmill = new Cuboid(WORLD, x, 64, 0, x + 1, 64, 0);
+      Location front = new Location(WORLD, x + 1, 64, 0);
+      Location trampoline = new Location(WORLD, x, 64, 3);
+      treadmills.add(treadmill);
+      fronts.add(front);
+      trampolines.add(trampoline);
+      stations.addTreadmill(i, treadmill, front);
+      stations.addTrampoline(trampoline, true);
+    }
+
+    Location[] moves = new Location[1024];
+    for (int i = 0; i < moves.length; i++) {
+      moves[i] = new Location(WORLD, (i * 7) % (stationCount * 4), 64 + (i & 1), (i * 3) % 4);
+    }
+
+    int iterations = 200_000;
+    // Warm both paths up, and check they agree, before timing them
+    for (int round = 0; round < 3; round++) {
+      assertEquals(
+          scanPath(treadmills, fronts, trampolines, moves, iterations),
+          lookupPath(stations, moves, iterations));
+    }
+
+    long start = System.nanoTime();
+    int scanHits = scanPath(treadmills, fronts, trampolines, moves, iterations);
+    long scanNanos = System.nanoTime() - start;
+    start = System.nanoTime();
+    int lookupHits = lookupPath(stations, moves, iterations);
+    long lookupNanos = System.nanoTime() - start;
+
+    assertEquals(scanHits, lookupHits);
+    assertTrue(
+        lookupNanos < scanNanos,
+        "index took " + lookupNanos + " ns, geometry scan took " + scanNanos + " ns");
+  }
+
+  /** Finds stations the way the gym's move handler did before the index. */
+  private static int scanPath(
+      List<Cuboid> treadmills,
+      List<Location> fronts,
+      List<Location> trampolines,
+      Location[] moves,
+      int iterations) {
+    int hits = 0;
+    for (int m = 0; m < iterations; m++) {
+      Location to = moves[m & (moves.length - 1)];
+      for (int i = 0; i < treadmills.size(); i++) {
+        Location front = fronts.get(i);
+        List<Location> blocks = treadmills.get(i).getLocations();
+        blocks.removeIf(loc -> loc.equals(front));
+        Location back = blocks.isEmpty() ? null : blocks.get(0);
+        if (back != null
+            && to.getBlockX() == front.getBlockX()
+            && to.getBlockY() == front.getBlockY()
+            && to.getBlockZ() == front.getBlockZ()) {
+          hits++;
+          break;
+        }
+      }
+      for (Location tramp : trampolines) {
+        if (to.getBlockX() == tramp.getBlockX()
+            && to.getBlockY() - 1 == tramp.getBlockY()
+            && to.getBlockZ() == tramp.getBlockZ()) {
+          hits++;
+          break;
+        }
+      }
+    }
+    return hits;
+  }
+
+  /** Finds stations the way the gym's move handler does now. */
+  private static int lookupPath(GymStations stations, Location[] moves, int iterations) {
+    int hits = 0;
+    for (int m = 0; m < iterations; m++) {
+      GymStations.Station station = stations.get(moves[m & (moves.length - 1)]);
+      if (station != null) {
+        if (station.treadmill >= 0) {
+          hits++;
+        }
+        if (station.trampoline != null) {
+          hits++;
+        }
+      }
+    }
+    return hits;
+  }
+
+  /** Parses a region the way the gym's game properties write it, e.g. "world,x1,y1,z1,x2,y2,z2". */
+  private static Cuboid region(String region) {
+    String[] parts = region.split(",");
+    return new Cuboid(
+        WORLD,
+        Integer.parseInt(parts[1]),
+        Integer.parseInt(parts[2]),
+        Integer.parseInt(parts[3]),
+        Integer.parseInt(parts[4]),
+        Integer.parseInt(parts[5]),
+        Integer.parseInt(parts[6]));
+  }
+
+  /** Creates a world that is only equal to itself, enough for the index's world check. */
+  private static World fakeWorld() {
+    return (World)
+        Proxy.newProxyInstance(
+            World.class.getClassLoader(),
+            new Class<?>[] {World.class},
+            (proxy, method, args) ->
+                switch (method.getName()) {
+                  case "equals" -> proxy == args[0];
+                  case "hashCode" -> System.identityHashCode(proxy);
+                  case "toString" -> "FakeWorld";
+                  default -> null;
+                });
+  }
+}
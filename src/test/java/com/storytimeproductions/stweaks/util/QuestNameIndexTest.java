@@ -0,0 +1,173 @@
+package com.storytimeproductions.stweaks.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.storytimeproductions.models.Quest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+/** Tests for QuestNameIndex, the BK-tree behind quest lookups by name. */
+public class QuestNameIndexTest {
+  private static final QuestNameIndex INDEX =
+      new QuestNameIndex(
+          List.of(
+              quest("diamond_hunter", "Diamond Hunter"),
+              quest("dragon_slayer", "Dragon Slayer"),
+              quest("fisherman", "Fisherman")));
+
+  @Test
+  public void exactNameOrIdMatchesIgnoringCase() {
+    assertEquals(List.of("dragon_slayer"), INDEX.search("Dragon Slayer", 5));
+    assertEquals(List.of("dragon_slayer"), INDEX.search("DRAGON SLAYER", 5));
+    assertEquals(List.of("diamond_hunter"), INDEX.search("diamond_hunter", 5));
+  }
+
+  @Test
+  public void oneTypoStillMatches() {
+    assertEquals(List.of("fisherman"), INDEX.search("Fishermen", 5));
+    assertEquals(List.of("diamond_hunter"), INDEX.search("Diamond Huntr", 5));
+  }
+
+  @Test
+  public void twoTyposStillMatchLongNames() {
+    assertEquals(List.of("dragon_slayer"), INDEX.search("Dragn Slayr", 5));
+    assertEquals(List.of("diamond_hunter"), INDEX.search("Daimond Hunter", 5));
+  }
+
+  @Test
+  public void typosBeyondAQuarterOfTheQueryDoNotMatch() {
+    // Three edits in ten letters is past the search radius of two
+    assertEquals(List.of(), INDEX.search("Dragn Slyr", 5));
+    // Short queries allow no edits at all
+    assertEquals(List.of(), INDEX.search("fsh", 5));
+    // Within the radius, but 7/9 similar is under the 80% cut-off
+    assertEquals(List.of(), INDEX.search("fishrmen", 5));
+  }
+
+  @Test
+  public void pruningFindsEveryMatchAFullScanFinds() {
+    Random random = new Random(42);
+    List<Quest> quests = new ArrayList<>();
+    for (int i = 0; i < 300; i++) {
+      quests.add(quest("quest_" + i, randomWord(random, 6 + random.nextInt(10))));
+    }
+    QuestNameIndex index = new QuestNameIndex(quests);
+
+    for (int i = 0; i < 500; i++) {
+      String name = quests.get(random.nextInt(quests.size())).getName();
+      String query = mutate(random, name, random.nextInt(4));
+      assertEquals(
+          fullScan(quests, query), new HashSet<>(index.search(query, quests.size())), query);
+    }
+  }
+
+  @Test
+  public void limitCapsTheResults() {
+    QuestNameIndex index =
+        new QuestNameIndex(
+            List.of(
+                quest("a", "Gather Wood"), quest("b", "Gather Wool"), quest("c", "Gather Wood")));
+
+    assertEquals(List.of("a", "c"), index.search("gather wood", 2));
+    assertEquals(List.of(), index.search("gather wood", 0));
+  }
+
+  @Test
+  public void emptyIndexFindsNothing() {
+    QuestNameIndex index = new QuestNameIndex(List.of());
+
+    assertTrue(index.search("anything", 5).isEmpty());
+    assertTrue(index.search("", 5).isEmpty());
+    assertTrue(index.complete("a", 5).isEmpty());
+  }
+
+  @Test
+  public void completeListsIdsByPrefix() {
+    assertEquals(List.of("diamond_hunter", "dragon_slayer"), INDEX.complete("D", 5));
+    assertEquals(List.of("diamond_hunter"), INDEX.complete("d", 1));
+    assertEquals(List.of(), INDEX.complete("x", 5));
+  }
+
+  /** The quests a search must find: those with a term within the radius and 80% similar. */
+  private static Set<String> fullScan(List<Quest> quests, String query) {
+    String needle = query.toLowerCase(Locale.ROOT);
+    Set<String> matches = new HashSet<>();
+    for (Quest quest : quests) {
+      for (String term : new String[] {quest.getName(), quest.getId()}) {
+        String lower = term.toLowerCase(Locale.ROOT);
+        int distance = distance(needle, lower);
+        int maxLen = Math.max(needle.length(), lower.length());
+        if (distance <= needle.length() / 4 && (maxLen - distance) / (double) maxLen >= 0.8) {
+          matches.add(quest.getId());
+        }
+      }
+    }
+    return matches;
+  }
+
+  private static int distance(String a, String b) {
+    int[][] d = new int[a.length() + 1][b.length() + 1];
+    for (int i = 0; i <= a.length(); i++) {
+      d[i][0] = i;
+    }
+    for (int j = 0; j <= b.length(); j++) {
+      d[0][j] = j;
+    }
+    for (int i = 1; i <= a.length(); i++) {
+      for (int j = 1; j <= b.length(); j++) {
+        int substitution = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+        d[i][j] =
+            Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + substitution);
+      }
+    }
+    return d[a.length()][b.length()];
+  }
+
+  private static String randomWord(Random random, int length) {
+    StringBuilder word = new StringBuilder();
+    for (int i = 0; i < length; i++) {
+      word.append((char) ('a' + random.nextInt(4)));
+    }
+    return word.toString();
+  }
+
+  /** Applies random single-letter substitutions, insertions and deletions. */
+  private static String mutate(Random random, String word, int edits) {
+    StringBuilder mutated = new StringBuilder(word);
+    for (int i = 0; i < edits; i++) {
+      int at = random.nextInt(mutated.length());
+      switch (random.nextInt(3)) {
+        case 0 -> mutated.setCharAt(at, (char) ('a' + random.nextInt(4)));
+        case 1 -> mutated.insert(at, (char) ('a' + random.nextInt(4)));
+        default -> {
+          if (mutated.length() > 1) {
+            mutated.deleteCharAt(at);
+          }
+        }
+      }
+    }
+    return mutated.toString();
+  }
+
+  private static Quest quest(String id, String name) {
+    return new Quest(
+        id,
+        name,
+        "",
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        List.of(),
+        null,
+        Material.PAPER);
+  }
+}